@@ -0,0 +1,285 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.common.io;
+
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Copies directory trees using a bounded fork-join pool. Each directory is walked in its own task and each file is
+ * copied in its own task, allowing multiple files to be copied at the same time. Files larger than the configured
+ * threshold are copied using {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which
+ * allows the operating system to copy the file without moving the content through the java heap.
+ * <p>
+ * The number of files copied at the same time can be configured using the {@code cloudnet.file-copy.parallelism}
+ * system property and defaults to the number of available processors, but at most 8. The threshold in bytes from which
+ * a file is considered large can be configured using the {@code cloudnet.file-copy.transfer-threshold} system property
+ * and defaults to 1 MiB.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class FileCopyEngine {
+
+  private static final Logger LOGGER = LogManager.logger(FileCopyEngine.class);
+
+  private static final int PARALLELISM = Math.max(
+    1,
+    Integer.getInteger("cloudnet.file-copy.parallelism", Math.min(8, Runtime.getRuntime().availableProcessors())));
+  private static final long TRANSFER_THRESHOLD = Long.getLong("cloudnet.file-copy.transfer-threshold", 1024 * 1024);
+
+  private static final DirectoryStream.Filter<Path> ACCEPTING_FILTER = $ -> true;
+
+  private FileCopyEngine() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Copies the given source directory into the given target directory, replacing existing files. If the given filter
+   * is null no filtering is done, otherwise the filter is applied to all files and directories in the source
+   * directory. Empty directories are not created in the target directory. This method blocks until all files were
+   * copied, exceptions while copying a file are logged and do not stop the copy of the remaining files.
+   *
+   * @param from     the source directory.
+   * @param to       the target directory.
+   * @param filter   the filter to apply to the files and directories to copy, null to copy everything.
+   * @param listener the listener to notify about each copied file, null if not needed.
+   * @throws NullPointerException if the given source or target directory is null.
+   */
+  public static void copyDirectory(
+    @NonNull Path from,
+    @NonNull Path to,
+    @Nullable DirectoryStream.Filter<Path> filter,
+    @Nullable ProgressListener listener
+  ) {
+    copyDirectory(from, to, filter, FileCopyEngine::copyFile, listener);
+  }
+
+  /**
+   * Walks the given source directory and passes each file together with its destination in the given target directory
+   * to the given file copier. The files are passed to the copier concurrently, therefore the copier must be thread
+   * safe. This method blocks until all files were passed to the copier, exceptions thrown by the copier are logged and
+   * do not stop the copy of the remaining files.
+   *
+   * @param from     the source directory.
+   * @param to       the target directory.
+   * @param filter   the filter to apply to the files and directories to copy, null to copy everything.
+   * @param copier   the copier to copy each file with.
+   * @param listener the listener to notify about each copied file, null if not needed.
+   * @throws NullPointerException if the given source directory, target directory or copier is null.
+   */
+  public static void copyDirectory(
+    @NonNull Path from,
+    @NonNull Path to,
+    @Nullable DirectoryStream.Filter<Path> filter,
+    @NonNull FileCopier copier,
+    @Nullable ProgressListener listener
+  ) {
+    if (Files.isDirectory(from)) {
+      var task = new DirectoryCopyTask(from, to, from, filter == null ? ACCEPTING_FILTER : filter, copier, listener);
+      PoolHolder.POOL.invoke(task);
+    }
+  }
+
+  /**
+   * Copies the given source file to the given target, replacing an existing file at the target. All needed parent
+   * directories are created. Large files are copied using a file channel transfer.
+   *
+   * @param source the file to copy.
+   * @param target the target to copy the file to.
+   * @return the number of bytes copied.
+   * @throws IOException          if an I/O error occurs while copying the file.
+   * @throws NullPointerException if the given source or target is null.
+   */
+  public static long copyFile(@NonNull Path source, @NonNull Path target) throws IOException {
+    FileUtil.createDirectory(target.getParent());
+
+    var size = Files.size(source);
+    if (size < TRANSFER_THRESHOLD) {
+      Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+      return size;
+    }
+
+    // delete the target first, it might be a hard link to a file we must not modify
+    Files.deleteIfExists(target);
+    try (
+      var in = FileChannel.open(source, StandardOpenOption.READ);
+      var out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW)
+    ) {
+      long position = 0;
+      while (position < size) {
+        // transferTo might copy fewer bytes than requested, continue until the file is fully copied
+        var transferred = in.transferTo(position, size - position, out);
+        if (transferred <= 0) {
+          break;
+        }
+        position += transferred;
+      }
+      return position;
+    }
+  }
+
+  /**
+   * A copier which is used to copy a single file from the source to the target directory.
+   *
+   * @since 4.0
+   */
+  @FunctionalInterface
+  public interface FileCopier {
+
+    /**
+     * Copies the given source file to the given target, replacing an existing file at the target.
+     *
+     * @param source the file to copy.
+     * @param target the target to copy the file to.
+     * @return the number of bytes copied.
+     * @throws IOException          if an I/O error occurs while copying the file.
+     * @throws NullPointerException if the given source or target is null.
+     */
+    long copy(@NonNull Path source, @NonNull Path target) throws IOException;
+  }
+
+  /**
+   * A listener which gets notified about each file copied by the engine. The listener is called concurrently from
+   * multiple threads, therefore it must be thread safe.
+   *
+   * @since 4.0
+   */
+  @FunctionalInterface
+  public interface ProgressListener {
+
+    /**
+     * Called when the given source file was copied to the given target.
+     *
+     * @param source the file which was copied.
+     * @param target the target to which the file was copied.
+     * @param bytes  the number of bytes copied.
+     */
+    void fileCopied(@NonNull Path source, @NonNull Path target, long bytes);
+  }
+
+  /**
+   * Holds the pool used for copying, created lazily to not start any threads if the engine is not used.
+   *
+   * @since 4.0
+   */
+  private static final class PoolHolder {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(PARALLELISM);
+  }
+
+  /**
+   * A task which walks a directory and forks a task for each file and subdirectory in it.
+   *
+   * @since 4.0
+   */
+  private static final class DirectoryCopyTask extends RecursiveAction {
+
+    private final Path root;
+    private final Path target;
+    private final Path directory;
+    private final DirectoryStream.Filter<Path> filter;
+    private final FileCopier copier;
+    private final ProgressListener listener;
+
+    private DirectoryCopyTask(
+      @NonNull Path root,
+      @NonNull Path target,
+      @NonNull Path directory,
+      @NonNull DirectoryStream.Filter<Path> filter,
+      @NonNull FileCopier copier,
+      @Nullable ProgressListener listener
+    ) {
+      this.root = root;
+      this.target = target;
+      this.directory = directory;
+      this.filter = filter;
+      this.copier = copier;
+      this.listener = listener;
+    }
+
+    @Override
+    protected void compute() {
+      List<RecursiveAction> tasks = new ArrayList<>();
+      try (var stream = Files.newDirectoryStream(this.directory, this.filter)) {
+        for (var path : stream) {
+          if (Files.isDirectory(path)) {
+            tasks.add(new DirectoryCopyTask(this.root, this.target, path, this.filter, this.copier, this.listener));
+          } else {
+            var fileTarget = this.target.resolve(this.root.relativize(path));
+            tasks.add(new FileCopyTask(path, fileTarget, this.copier, this.listener));
+          }
+        }
+      } catch (IOException exception) {
+        LOGGER.severe("Exception walking down directory tree starting at %s", exception, this.directory);
+      }
+
+      invokeAll(tasks);
+    }
+  }
+
+  /**
+   * A task which copies a single file.
+   *
+   * @since 4.0
+   */
+  private static final class FileCopyTask extends RecursiveAction {
+
+    private final Path source;
+    private final Path target;
+    private final FileCopier copier;
+    private final ProgressListener listener;
+
+    private FileCopyTask(
+      @NonNull Path source,
+      @NonNull Path target,
+      @NonNull FileCopier copier,
+      @Nullable ProgressListener listener
+    ) {
+      this.source = source;
+      this.target = target;
+      this.copier = copier;
+      this.listener = listener;
+    }
+
+    @Override
+    protected void compute() {
+      try {
+        var bytes = this.copier.copy(this.source, this.target);
+        if (this.listener != null) {
+          this.listener.fileCopied(this.source, this.target, bytes);
+        }
+      } catch (Exception exception) {
+        LOGGER.severe("Exception copying file from %s to %s", exception, this.source, this.target);
+      }
+    }
+  }
+}
@@ -50,7 +50,6 @@ public final class FileUtil {
   public static final Path TEMP_DIR = Path.of(System.getProperty("cloudnet.tempDir", "temp"));
 
   private static final Logger LOGGER = LogManager.logger(FileUtil.class);
-  private static final DirectoryStream.Filter<Path> ACCEPTING_FILTER = $ -> true;
 
   private static final FileSystemProvider JAR_FILE_SYSTEM_PROVIDER;
   private static final Map<String, String> ZIP_FILE_SYSTEM_PROPERTIES = Map.of("create", "false", "encoding", "UTF-8");
@@ -182,6 +181,29 @@ public static void copy(@NonNull Path from, @NonNull Path to) {
     }
   }
 
+  /**
+   * Creates a hard link at the given destination to the given source file, creating all needed parent directories
+   * first. An existing file at the destination is replaced. The source and destination share their content afterwards,
+   * therefore this should only be used for files which are not modified in place.
+   *
+   * @param from the source file.
+   * @param to   the destination path of the link.
+   * @return true if the link was created, false if hard links are not supported between the given paths.
+   * @throws NullPointerException if any of the given paths is null.
+   */
+  public static boolean link(@NonNull Path from, @NonNull Path to) {
+    try {
+      // create the parent directory first
+      createDirectory(to.getParent());
+      Files.deleteIfExists(to);
+      Files.createLink(to, from);
+      return true;
+    } catch (IOException | UnsupportedOperationException exception) {
+      // most likely the paths are on different file stores or the file store doesn't support hard links
+      return false;
+    }
+  }
+
   /**
    * Copies the target directory to the given destination and creates all needed parent directories. It walks the whole
    * file tree and copies every file and subdirectory without any filtering. This method is equivalent to
@@ -198,7 +220,7 @@ public static void copyDirectory(@NonNull Path from, @NonNull Path to) {
   /**
    * Copies the target directory to the given destination and creates all needed parent directories. It walks the whole
    * file tree and copies every file and subdirectory. If the given filter is null no filtering is done, otherwise the
-   * filter is applied while walking the file tree.
+   * filter is applied while walking the file tree. The files are copied in parallel using the {@link FileCopyEngine}.
    *
    * @param from   the source path.
    * @param to     the destination path.
@@ -210,11 +232,7 @@ public static void copyDirectory(
     @NonNull Path to,
     @Nullable DirectoryStream.Filter<Path> filter
   ) {
-    walkFileTree(from, ($, current) -> {
-      if (!Files.isDirectory(current)) {
-        FileUtil.copy(current, to.resolve(from.relativize(current)));
-      }
-    }, true, filter == null ? ACCEPTING_FILTER : filter);
+    FileCopyEngine.copyDirectory(from, to, filter, null);
   }
 
   /**
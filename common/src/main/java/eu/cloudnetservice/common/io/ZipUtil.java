@@ -246,6 +246,8 @@ private static void extractEntry(
       FileUtil.createDirectory(file);
     } else {
       FileUtil.createDirectory(file.getParent());
+      // replace an existing file instead of truncating it, it might be a hard link to a file we must not modify
+      Files.deleteIfExists(file);
       try (var outputStream = Files.newOutputStream(file)) {
         FileUtil.copy(in, outputStream);
       }
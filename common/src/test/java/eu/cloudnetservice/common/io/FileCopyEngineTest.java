@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.common.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileCopyEngineTest {
+
+  @Test
+  void testDirectoryCopy(@TempDir Path tempDir) throws IOException {
+    var source = tempDir.resolve("source");
+    var target = tempDir.resolve("target");
+
+    // a large file must be copied using a channel transfer
+    var largeContent = new byte[4 * 1024 * 1024 + 17];
+    new Random(1234).nextBytes(largeContent);
+
+    Files.createDirectories(source.resolve("plugins/config"));
+    Files.createDirectories(source.resolve("ignored"));
+    Files.writeString(source.resolve("server.properties"), "motd=Hello");
+    Files.writeString(source.resolve("plugins/config/config.yml"), "enabled: true");
+    Files.writeString(source.resolve("ignored/file.txt"), "ignored");
+    Files.write(source.resolve("plugins/large.jar"), largeContent);
+
+    // an existing file in the target must be replaced
+    Files.createDirectories(target);
+    Files.writeString(target.resolve("server.properties"), "motd=Old");
+
+    var copiedFiles = new AtomicInteger();
+    var copiedBytes = new AtomicLong();
+    FileCopyEngine.copyDirectory(
+      source,
+      target,
+      path -> !path.getFileName().toString().equals("ignored"),
+      (from, to, bytes) -> {
+        copiedFiles.incrementAndGet();
+        copiedBytes.addAndGet(bytes);
+      });
+
+    Assertions.assertEquals(3, copiedFiles.get());
+    Assertions.assertEquals(10 + 13 + largeContent.length, copiedBytes.get());
+
+    Assertions.assertEquals("motd=Hello", Files.readString(target.resolve("server.properties")));
+    Assertions.assertEquals("enabled: true", Files.readString(target.resolve("plugins/config/config.yml")));
+    Assertions.assertArrayEquals(largeContent, Files.readAllBytes(target.resolve("plugins/large.jar")));
+    Assertions.assertTrue(Files.notExists(target.resolve("ignored")));
+  }
+}
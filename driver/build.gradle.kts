@@ -17,6 +17,7 @@
 import com.github.jengelman.gradle.plugins.shadow.tasks.ShadowJar
 
 plugins {
+  alias(libs.plugins.jmh)
   alias(libs.plugins.shadow)
 }
 
@@ -66,6 +67,8 @@ dependencies {
   "implementation"(libs.nettyNativeKqueue)
   "implementation"(variantOf(libs.nettyNativeEpoll) { classifier("linux-x86_64") })
   "implementation"(variantOf(libs.nettyNativeEpoll) { classifier("linux-aarch_64") })
+  "implementation"(variantOf(libs.nettyNativeIoUring) { classifier("linux-x86_64") })
+  "implementation"(variantOf(libs.nettyNativeIoUring) { classifier("linux-aarch_64") })
 
   // hack - depend on the output of the ap output to apply the annotation process to this project too
   "annotationProcessor"(project.sourceSets()["ap"].output)
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty;
+
+import eu.cloudnetservice.driver.event.DefaultEventManager;
+import eu.cloudnetservice.driver.event.EventListener;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.event.events.network.NetworkChannelPacketSendEvent;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.NetworkChannelHandler;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.protocol.defaults.DefaultPacketListenerRegistry;
+import io.netty5.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the per-packet overhead of the packet send event when writing packets into a network channel. The
+ * {@code alwaysConstructEvent} benchmark reflects the previous behaviour which constructed and called the event for
+ * every packet, while {@code sendPacket} uses the listener aware write path of the channel.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NetworkChannelPacketSendBenchmark {
+
+  @Param({"false", "true"})
+  private boolean registerListener;
+
+  private Packet packet;
+  private EventManager eventManager;
+  private EmbeddedChannel embeddedChannel;
+  private NettyNetworkChannel networkChannel;
+
+  @Setup
+  public void setup() {
+    this.packet = Packet.empty();
+    this.eventManager = new DefaultEventManager();
+    if (this.registerListener) {
+      this.eventManager.registerListener(new SendListener());
+    }
+
+    this.embeddedChannel = new EmbeddedChannel();
+    this.networkChannel = new NettyNetworkChannel(
+      this.embeddedChannel,
+      this.eventManager,
+      new DefaultPacketListenerRegistry(),
+      new NoopChannelHandler(),
+      new HostAndPort("127.0.0.1", 1410),
+      new HostAndPort("127.0.0.1", 1411),
+      false);
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.embeddedChannel.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  public void alwaysConstructEvent(Blackhole blackhole) {
+    var event = this.eventManager.callEvent(new NetworkChannelPacketSendEvent(this.networkChannel, this.packet));
+    if (!event.cancelled()) {
+      this.embeddedChannel.writeAndFlush(this.packet);
+    }
+    blackhole.consume(this.embeddedChannel.readOutbound());
+  }
+
+  @Benchmark
+  public void sendPacket(Blackhole blackhole) {
+    this.networkChannel.sendPacket(this.packet);
+    blackhole.consume(this.embeddedChannel.readOutbound());
+  }
+
+  public static final class SendListener {
+
+    @EventListener
+    public void handle(NetworkChannelPacketSendEvent event) {
+      // no-op
+    }
+  }
+
+  private static final class NoopChannelHandler implements NetworkChannelHandler {
+
+    @Override
+    public void handleChannelInitialize(NetworkChannel channel) {
+    }
+
+    @Override
+    public boolean handlePacketReceive(NetworkChannel channel, Packet packet) {
+      return true;
+    }
+
+    @Override
+    public void handleChannelClose(NetworkChannel channel) {
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty;
+
+import eu.cloudnetservice.driver.ComponentInfo;
+import eu.cloudnetservice.driver.DriverEnvironment;
+import eu.cloudnetservice.driver.event.DefaultEventManager;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.NetworkChannelHandler;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.netty.client.NettyNetworkClient;
+import eu.cloudnetservice.driver.network.netty.server.NettyNetworkServer;
+import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the query round-trip latency and throughput of the loopback tcp transport with the unix domain socket
+ * transport used for local node to wrapper connections. Run in {@code SampleTime} mode for the latency distribution
+ * and in {@code Throughput} mode for queries per second.
+ */
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+public class NetworkTransportBenchmark {
+
+  private static final int ECHO_CHANNEL = 1;
+
+  @Param({"tcp", "domain-socket"})
+  private String transport;
+
+  @Param({"64", "4096"})
+  private int payloadSize;
+
+  private byte[] payload;
+  private Path socketDirectory;
+
+  private NettyNetworkServer server;
+  private NettyNetworkClient client;
+  private NetworkChannel clientChannel;
+
+  @Setup
+  public void setup() throws Exception {
+    this.payload = new byte[this.payloadSize];
+
+    var eventManager = new DefaultEventManager();
+    var componentInfo = new ComponentInfo(DriverEnvironment.NODE, "Benchmark", "Benchmark-Node");
+    this.server = new NettyNetworkServer(eventManager, componentInfo, EchoChannelHandler::new);
+    this.client = new NettyNetworkClient(eventManager, componentInfo, EchoChannelHandler::new);
+
+    HostAndPort listener;
+    if (this.transport.equals("tcp")) {
+      listener = new HostAndPort("127.0.0.1", freePort());
+    } else {
+      if (NettyUtil.domainSocketTransport() == null) {
+        throw new IllegalStateException("Unix domain sockets are not supported on this system");
+      }
+
+      this.socketDirectory = Files.createTempDirectory("cn-bench");
+      listener = new HostAndPort(this.socketDirectory.resolve("node.sock").toString(), HostAndPort.NO_PORT);
+    }
+
+    this.server.addListener(listener).join();
+    this.client.connect(listener).join();
+    this.clientChannel = this.client.firstChannel();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    this.client.close();
+    this.server.close();
+    if (this.socketDirectory != null) {
+      Files.deleteIfExists(this.socketDirectory.resolve("node.sock"));
+      Files.deleteIfExists(this.socketDirectory);
+    }
+  }
+
+  @Benchmark
+  public Packet queryRoundTrip() {
+    var packet = new BasePacket(ECHO_CHANNEL, DataBuf.empty().writeByteArray(this.payload));
+    var response = this.clientChannel.sendQuery(packet);
+    if (response != null) {
+      response.content().release();
+    }
+    return response;
+  }
+
+  private static int freePort() throws IOException {
+    try (var socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static final class EchoChannelHandler implements NetworkChannelHandler {
+
+    @Override
+    public void handleChannelInitialize(NetworkChannel channel) {
+      channel.packetRegistry().addListener(
+        ECHO_CHANNEL,
+        (sourceChannel, packet) -> sourceChannel.sendPacket(packet.constructResponse(packet.content())));
+    }
+
+    @Override
+    public boolean handlePacketReceive(NetworkChannel channel, Packet packet) {
+      return true;
+    }
+
+    @Override
+    public void handleChannelClose(NetworkChannel channel) {
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults.object;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import io.leangen.geantyref.TypeFactory;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the serialization throughput of the default object mapper for service snapshots and collections, which
+ * write every element through the mapper.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DefaultObjectMapperBenchmark {
+
+  private static final Type SNAPSHOT_LIST_TYPE = TypeFactory.parameterizedClass(List.class, ServiceInfoSnapshot.class);
+
+  @Param({"10", "1000"})
+  private int collectionSize;
+
+  private ObjectMapper objectMapper;
+  private ServiceInfoSnapshot serviceInfoSnapshot;
+  private List<String> strings;
+  private List<ServiceInfoSnapshot> serviceInfoSnapshots;
+
+  private DataBuf serializedSnapshot;
+  private DataBuf serializedSnapshots;
+
+  @Setup
+  public void setup() {
+    InjectionLayer.boot().installAutoConfigureBindings(this.getClass().getClassLoader(), "driver");
+
+    this.objectMapper = new DefaultObjectMapper();
+    this.serviceInfoSnapshot = new ServiceInfoSnapshot(
+      System.currentTimeMillis(),
+      new HostAndPort("127.0.0.1", 44955),
+      ProcessSnapshot.self(),
+      ServiceConfiguration.builder()
+        .taskName("Lobby")
+        .environment(ServiceEnvironmentType.MINECRAFT_SERVER)
+        .maxHeapMemory(512)
+        .startPort(44955)
+        .build(),
+      System.currentTimeMillis(),
+      ServiceLifeCycle.RUNNING,
+      Document.newJsonDocument().append("online", true));
+
+    this.strings = new ArrayList<>(this.collectionSize);
+    this.serviceInfoSnapshots = new ArrayList<>(this.collectionSize);
+    for (var i = 0; i < this.collectionSize; i++) {
+      this.strings.add("element-" + i);
+      this.serviceInfoSnapshots.add(this.serviceInfoSnapshot);
+    }
+
+    this.serializedSnapshot = this.objectMapper.writeObject(DataBuf.empty(), this.serviceInfoSnapshot);
+    this.serializedSnapshots = this.objectMapper.writeObject(DataBuf.empty(), this.serviceInfoSnapshots);
+  }
+
+  @Benchmark
+  public void writeServiceInfoSnapshot(Blackhole blackhole) {
+    var dataBuf = this.objectMapper.writeObject(DataBuf.empty(), this.serviceInfoSnapshot);
+    blackhole.consume(dataBuf.readableBytes());
+    dataBuf.release();
+  }
+
+  @Benchmark
+  public void writeStringList(Blackhole blackhole) {
+    var dataBuf = this.objectMapper.writeObject(DataBuf.empty(), this.strings);
+    blackhole.consume(dataBuf.readableBytes());
+    dataBuf.release();
+  }
+
+  @Benchmark
+  public void writeServiceInfoSnapshotList(Blackhole blackhole) {
+    var dataBuf = this.objectMapper.writeObject(DataBuf.empty(), this.serviceInfoSnapshots);
+    blackhole.consume(dataBuf.readableBytes());
+    dataBuf.release();
+  }
+
+  @Benchmark
+  public void readServiceInfoSnapshot(Blackhole blackhole) {
+    // acquire the buffer as it gets released once fully read
+    this.serializedSnapshot.acquire().startTransaction();
+    ServiceInfoSnapshot snapshot = this.objectMapper.readObject(this.serializedSnapshot, ServiceInfoSnapshot.class);
+    blackhole.consume(snapshot);
+    this.serializedSnapshot.redoTransaction();
+  }
+
+  @Benchmark
+  public void readServiceInfoSnapshotList(Blackhole blackhole) {
+    // acquire the buffer as it gets released once fully read
+    this.serializedSnapshots.acquire().startTransaction();
+    List<ServiceInfoSnapshot> snapshots = this.objectMapper.readObject(this.serializedSnapshots, SNAPSHOT_LIST_TYPE);
+    blackhole.consume(snapshots);
+    this.serializedSnapshots.redoTransaction();
+  }
+}
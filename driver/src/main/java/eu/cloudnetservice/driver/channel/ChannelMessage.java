@@ -22,6 +22,8 @@
 import eu.cloudnetservice.driver.event.events.channel.ChannelMessageReceiveEvent;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.rpc.annotation.RPCCompactCodec;
+import eu.cloudnetservice.driver.network.rpc.annotation.RPCFieldSince;
 import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
 import java.util.ArrayList;
@@ -62,11 +64,13 @@
  * @param content     the content of this channel message (the actual data to send).
  * @param sender      the sender of the channel message. Should be, but must not the current network component.
  * @param targets     the targets to which the channel message should get send.
+ * @param bulk        whether this channel message is part of a bulk transfer which should be sent after other packets.
  * @see ChannelMessageSender
  * @see ChannelMessageTarget
  * @see ChannelMessageReceiveEvent
  * @since 4.0
  */
+@RPCCompactCodec
 public record ChannelMessage(
   boolean sendSync,
   boolean prioritized,
@@ -74,9 +78,35 @@ public record ChannelMessage(
   @NonNull String message,
   @NonNull DataBuf content,
   @NonNull ChannelMessageSender sender,
-  @NonNull Collection<ChannelMessageTarget> targets
+  @NonNull Collection<ChannelMessageTarget> targets,
+  @RPCFieldSince(1) boolean bulk
 ) {
 
+  /**
+   * Constructs a new channel message which is not part of a bulk transfer. This constructor exists for compatibility
+   * with code which was written before the bulk flag was added to channel messages.
+   *
+   * @param sendSync    whether sending the message should block the current thread until the message is flushed.
+   * @param prioritized whether this channel message should be handled with priority over other channel messages.
+   * @param channel     the channel to which the channel message gets sent. Mostly for identification reasons.
+   * @param message     the message key of this channel message. Mostly for identification reasons.
+   * @param content     the content of this channel message (the actual data to send).
+   * @param sender      the sender of the channel message. Should be, but must not the current network component.
+   * @param targets     the targets to which the channel message should get send.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  public ChannelMessage(
+    boolean sendSync,
+    boolean prioritized,
+    @NonNull String channel,
+    @NonNull String message,
+    @NonNull DataBuf content,
+    @NonNull ChannelMessageSender sender,
+    @NonNull Collection<ChannelMessageTarget> targets
+  ) {
+    this(sendSync, prioritized, channel, message, content, sender, targets, false);
+  }
+
   /**
    * Constructs a new, empty builder for a ChannelMessage.
    *
@@ -186,6 +216,7 @@ public static final class Builder {
 
     private boolean sendSync;
     private boolean prioritized;
+    private boolean bulk;
 
     private DataBuf content;
     private ChannelMessageSender sender;
@@ -257,6 +288,20 @@ public static final class Builder {
       return this;
     }
 
+    /**
+     * Sets if the channel message is part of a bulk transfer, for example a stream of log lines or file chunks. Bulk
+     * messages carry a lot of data and are not latency-critical, they are sent after other packets which are waiting
+     * to be written on the same channel. State updates must not be bulk as they would lose their order relative to
+     * other packets.
+     *
+     * @param bulk if the channel message is part of a bulk transfer.
+     * @return the same builder as used to call the method, for chaining.
+     */
+    public @NonNull Builder bulk(boolean bulk) {
+      this.bulk = bulk;
+      return this;
+    }
+
     /**
      * Sets the content of this message. If no content was given an empty buffer will be used.
      *
@@ -415,7 +460,8 @@ public static final class Builder {
         this.message,
         this.content == null ? DataBuf.empty() : this.content,
         this.sender == null ? ChannelMessageSender.self() : this.sender,
-        this.targets);
+        this.targets,
+        this.bulk);
     }
   }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.channel;
+
+import com.google.common.base.Preconditions;
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Controls when a channel message query is completed. By default, a query waits for all targets to respond or for the
+ * query to time out. A query mode can instead complete the query as soon as a given number of responses is available,
+ * so that a single slow target does not delay a caller which only needs some of the answers. Responses which are
+ * received after the query was completed are not included in the query result, but are still passed to the response
+ * handler of the mode.
+ * <p>
+ * Note that the response handler is called from the network threads and should therefore not block.
+ *
+ * @param requiredResponses the number of responses after which the query gets completed, 0 to wait for all responses.
+ * @param responseHandler   the handler to call for each response as soon as it is received, null if not needed.
+ * @see eu.cloudnetservice.driver.provider.CloudMessenger
+ * @since 4.0
+ */
+public record ChannelMessageQueryMode(int requiredResponses, @Nullable Consumer<ChannelMessage> responseHandler) {
+
+  private static final Logger LOGGER = LogManager.logger(ChannelMessageQueryMode.class);
+
+  private static final ChannelMessageQueryMode ALL = new ChannelMessageQueryMode(0, null);
+  private static final ChannelMessageQueryMode FIRST_RESPONSE = new ChannelMessageQueryMode(1, null);
+
+  /**
+   * Constructs a new query mode instance.
+   *
+   * @param requiredResponses the number of responses after which the query gets completed, 0 to wait for all responses.
+   * @param responseHandler   the handler to call for each response as soon as it is received, null if not needed.
+   * @throws IllegalArgumentException if the given required response count is negative.
+   */
+  public ChannelMessageQueryMode {
+    Preconditions.checkArgument(requiredResponses >= 0, "required responses must not be negative");
+  }
+
+  /**
+   * Get the query mode which waits for all targets to respond. This is the mode used by the default query methods.
+   *
+   * @return the query mode which waits for all targets to respond.
+   */
+  public static @NonNull ChannelMessageQueryMode all() {
+    return ALL;
+  }
+
+  /**
+   * Get the query mode which completes the query as soon as the first response is available.
+   *
+   * @return the query mode which completes the query with the first response.
+   */
+  public static @NonNull ChannelMessageQueryMode firstResponse() {
+    return FIRST_RESPONSE;
+  }
+
+  /**
+   * Get a query mode which completes the query as soon as the given amount of responses is available.
+   *
+   * @param responses the number of responses after which the query gets completed.
+   * @return a query mode which completes the query after the given amount of responses.
+   * @throws IllegalArgumentException if the given response count is not positive.
+   */
+  @Contract("_ -> new")
+  public static @NonNull ChannelMessageQueryMode quorum(int responses) {
+    Preconditions.checkArgument(responses > 0, "quorum must be positive");
+    return new ChannelMessageQueryMode(responses, null);
+  }
+
+  /**
+   * Creates a copy of this query mode which passes each response to the given handler as soon as it is received.
+   *
+   * @param responseHandler the handler to call for each received response.
+   * @return a copy of this query mode using the given response handler.
+   * @throws NullPointerException if the given response handler is null.
+   */
+  @Contract("_ -> new")
+  public @NonNull ChannelMessageQueryMode streaming(@NonNull Consumer<ChannelMessage> responseHandler) {
+    return new ChannelMessageQueryMode(this.requiredResponses, responseHandler);
+  }
+
+  /**
+   * Get if a query using this mode can be completed after receiving the given amount of responses, before all targets
+   * responded.
+   *
+   * @param responses the number of responses received so far.
+   * @return true if the query can be completed early, false otherwise.
+   */
+  public boolean satisfiedBy(int responses) {
+    return this.requiredResponses > 0 && responses >= this.requiredResponses;
+  }
+
+  /**
+   * Passes the given response to the response handler of this mode, if one is set. Exceptions thrown by the handler
+   * are logged and not rethrown, so that a failing handler does not prevent the query from completing.
+   *
+   * @param response the response to pass to the response handler.
+   * @throws NullPointerException if the given response is null.
+   */
+  public void handleResponse(@NonNull ChannelMessage response) {
+    if (this.responseHandler != null) {
+      try {
+        this.responseHandler.accept(response);
+      } catch (Throwable throwable) {
+        LOGGER.severe("Exception while handling channel message query response", throwable);
+      }
+    }
+  }
+}
@@ -17,15 +17,24 @@
 package eu.cloudnetservice.driver.event;
 
 import dev.derklaro.aerogel.auto.Provides;
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import jakarta.inject.Singleton;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
@@ -33,6 +42,14 @@
 
 /**
  * The default implementation of an event manager.
+ * <p>
+ * Listeners are registered into a map which is only accessed while holding the bake lock. Each change of the registered
+ * listeners publishes a new immutable snapshot of them, events are dispatched using the current snapshot without any
+ * locking. A listener does not only receive the event it declared, but also all subclasses of it.
+ * <p>
+ * Async listeners and events called using {@link #callEventAsync(String, Event)} are executed on a shared event
+ * executor, which uses virtual threads if available. Otherwise, a thread pool of
+ * {@code cloudnet.event.async-threads} threads (by default the amount of available processors) is used.
  *
  * @since 4.0
  */
@@ -40,9 +57,34 @@
 @Provides(EventManager.class)
 public class DefaultEventManager implements EventManager {
 
+  private static final Logger LOGGER = LogManager.logger(DefaultEventManager.class);
+
+  private static final int ASYNC_THREADS = Math.max(
+    1,
+    Integer.getInteger("cloudnet.event.async-threads", Runtime.getRuntime().availableProcessors()));
+
+  // executor for async listeners, threads idle for 30 seconds before they are terminated if virtual threads are missing
+  protected final ExecutorService asyncEventExecutor = ExecutorServiceUtil.newVirtualThreadExecutor(
+    "Event-Executor-",
+    threadFactory -> {
+      var executor = new ThreadPoolExecutor(
+        ASYNC_THREADS,
+        ASYNC_THREADS,
+        30L,
+        TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        threadFactory);
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    });
+
   protected final Lock bakeLock = new ReentrantLock(true);
+  // the listeners mapped by the event class they declared, only accessed while holding the bake lock
   protected final Map<Class<?>, List<RegisteredEventListener>> listeners = new HashMap<>();
 
+  // immutable snapshot of the listeners, replaced on every listener change
+  protected volatile ListenerSnapshot listenerSnapshot = ListenerSnapshot.EMPTY;
+
   /**
    * {@inheritDoc}
    */
@@ -64,35 +106,85 @@ public class DefaultEventManager implements EventManager {
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean hasListeners(@NonNull Class<? extends Event> eventClass) {
+    return !this.listenerSnapshot.dispatchTable(eventClass).isEmpty();
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public <T extends Event> @NonNull T callEvent(@NonNull String channel, @NonNull T event) {
-    // get all registered listeners of the event
-    var listeners = this.listeners.get(event.getClass());
-    if (listeners != null && !listeners.isEmpty()) {
-      // check if there is only one listener
-      if (listeners.size() == 1) {
-        var listener = listeners.get(0);
-        // check if the event gets called on the same channel as the listener is listening to
-        if (listener.channel().equals(channel)) {
-          listener.fireEvent(event);
-        }
-      } else {
-        // post the event to the listeners
-        for (var listener : listeners) {
-          // check if the event gets called on the same channel as the listener is listening to
-          if (listener.channel().equals(channel)) {
-            listener.fireEvent(event);
-          }
-        }
+    // get all listeners of the event which are listening to the channel, already sorted by their invocation order
+    var listeners = this.listenerSnapshot.dispatchTable(event.getClass()).get(channel);
+    if (listeners != null) {
+      for (var listener : listeners.syncListeners()) {
+        listener.fireEvent(event);
+      }
+
+      // hand the async listeners to the executor, there is no one waiting for them to complete
+      var asyncListeners = listeners.asyncListeners();
+      if (asyncListeners.length != 0) {
+        this.fireAsync(event, asyncListeners).exceptionally(throwable -> {
+          LOGGER.severe("Exception while calling async listeners of event %s", throwable, event.getClass().getName());
+          return null;
+        });
       }
     }
     // for chaining
     return event;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T extends Event> @NonNull Task<T> callEventAsync(@NonNull String channel, @NonNull T event) {
+    var listeners = this.listenerSnapshot.dispatchTable(event.getClass()).get(channel);
+    if (listeners == null) {
+      return Task.completedTask(event);
+    }
+
+    // the sync listeners are called before the async ones, same as when calling the event synchronously
+    var syncListeners = listeners.syncListeners();
+    var asyncListeners = listeners.asyncListeners();
+    var allListeners = Arrays.copyOf(syncListeners, syncListeners.length + asyncListeners.length);
+    System.arraycopy(asyncListeners, 0, allListeners, syncListeners.length, asyncListeners.length);
+
+    return this.fireAsync(event, allListeners);
+  }
+
+  /**
+   * Calls the given listeners one after another with the given event on the async event executor.
+   *
+   * @param event     the event to call.
+   * @param listeners the listeners to call, in the order they should get called.
+   * @param <T>       the type of the event.
+   * @return a task completed with the given event after all listeners were called.
+   * @throws NullPointerException if the given event or listener array is null.
+   */
+  protected @NonNull <T extends Event> Task<T> fireAsync(
+    @NonNull T event,
+    RegisteredEventListener @NonNull [] listeners
+  ) {
+    var task = new Task<T>();
+    this.asyncEventExecutor.execute(() -> {
+      try {
+        for (var listener : listeners) {
+          listener.fireEvent(event);
+        }
+        task.complete(event);
+      } catch (Throwable throwable) {
+        task.completeExceptionally(throwable);
+      }
+    });
+    return task;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -149,10 +241,11 @@ public class DefaultEventManager implements EventManager {
         this.bakeLock.lock();
         try {
           // bake an event listener from the information
-          var listeners = this.listeners.computeIfAbsent(eventClass, $ -> new CopyOnWriteArrayList<>());
+          var listeners = this.listeners.computeIfAbsent(eventClass, $ -> new ArrayList<>());
           listeners.add(eventListener);
           // sort now - we don't need to sort lather then
           Collections.sort(listeners);
+          this.listenerSnapshot = new ListenerSnapshot(this.listeners);
         } finally {
           this.bakeLock.unlock();
         }
@@ -181,8 +274,105 @@ protected void safeRemove(@NonNull Predicate<RegisteredEventListener> predicate)
           iterator.remove();
         }
       }
+      this.listenerSnapshot = new ListenerSnapshot(this.listeners);
     } finally {
       this.bakeLock.unlock();
     }
   }
+
+  /**
+   * An immutable snapshot of the registered listeners. The listeners which should receive an event are resolved once
+   * per event class when the event is called the first time, including the listeners registered for any superclass of
+   * the event class. The resolved listeners are grouped by the channel they are listening to and sorted by their
+   * invocation order.
+   *
+   * @since 4.0
+   */
+  protected static final class ListenerSnapshot {
+
+    private static final ListenerSnapshot EMPTY = new ListenerSnapshot(Map.of());
+
+    private final Map<Class<?>, RegisteredEventListener[]> registeredListeners;
+    private final Map<Class<?>, Map<String, ChannelListeners>> dispatchTables = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new listener snapshot, copying the given listeners.
+     *
+     * @param listeners the listeners mapped by the event class they declared, sorted by their invocation order.
+     * @throws NullPointerException if the given listener map is null.
+     */
+    private ListenerSnapshot(@NonNull Map<Class<?>, List<RegisteredEventListener>> listeners) {
+      Map<Class<?>, RegisteredEventListener[]> registeredListeners = new HashMap<>();
+      listeners.forEach((eventClass, eventListeners) -> registeredListeners.put(
+        eventClass,
+        eventListeners.toArray(RegisteredEventListener[]::new)));
+      this.registeredListeners = registeredListeners;
+    }
+
+    /**
+     * Get the listeners which should receive an event of the given class, mapped by the channel they are listening to.
+     * The listener arrays are sorted by the invocation order of the listeners and must not be modified.
+     *
+     * @param eventClass the class of the event to get the listeners for.
+     * @return the listeners of the given event class mapped by their channel, empty if there are no listeners.
+     * @throws NullPointerException if the given event class is null.
+     */
+    public @NonNull Map<String, ChannelListeners> dispatchTable(@NonNull Class<?> eventClass) {
+      var dispatchTable = this.dispatchTables.get(eventClass);
+      if (dispatchTable == null) {
+        dispatchTable = this.dispatchTables.computeIfAbsent(eventClass, this::buildDispatchTable);
+      }
+      return dispatchTable;
+    }
+
+    /**
+     * Collects the listeners of the given event class and all its superclasses and groups them by their channel. The
+     * listeners of each channel are split into the sync and async listeners.
+     *
+     * @param eventClass the event class to build the dispatch table for.
+     * @return the listeners of the given event class mapped by their channel.
+     * @throws NullPointerException if the given event class is null.
+     */
+    private @NonNull Map<String, ChannelListeners> buildDispatchTable(@NonNull Class<?> eventClass) {
+      List<RegisteredEventListener> listeners = new ArrayList<>();
+      for (Class<?> clazz = eventClass; clazz != null; clazz = clazz.getSuperclass()) {
+        var classListeners = this.registeredListeners.get(clazz);
+        if (classListeners != null) {
+          Collections.addAll(listeners, classListeners);
+        }
+      }
+
+      if (listeners.isEmpty()) {
+        return Map.of();
+      }
+
+      // the sort is stable, listeners with the same order keep their registration order
+      Collections.sort(listeners);
+      Map<String, List<RegisteredEventListener>> channelListeners = new HashMap<>();
+      for (var listener : listeners) {
+        channelListeners.computeIfAbsent(listener.channel(), $ -> new ArrayList<>()).add(listener);
+      }
+
+      Map<String, ChannelListeners> dispatchTable = new HashMap<>();
+      channelListeners.forEach((channel, entries) -> dispatchTable.put(channel, new ChannelListeners(
+        entries.stream().filter(listener -> !listener.async()).toArray(RegisteredEventListener[]::new),
+        entries.stream().filter(RegisteredEventListener::async).toArray(RegisteredEventListener[]::new))));
+      return Map.copyOf(dispatchTable);
+    }
+  }
+
+  /**
+   * The listeners of an event class which are listening to a specific channel, sorted by their invocation order. The
+   * arrays must not be modified.
+   *
+   * @param syncListeners  the listeners which are called on the thread calling the event.
+   * @param asyncListeners the listeners which are called on the async event executor.
+   * @since 4.0
+   */
+  protected record ChannelListeners(
+    RegisteredEventListener @NonNull [] syncListeners,
+    RegisteredEventListener @NonNull [] asyncListeners
+  ) {
+
+  }
 }
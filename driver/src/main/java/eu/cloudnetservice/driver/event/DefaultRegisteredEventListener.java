@@ -21,13 +21,20 @@
 import dev.derklaro.reflexion.Reflexion;
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
+import eu.cloudnetservice.driver.event.metrics.EventListenerMetrics;
 import eu.cloudnetservice.driver.inject.InjectUtil;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
+import jakarta.inject.Singleton;
 import java.lang.reflect.Method;
 import lombok.NonNull;
 
 /**
- * The default implementation of a registered event listener.
+ * The default implementation of a registered event listener. The listener method is invoked using an invoker generated
+ * at runtime, reflection is only used if no invoker can be generated for the method.
+ * <p>
+ * Additional parameters of the listener method are resolved from the injection layer when the listener is called the
+ * first time. Parameters resolved to an instance of a class annotated with {@code @Singleton} are reused for all later
+ * calls, all other parameters are resolved again for each call.
  *
  * @since 4.0
  */
@@ -41,10 +48,14 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
 
   private final String methodName;
   private final Element[] methodArguments;
+  private final EventListenerInvoker invoker;
   private final MethodAccessor<?> methodAccessor;
 
   private final InjectionLayer<?> injectionLayer;
 
+  // the arguments which are resolved once, null until the listener was called the first time
+  private volatile Object[] cachedArguments;
+
   /**
    * Constructs a new default registered event listener instance.
    *
@@ -69,9 +80,9 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
     this.methodName = targetMethod.getName();
     this.eventClass = targetMethod.getParameterTypes()[0];
 
-    // method access
-    var reflexion = Reflexion.onBound(instance);
-    this.methodAccessor = reflexion.unreflect(targetMethod);
+    // method access, only fall back to reflection if no invoker can be generated
+    this.invoker = EventListenerInvokerGenerator.makeInvoker(targetMethod);
+    this.methodAccessor = this.invoker == null ? Reflexion.onBound(instance).unreflect(targetMethod) : null;
 
     // injection stuff, ignore the first element (the event itself)
     this.methodArguments = InjectUtil.buildElementsForParameters(targetMethod.getParameters(), 1);
@@ -88,19 +99,100 @@ public void fireEvent(@NonNull Event event) {
       event.getClass().getName(),
       this.instance().getClass().getName());
 
+    // only measure the time of the call if someone is interested in it
+    if (!EventListenerMetrics.timingEnabled()) {
+      this.invokeListener(event);
+      return;
+    }
+
+    var failed = true;
+    var startNanos = System.nanoTime();
+    try {
+      this.invokeListener(event);
+      failed = false;
+    } finally {
+      EventListenerMetrics.recordCall(
+        this.instance.getClass().getName(),
+        this.methodName,
+        event.getClass().getName(),
+        startNanos,
+        failed);
+    }
+  }
+
+  /**
+   * Invokes the listener method with the given event and the additional arguments resolved from the injection layer.
+   *
+   * @param event the event to pass to the listener method.
+   * @throws NullPointerException   if the given event is null.
+   * @throws EventListenerException if the listener method throws an exception while handling the event.
+   */
+  private void invokeListener(@NonNull Event event) {
     // find the parameter instances, set the first argument to the event instance
-    var instances = InjectUtil.findAllInstances(this.injectionLayer, this.methodArguments, 1);
+    var instances = this.resolveArguments();
     instances[0] = event;
 
     // invoke the event listener & rethrow any thrown exceptions wrapped
-    var result = this.methodAccessor.invokeWithArgs(instances);
-    if (result.wasExceptional()) {
-      throw new EventListenerException(String.format(
-        "Error while invoking event listener %s in class %s",
-        this.methodName,
-        this.instance.getClass().getName()
-      ), result.getException());
+    if (this.invoker != null) {
+      try {
+        this.invoker.invoke(this.instance, instances);
+      } catch (Throwable throwable) {
+        throw this.wrapException(throwable);
+      }
+    } else {
+      var result = this.methodAccessor.invokeWithArgs(instances);
+      if (result.wasExceptional()) {
+        throw this.wrapException(result.getException());
+      }
+    }
+  }
+
+  /**
+   * Resolves the additional arguments of the listener method. The first element of the returned array is left empty
+   * for the event instance. Arguments which are singletons are only resolved once and then reused.
+   *
+   * @return the arguments to pass to the listener method, with the first element left empty.
+   */
+  private @NonNull Object[] resolveArguments() {
+    var cachedArguments = this.cachedArguments;
+    if (cachedArguments == null) {
+      // first call, resolve all arguments and remember the ones that are singletons
+      var instances = InjectUtil.findAllInstances(this.injectionLayer, this.methodArguments, 1);
+      var argumentsToCache = new Object[instances.length];
+      for (var i = 1; i < instances.length; i++) {
+        var argument = instances[i];
+        if (argument != null && argument.getClass().isAnnotationPresent(Singleton.class)) {
+          argumentsToCache[i] = argument;
+        }
+      }
+
+      this.cachedArguments = argumentsToCache;
+      return instances;
+    }
+
+    // only resolve the arguments which are not cached
+    var instances = cachedArguments.clone();
+    for (var i = 1; i < instances.length; i++) {
+      if (instances[i] == null) {
+        instances[i] = this.injectionLayer.instance(this.methodArguments[i - 1]);
+      }
     }
+    return instances;
+  }
+
+  /**
+   * Wraps the given exception thrown by the listener method into an event listener exception.
+   *
+   * @param exception the exception thrown by the listener method.
+   * @return the wrapped exception.
+   * @throws NullPointerException if the given exception is null.
+   */
+  private @NonNull EventListenerException wrapException(@NonNull Throwable exception) {
+    return new EventListenerException(String.format(
+      "Error while invoking event listener %s in class %s",
+      this.methodName,
+      this.instance.getClass().getName()
+    ), exception);
   }
 
   /**
@@ -119,6 +211,14 @@ public void fireEvent(@NonNull Event event) {
     return this.eventListener.order();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean async() {
+    return this.eventListener.async();
+  }
+
   /**
    * {@inheritDoc}
    */
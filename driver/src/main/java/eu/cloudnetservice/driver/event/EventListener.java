@@ -69,4 +69,18 @@
    * @return the priority of the listener.
    */
   InvocationOrder order() default InvocationOrder.NORMAL;
+
+  /**
+   * Defines if this listener should be called asynchronously. An async listener is not called on the thread calling
+   * the event, but on a separate event executor after all synchronous listeners of the event were called. This is
+   * useful for listeners doing blocking work (for example database writes) which would otherwise delay the caller of
+   * the event. Defaults to false.
+   * <p>
+   * The async listeners of one event are called one after another in their invocation order, but an async listener
+   * might receive multiple events simultaneously and must therefore be thread safe. Changes made to the event by an
+   * async listener are not visible to the caller of the event.
+   *
+   * @return true if the listener should be called asynchronously, false otherwise.
+   */
+  boolean async() default false;
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.event;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * An invoker for an event listener method which is generated at runtime. The invoker calls the listener method directly
+ * instead of using reflection.
+ *
+ * @since 4.0
+ */
+@FunctionalInterface
+@ApiStatus.Internal
+public interface EventListenerInvoker {
+
+  /**
+   * Invokes the target listener method on the given instance using the given arguments. The first argument is always
+   * the event to pass to the listener method.
+   *
+   * @param instance  the listener instance to call the method on.
+   * @param arguments the arguments to pass to the listener method, in order.
+   * @throws NullPointerException if the given instance or arguments array is null.
+   * @throws Throwable            any exception thrown by the listener method.
+   */
+  void invoke(@NonNull Object instance, @NonNull Object[] arguments) throws Throwable;
+}
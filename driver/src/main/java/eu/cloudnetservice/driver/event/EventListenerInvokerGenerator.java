@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.event;
+
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.POP2;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V11;
+
+import eu.cloudnetservice.common.util.StringUtil;
+import eu.cloudnetservice.driver.util.asm.AsmHelper;
+import eu.cloudnetservice.driver.util.define.ClassDefiners;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+/**
+ * A utility class to generate and define an invoker for an event listener method in the runtime.
+ *
+ * @since 4.0
+ */
+final class EventListenerInvokerGenerator {
+
+  private static final String SUPER = "java/lang/Object";
+  private static final String[] EVENT_LISTENER_INVOKER = new String[]{
+    Type.getInternalName(EventListenerInvoker.class)};
+  private static final String INVOKE_DESCRIPTOR = Type.getMethodDescriptor(
+    Type.VOID_TYPE,
+    Type.getType(Object.class),
+    Type.getType(Object[].class));
+  private static final String CLASS_NAME_FORMAT = "%s$GeneratedEventInvoker_%s_%s";
+
+  private EventListenerInvokerGenerator() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Generates an invoker for the given event listener method. Null is returned if the generated invoker would not be
+   * able to access the method, for example because the method is private and the current class definer is not able to
+   * define classes as nest mates of the listener class.
+   *
+   * @param method the listener method to generate the invoker for.
+   * @return the generated invoker for the given method, null if no invoker can be generated for the method.
+   * @throws NullPointerException if the given method is null.
+   */
+  static @Nullable EventListenerInvoker makeInvoker(@NonNull Method method) {
+    var declaringClass = method.getDeclaringClass();
+    if (!ClassDefiners.definesNestMates() && !publiclyAccessible(method)) {
+      return null;
+    }
+
+    try {
+      var className = String.format(
+        CLASS_NAME_FORMAT,
+        Type.getInternalName(declaringClass),
+        method.getName(),
+        StringUtil.generateRandomString(25));
+      // java 11 class files are required to invoke private methods of nest mates using invokevirtual
+      var cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+      cw.visit(V11, ACC_PUBLIC | ACC_FINAL, className, null, SUPER, EVENT_LISTENER_INVOKER);
+      MethodVisitor mv;
+      {
+        mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, SUPER, "<init>", "()V", false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+      }
+      {
+        mv = cw.visitMethod(ACC_PUBLIC, "invoke", INVOKE_DESCRIPTOR, null, null);
+        mv.visitCode();
+        // load the listener instance
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, Type.getInternalName(declaringClass));
+        // load each argument from the given array
+        var parameterTypes = method.getParameterTypes();
+        for (var i = 0; i < parameterTypes.length; i++) {
+          mv.visitVarInsn(ALOAD, 2);
+          AsmHelper.pushInt(mv, i);
+          mv.visitInsn(AALOAD);
+          if (parameterTypes[i].isPrimitive()) {
+            AsmHelper.wrapperToPrimitive(mv, parameterTypes[i]);
+          } else {
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(parameterTypes[i]));
+          }
+        }
+        // invoke the listener method and drop the result, if any
+        mv.visitMethodInsn(
+          INVOKEVIRTUAL,
+          Type.getInternalName(declaringClass),
+          method.getName(),
+          Type.getMethodDescriptor(method),
+          false);
+        var returnType = method.getReturnType();
+        if (returnType == long.class || returnType == double.class) {
+          mv.visitInsn(POP2);
+        } else if (returnType != void.class) {
+          mv.visitInsn(POP);
+        }
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+      }
+      cw.visitEnd();
+
+      // define and instantiate the invoker
+      var constructor = ClassDefiners.current()
+        .defineClass(className, declaringClass, cw.toByteArray())
+        .getDeclaredConstructor();
+      constructor.setAccessible(true);
+      return (EventListenerInvoker) constructor.newInstance();
+    } catch (Exception | LinkageError exception) {
+      // the listener gets invoked using reflection instead
+      return null;
+    }
+  }
+
+  /**
+   * Checks if the given method and all types used by it are accessible from a class which is neither a nest mate of
+   * the declaring class of the method nor located in the same package.
+   *
+   * @param method the method to check.
+   * @return true if the method is accessible from everywhere, false otherwise.
+   * @throws NullPointerException if the given method is null.
+   */
+  private static boolean publiclyAccessible(@NonNull Method method) {
+    if (!Modifier.isPublic(method.getModifiers())) {
+      return false;
+    }
+
+    // nested classes are only accessible if all enclosing classes are accessible as well
+    for (var clazz = method.getDeclaringClass(); clazz != null; clazz = clazz.getEnclosingClass()) {
+      if (!Modifier.isPublic(clazz.getModifiers())) {
+        return false;
+      }
+    }
+
+    for (var parameterType : method.getParameterTypes()) {
+      if (!parameterType.isPrimitive() && !Modifier.isPublic(parameterType.getModifiers())) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
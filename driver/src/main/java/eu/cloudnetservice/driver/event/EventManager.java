@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.event;
 
+import eu.cloudnetservice.common.concurrent.Task;
 import lombok.NonNull;
 
 /**
@@ -34,7 +35,8 @@
  * Note: event execution is always a blocking operation, <strong>NEVER</strong> should an event listener receive event
  * notifications simultaneously. By default, no event listener will be called when any event publish is ongoing. Other
  * implementations are free to change this behaviour as long as there are no calls to the same event listener
- * simultaneously.
+ * simultaneously. The only exception to this rule are listeners which explicitly opted into being called
+ * asynchronously using {@link EventListener#async()}.
  *
  * @see EventListener
  * @see RegisteredEventListener
@@ -60,6 +62,17 @@ public interface EventManager {
    */
   @NonNull EventManager unregisterListener(Object @NonNull ... listeners);
 
+  /**
+   * Get if at least one listener is registered for the given event class or one of its superclasses. This check is
+   * cheap and backed by a snapshot of the registered listeners, which allows callers in hot paths to skip the
+   * construction of events if no one is going to receive them.
+   *
+   * @param eventClass the class of the event to check.
+   * @return true if at least one listener would receive an event of the given class, false otherwise.
+   * @throws NullPointerException if the given event class is null.
+   */
+  boolean hasListeners(@NonNull Class<? extends Event> eventClass);
+
   /**
    * Calls the given event to the * channel, triggering all event listeners which are listening to it.
    * <p>
@@ -88,6 +101,39 @@ public interface EventManager {
    */
   @NonNull <T extends Event> T callEvent(@NonNull String channel, @NonNull T event);
 
+  /**
+   * Calls the given event to the * channel on the event executor, triggering all event listeners which are listening
+   * to it. The calling thread is not blocked by the listeners.
+   * <p>
+   * This method call is equivalent to {@code callEventAsync("*", event)}.
+   *
+   * @param event the event to call.
+   * @param <T>   the type of the event.
+   * @return a task completed with the same event as used to call the method after all listeners were called.
+   * @throws NullPointerException if the given event is null.
+   */
+  default @NonNull <T extends Event> Task<T> callEventAsync(@NonNull T event) {
+    return this.callEventAsync("*", event);
+  }
+
+  /**
+   * Calls the given event to the given channel on the event executor, only triggering the event listeners which are
+   * specifically listening to the given channel unless the channel is *. The listeners are called one after another in
+   * the same order as they would be when calling the event synchronously, but the calling thread is not blocked by
+   * them.
+   * <p>
+   * The returned task is completed with the event once all listeners were called, or exceptionally with an
+   * {@link EventListenerException} if a listener threw an exception while processing the event. Listeners following the
+   * failed listener are not called in that case.
+   *
+   * @param channel the specific channel to call the listeners on.
+   * @param event   the event to call.
+   * @param <T>     the type of the event.
+   * @return a task completed with the same event as used to call the method after all listeners were called.
+   * @throws NullPointerException if the given channel or event is null.
+   */
+  @NonNull <T extends Event> Task<T> callEventAsync(@NonNull String channel, @NonNull T event);
+
   /**
    * Registers all methods in the given listener class which are annotated with {@link EventListener} and are taking
    * only one argument with a subtype of {@link Event}. The instance the constructed event listeners are bound to are
@@ -59,6 +59,16 @@ public interface RegisteredEventListener extends Comparable<RegisteredEventListe
    */
   @NonNull String channel();
 
+  /**
+   * Get if this listener should be called asynchronously, as defined in the @EventListener annotation on the original
+   * listener method. Defaults to false for implementations which were written before async listeners were supported.
+   *
+   * @return true if the underlying event listener should be called asynchronously, false otherwise.
+   */
+  default boolean async() {
+    return false;
+  }
+
   /**
    * Get the instance of the listener class used to register all listeners in it.
    *
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.event.metrics;
+
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Holds the timings of the event listeners of this component, recorded per listener method and event class. Recording
+ * the timings is disabled by default, it can be enabled using the {@code cloudnet.event.profiling} system property or
+ * at runtime using {@link #profiling(boolean)}.
+ * <p>
+ * Independent of the profiling, listeners taking longer than {@code cloudnet.event.slow-listener-threshold}
+ * milliseconds to handle an event are logged together with the event they were handling. The slow listener log is
+ * disabled by default.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class EventListenerMetrics {
+
+  private static final Logger LOGGER = LogManager.logger(EventListenerMetrics.class);
+
+  private static final long SLOW_LISTENER_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(
+    Long.getLong("cloudnet.event.slow-listener-threshold", 0));
+
+  private static final Map<ListenerKey, ListenerMetrics> LISTENER_METRICS = new ConcurrentHashMap<>();
+  private static volatile boolean profiling = Boolean.getBoolean("cloudnet.event.profiling");
+
+  private EventListenerMetrics() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Get if the calls to event listeners should be timed, either because the profiling is enabled or because slow
+   * listeners should be logged. Listeners should skip the time measurement entirely if this method returns false.
+   *
+   * @return true if the calls to event listeners should be timed, false otherwise.
+   */
+  public static boolean timingEnabled() {
+    return profiling || SLOW_LISTENER_THRESHOLD_NANOS > 0;
+  }
+
+  /**
+   * Get if the profiling of event listeners is currently enabled.
+   *
+   * @return true if the profiling of event listeners is enabled, false otherwise.
+   */
+  public static boolean profiling() {
+    return profiling;
+  }
+
+  /**
+   * Enables or disables the profiling of event listeners. The already recorded timings are kept when disabling the
+   * profiling.
+   *
+   * @param enabled if the profiling of event listeners should be enabled.
+   */
+  public static void profiling(boolean enabled) {
+    profiling = enabled;
+  }
+
+  /**
+   * Records a call of the given listener method which was started at the given nano time. If the call took longer than
+   * the configured slow listener threshold, the call gets logged.
+   *
+   * @param listenerClass the name of the class in which the listener method is located.
+   * @param methodName    the name of the listener method.
+   * @param eventClass    the name of the class of the event which was handled.
+   * @param startNanos    the nano time when the call was started.
+   * @param failed        if the listener threw an exception while handling the event.
+   * @throws NullPointerException if the given listener class, method name or event class is null.
+   */
+  public static void recordCall(
+    @NonNull String listenerClass,
+    @NonNull String methodName,
+    @NonNull String eventClass,
+    long startNanos,
+    boolean failed
+  ) {
+    var nanos = System.nanoTime() - startNanos;
+    if (profiling) {
+      var metrics = LISTENER_METRICS.computeIfAbsent(
+        new ListenerKey(listenerClass, methodName, eventClass),
+        key -> new ListenerMetrics());
+      metrics.record(nanos, failed);
+    }
+
+    if (SLOW_LISTENER_THRESHOLD_NANOS > 0 && nanos >= SLOW_LISTENER_THRESHOLD_NANOS) {
+      LOGGER.warning(String.format(
+        "Slow event listener %s#%s took %.2fms to handle %s",
+        listenerClass,
+        methodName,
+        nanos / 1_000_000D,
+        eventClass));
+    }
+  }
+
+  /**
+   * Creates a point-in-time snapshot of the timings of all listeners which were called while profiling was enabled.
+   *
+   * @return a snapshot of the timings of all profiled listeners.
+   */
+  public static @NonNull List<Snapshot> snapshot() {
+    List<Snapshot> snapshots = new ArrayList<>(LISTENER_METRICS.size());
+    LISTENER_METRICS.forEach((key, metrics) -> snapshots.add(new Snapshot(
+      key.listenerClass(),
+      key.methodName(),
+      key.eventClass(),
+      metrics.calls.sum(),
+      metrics.failures.sum(),
+      metrics.totalNanos.sum(),
+      metrics.maxNanos.get())));
+    return snapshots;
+  }
+
+  /**
+   * Removes the recorded timings of all listeners.
+   */
+  public static void reset() {
+    LISTENER_METRICS.clear();
+  }
+
+  /**
+   * The key of the timings of a listener method handling a specific event class.
+   *
+   * @param listenerClass the name of the class in which the listener method is located.
+   * @param methodName    the name of the listener method.
+   * @param eventClass    the name of the class of the handled events.
+   * @since 4.0
+   */
+  private record ListenerKey(@NonNull String listenerClass, @NonNull String methodName, @NonNull String eventClass) {
+
+  }
+
+  /**
+   * Holds the call counters and timings of a single listener method handling a specific event class.
+   *
+   * @since 4.0
+   */
+  private static final class ListenerMetrics {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a call of the listener which took the given amount of nanoseconds.
+     *
+     * @param nanos  the nanoseconds the call took.
+     * @param failed if the listener threw an exception while handling the event.
+     */
+    private void record(long nanos, boolean failed) {
+      this.calls.increment();
+      this.totalNanos.add(nanos);
+      this.maxNanos.accumulate(nanos);
+      if (failed) {
+        this.failures.increment();
+      }
+    }
+  }
+
+  /**
+   * A point-in-time snapshot of the timings of a listener method handling a specific event class.
+   *
+   * @param listenerClass the name of the class in which the listener method is located.
+   * @param methodName    the name of the listener method.
+   * @param eventClass    the name of the class of the handled events.
+   * @param calls         the number of calls of the listener.
+   * @param failures      the number of calls in which the listener threw an exception.
+   * @param totalNanos    the total time spent in the listener, in nanoseconds.
+   * @param maxNanos      the longest time a single call of the listener took, in nanoseconds.
+   * @since 4.0
+   */
+  public record Snapshot(
+    @NonNull String listenerClass,
+    @NonNull String methodName,
+    @NonNull String eventClass,
+    long calls,
+    long failures,
+    long totalNanos,
+    long maxNanos
+  ) {
+
+    /**
+     * Get the average time a call of the listener took, in nanoseconds.
+     *
+     * @return the average time a call of the listener took.
+     */
+    public long averageNanos() {
+      return this.calls == 0 ? 0 : this.totalNanos / this.calls;
+    }
+  }
+}
@@ -27,7 +27,8 @@
 public interface NetworkClient extends NetworkComponent, AutoCloseable {
 
   /**
-   * Connects this network client to the network server running at the given host and port.
+   * Connects this network client to the network server running at the given host and port. If the given host and port
+   * has no valid port, the host is treated as the path to a unix domain socket to connect to.
    *
    * @param hostAndPort the target host and port to which the client should get connected.
    * @return a task completed successfully, or with the exception thrown during the connection process.
@@ -37,7 +37,8 @@ public interface NetworkServer extends NetworkComponent, AutoCloseable {
   @NonNull Task<Void> addListener(int port);
 
   /**
-   * Binds this network server to the given host and port if no listener is already listening on the given address.
+   * Binds this network server to the given host and port if no listener is already listening on the given address. If
+   * the given host and port has no valid port, the host is treated as the path to a unix domain socket to listen on.
    *
    * @param hostAndPort the address to which a listener should get bound.
    * @return a future completed exceptionally if the bind fails, normally if the bind succeeded.
@@ -96,6 +96,16 @@ public interface DataBuf extends AutoCloseable {
    */
   int readInt();
 
+  /**
+   * Reads a 32-bit integer which was encoded as a var int from this buffer at the current reader index. Between one
+   * and five bytes are read from the buffer, depending on the size of the encoded integer.
+   *
+   * @return the next var int in the buffer at the current reader index.
+   * @throws IndexOutOfBoundsException if there is no valid var int at the current reader index.
+   * @throws IllegalStateException     if this buffer was released.
+   */
+  int readVarInt();
+
   /**
    * Reads a 16-bit short from this buffer at the current reader index. Exactly two bytes are read from the buffer.
    *
@@ -356,6 +366,15 @@ interface Mutable extends DataBuf {
      */
     @NonNull DataBuf.Mutable writeInt(int integer);
 
+    /**
+     * Writes the given integer as a var int at the current writer index. Small positive integers are encoded using
+     * fewer bytes, the index is increased by one to five depending on the given integer.
+     *
+     * @param integer the integer to write into the buffer.
+     * @return the same buffer used to call the method, for chaining.
+     */
+    @NonNull DataBuf.Mutable writeVarInt(int integer);
+
     /**
      * Writes the given byte at the current writer index, increasing the index by one.
      *
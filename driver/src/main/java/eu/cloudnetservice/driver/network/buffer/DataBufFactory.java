@@ -71,6 +71,24 @@ public interface DataBufFactory {
    */
   @NonNull DataBuf copyOf(@NonNull DataBuf dataBuf);
 
+  /**
+   * Creates a readonly copy of the readable bytes of the given data buffer which shares its memory with the given buffer
+   * if possible. This is useful when sending the same content to multiple receivers, the content must only be written
+   * once and each receiver gets its own copy which can be read and released independently. The given buffer becomes
+   * readonly when calling this method, the shared memory is freed after the given buffer and all copies were released.
+   * <p>
+   * A factory is only expected to be able to copy a buffer created by it. Factories which are unable to share memory
+   * between buffers create a full copy of the given buffer instead.
+   *
+   * @param dataBuf the buffer to copy.
+   * @return a copied variant of the given buffer, sharing the memory of the given buffer if possible.
+   * @throws IllegalArgumentException if the buffer cannot be copied.
+   * @throws NullPointerException     if the given buffer is null.
+   */
+  default @NonNull DataBuf sharedCopyOf(@NonNull DataBuf dataBuf) {
+    return this.copyOf(dataBuf);
+  }
+
   /**
    * Creates a mutable copy of the given data buffer. The copied variant of the buffer will start the read and write
    * process from the first byte rather than re-using the current index of the original buffer.
@@ -98,4 +98,12 @@ public ChunkedPacket(@NonNull DataBuf dataBuf) {
     // write the actual content of the chunk
     return new ChunkedPacket(dataBuf.writeByteArray(data, dataLength));
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean bulk() {
+    return true;
+  }
 }
@@ -30,6 +30,8 @@
  */
 public final class PacketServerChannelMessage extends BasePacket {
 
+  private final boolean bulk;
+
   /**
    * Constructs a new channel message packet instance.
    *
@@ -38,9 +40,54 @@ public final class PacketServerChannelMessage extends BasePacket {
    * @throws NullPointerException if the given channel message is null.
    */
   public PacketServerChannelMessage(@NonNull ChannelMessage message, boolean wrapper) {
-    super(
-      NetworkConstants.CHANNEL_MESSAGING_CHANNEL,
-      message.prioritized(),
-      DataBuf.empty().writeBoolean(wrapper).writeObject(message));
+    super(NetworkConstants.CHANNEL_MESSAGING_CHANNEL, message.prioritized(), encodeMessage(message, wrapper));
+    this.bulk = message.bulk();
+  }
+
+  /**
+   * Constructs a new channel message packet instance using the given, already encoded content. This is useful when
+   * sending the same channel message to multiple components, as the message only needs to be encoded once.
+   *
+   * @param prioritized if the channel message is prioritized.
+   * @param content     the content of the packet, encoded using {@link #encodeMessage(ChannelMessage, boolean)}.
+   * @throws NullPointerException if the given content is null.
+   */
+  public PacketServerChannelMessage(boolean prioritized, @NonNull DataBuf content) {
+    this(prioritized, false, content);
+  }
+
+  /**
+   * Constructs a new channel message packet instance using the given, already encoded content. This is useful when
+   * sending the same channel message to multiple components, as the message only needs to be encoded once.
+   *
+   * @param prioritized if the channel message is prioritized.
+   * @param bulk        if the channel message is part of a bulk transfer.
+   * @param content     the content of the packet, encoded using {@link #encodeMessage(ChannelMessage, boolean)}.
+   * @throws NullPointerException if the given content is null.
+   */
+  public PacketServerChannelMessage(boolean prioritized, boolean bulk, @NonNull DataBuf content) {
+    super(NetworkConstants.CHANNEL_MESSAGING_CHANNEL, prioritized, content);
+    this.bulk = bulk;
+  }
+
+  /**
+   * Encodes the given channel message into the content of a channel message packet. Note that encoding the message
+   * releases the content of the given message once.
+   *
+   * @param message the channel message to encode.
+   * @param wrapper if the channel was sent by a wrapper component.
+   * @return the encoded channel message.
+   * @throws NullPointerException if the given channel message is null.
+   */
+  public static @NonNull DataBuf.Mutable encodeMessage(@NonNull ChannelMessage message, boolean wrapper) {
+    return DataBuf.empty().writeBoolean(wrapper).writeObject(message);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean bulk() {
+    return this.bulk;
   }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Range;
+
+/**
+ * A lock-free histogram for latencies measured in nanoseconds. Each recorded value is counted into a bucket covering
+ * the power of two range the value falls into, which keeps the recording cheap and the memory footprint fixed while
+ * still allowing to estimate percentiles with an error of at most factor two.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class NettyLatencyHistogram {
+
+  // bucket n holds values in [2^n, 2^(n+1)), 48 buckets cover everything up to ~39 hours
+  private static final int BUCKET_COUNT = 48;
+
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+  private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+  /**
+   * Constructs a new, empty histogram instance.
+   */
+  public NettyLatencyHistogram() {
+    for (var i = 0; i < BUCKET_COUNT; i++) {
+      this.buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records the given latency into this histogram. Negative values are recorded as zero.
+   *
+   * @param nanos the latency to record, in nanoseconds.
+   */
+  public void record(long nanos) {
+    var value = Math.max(0, nanos);
+    var bucket = Math.min(BUCKET_COUNT - 1, 63 - Long.numberOfLeadingZeros(value | 1));
+
+    this.count.increment();
+    this.totalNanos.add(value);
+    this.maxNanos.accumulate(value);
+    this.buckets[bucket].increment();
+  }
+
+  /**
+   * Get the number of values that were recorded into this histogram.
+   *
+   * @return the number of recorded values.
+   */
+  public long count() {
+    return this.count.sum();
+  }
+
+  /**
+   * Get the sum of all values that were recorded into this histogram.
+   *
+   * @return the sum of all recorded values, in nanoseconds.
+   */
+  public long totalNanos() {
+    return this.totalNanos.sum();
+  }
+
+  /**
+   * Get the highest value that was recorded into this histogram.
+   *
+   * @return the highest recorded value, in nanoseconds.
+   */
+  public long maxNanos() {
+    return this.maxNanos.get();
+  }
+
+  /**
+   * Estimates the value at the given percentile. The returned value is the upper bound of the bucket the percentile
+   * falls into, capped at the highest recorded value.
+   *
+   * @param percentile the percentile to get the value of, between 0 and 100.
+   * @return the estimated value at the given percentile in nanoseconds, 0 if no values were recorded.
+   */
+  public long percentileNanos(@Range(from = 0, to = 100) double percentile) {
+    // take a snapshot of the buckets first, the total count might change while iterating
+    var counts = new long[BUCKET_COUNT];
+    var total = 0L;
+    for (var i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = this.buckets[i].sum();
+      total += counts[i];
+    }
+
+    if (total == 0) {
+      return 0;
+    }
+
+    var target = Math.max(1, (long) Math.ceil(total * (percentile / 100D)));
+    var seen = 0L;
+    for (var i = 0; i < BUCKET_COUNT; i++) {
+      seen += counts[i];
+      if (seen >= target) {
+        var upperBound = i == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+        return Math.min(upperBound, this.maxNanos());
+      }
+    }
+
+    return this.maxNanos();
+  }
+
+  /**
+   * Creates a point-in-time snapshot of this histogram which can be serialized.
+   *
+   * @return a snapshot of this histogram.
+   */
+  public @NonNull Snapshot snapshot() {
+    var count = this.count();
+    return new Snapshot(
+      count,
+      count == 0 ? 0 : this.totalNanos() / count,
+      this.percentileNanos(50),
+      this.percentileNanos(99),
+      this.maxNanos());
+  }
+
+  /**
+   * A point-in-time snapshot of a latency histogram.
+   *
+   * @param count     the number of recorded values.
+   * @param meanNanos the mean of all recorded values, in nanoseconds.
+   * @param p50Nanos  the estimated median of all recorded values, in nanoseconds.
+   * @param p99Nanos  the estimated 99th percentile of all recorded values, in nanoseconds.
+   * @param maxNanos  the highest recorded value, in nanoseconds.
+   * @since 4.0
+   */
+  public record Snapshot(long count, long meanNanos, long p50Nanos, long p99Nanos, long maxNanos) {
+
+  }
+}
@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.network.netty;
 
+import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.event.events.network.NetworkChannelPacketSendEvent;
 import eu.cloudnetservice.driver.network.DefaultNetworkChannel;
@@ -40,6 +41,7 @@ public final class NettyNetworkChannel extends DefaultNetworkChannel implements
 
   private final Channel channel;
   private final EventManager eventManager;
+  private final NettyNetworkChannelMetrics metrics = new NettyNetworkChannelMetrics();
 
   /**
    * Constructs a new netty network channel instance.
@@ -140,8 +142,30 @@ public void close() {
   }
 
   /**
-   * Writes the given packet into the channel, calling the packet send event beforehand and not writing when the event
-   * gets cancelled by a module/plugin.
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<Packet> sendQueryAsync(@NonNull Packet packet) {
+    var sentNanos = this.metrics.querySent();
+    var task = super.sendQueryAsync(packet);
+    if (sentNanos != NettyNetworkChannelMetrics.NOT_SAMPLED) {
+      task.thenRun(() -> this.metrics.queryCompleted(sentNanos));
+    }
+    return task;
+  }
+
+  /**
+   * Get the metrics about the packets sent and received on this channel.
+   *
+   * @return the network metrics of this channel.
+   */
+  public @NonNull NettyNetworkChannelMetrics metrics() {
+    return this.metrics;
+  }
+
+  /**
+   * Writes the given packet into the channel, calling the packet send event beforehand (if any listener is registered
+   * for it) and not writing when the event gets cancelled by a module/plugin.
    *
    * @param packet     the packet to write if the send operation is not cancelled.
    * @param flushAfter if the send queue should be flushed directly after the write process.
@@ -149,11 +173,15 @@ public void close() {
    * @throws NullPointerException if the given packet is null.
    */
   private @Nullable Future<Void> writePacket(@NonNull Packet packet, boolean flushAfter) {
-    var event = this.eventManager.callEvent(new NetworkChannelPacketSendEvent(this, packet));
-    if (!event.cancelled()) {
-      return flushAfter ? this.channel.writeAndFlush(packet) : this.channel.write(packet);
-    } else {
-      return null;
+    // only construct and call the event if there is someone listening to it
+    if (this.eventManager.hasListeners(NetworkChannelPacketSendEvent.class)) {
+      var event = this.eventManager.callEvent(new NetworkChannelPacketSendEvent(this, packet));
+      if (event.cancelled()) {
+        return null;
+      }
     }
+
+    this.metrics.packetSent(packet.channel(), packet.content().readableBytes());
+    return flushAfter ? this.channel.writeAndFlush(packet) : this.channel.write(packet);
   }
 }
@@ -0,0 +1,419 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * Holds the metrics of a single network channel. The metrics include the packets and bytes sent and received, the
+ * current and maximum number of packets that are waiting to be handled, the time the packets spent waiting and being
+ * handled as well as the round-trip time of queries sent over the channel. All metrics are recorded both for the whole
+ * channel and per packet channel id.
+ * <p>
+ * Packet and byte counters are always recorded. Timings are only recorded for a sample of the packets, see
+ * {@link NettyUtil#sampleMetrics()} for details.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class NettyNetworkChannelMetrics {
+
+  /**
+   * The timestamp returned by the timing methods of this class if the packet was not selected for sampling.
+   */
+  public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+  private final NettyLatencyHistogram queryRoundTripTime = new NettyLatencyHistogram();
+
+  private final PacketChannelMetrics channelMetrics = new PacketChannelMetrics();
+  private final Map<Integer, PacketChannelMetrics> packetChannelMetrics = new ConcurrentHashMap<>();
+
+  /**
+   * Records that a packet with the given content size was written to the channel.
+   *
+   * @param packetChannel the channel id of the packet that was sent.
+   * @param bytes         the number of content bytes of the packet.
+   */
+  public void packetSent(int packetChannel, int bytes) {
+    this.channelMetrics.recordOutbound(bytes);
+    this.packetChannelMetrics(packetChannel).recordOutbound(bytes);
+  }
+
+  /**
+   * Records that a packet with the given content size was received and marks it as queued for handling. The returned
+   * timestamp must be passed to {@link #packetHandlingStarted(long)} once the handling of the packet starts.
+   *
+   * @param packetChannel the channel id of the packet that was received.
+   * @param bytes         the number of content bytes of the packet.
+   * @return the current nano time if the packet timings should be sampled, {@link #NOT_SAMPLED} otherwise.
+   */
+  public long packetQueued(int packetChannel, int bytes) {
+    this.channelMetrics.recordInbound(bytes);
+    this.packetChannelMetrics(packetChannel).recordQueued(bytes);
+
+    var depth = this.queueDepth.incrementAndGet();
+    this.maxQueueDepth.accumulate(depth);
+    return NettyUtil.sampleMetrics() ? System.nanoTime() : NOT_SAMPLED;
+  }
+
+  /**
+   * Marks that the handling of a queued packet started.
+   *
+   * @param queuedNanos the nano time when the packet was queued, obtained from {@link #packetQueued(int, int)}.
+   * @return the current nano time if the packet timings are sampled, {@link #NOT_SAMPLED} otherwise.
+   */
+  public long packetHandlingStarted(long queuedNanos) {
+    return queuedNanos == NOT_SAMPLED ? NOT_SAMPLED : System.nanoTime();
+  }
+
+  /**
+   * Marks that a packet which was previously queued was handled.
+   *
+   * @param packetChannel the channel id of the packet that was handled.
+   * @param queuedNanos   the nano time when the packet was queued, obtained from {@link #packetQueued(int, int)}.
+   * @param startNanos    the nano time when the handling of the packet started.
+   */
+  public void packetHandled(int packetChannel, long queuedNanos, long startNanos) {
+    this.queueDepth.decrementAndGet();
+
+    var packetChannelMetrics = this.packetChannelMetrics(packetChannel);
+    packetChannelMetrics.queueDepth.decrementAndGet();
+    if (queuedNanos == NOT_SAMPLED || startNanos == NOT_SAMPLED) {
+      this.channelMetrics.handledPackets.increment();
+      packetChannelMetrics.handledPackets.increment();
+      return;
+    }
+
+    var endNanos = System.nanoTime();
+    var queueTime = startNanos - queuedNanos;
+    var handleTime = endNanos - startNanos;
+
+    this.channelMetrics.recordHandled(queueTime, handleTime);
+    packetChannelMetrics.recordHandled(queueTime, handleTime);
+  }
+
+  /**
+   * Marks that a query was sent over the channel.
+   *
+   * @return the current nano time if the query round-trip time should be sampled, {@link #NOT_SAMPLED} otherwise.
+   */
+  public long querySent() {
+    return NettyUtil.sampleMetrics() ? System.nanoTime() : NOT_SAMPLED;
+  }
+
+  /**
+   * Marks that the response to a query was received.
+   *
+   * @param sentNanos the nano time when the query was sent, obtained from {@link #querySent()}.
+   */
+  public void queryCompleted(long sentNanos) {
+    if (sentNanos != NOT_SAMPLED) {
+      this.queryRoundTripTime.record(System.nanoTime() - sentNanos);
+    }
+  }
+
+  /**
+   * Get the number of packets that are currently waiting to be handled or are being handled.
+   *
+   * @return the current queue depth of the channel.
+   */
+  public int queueDepth() {
+    return this.queueDepth.get();
+  }
+
+  /**
+   * Get the highest number of packets that were waiting at the same time to be handled.
+   *
+   * @return the maximum queue depth of the channel.
+   */
+  public long maxQueueDepth() {
+    return this.maxQueueDepth.get();
+  }
+
+  /**
+   * Get the histogram of the (sampled) round-trip times of queries sent over the channel.
+   *
+   * @return the query round-trip time histogram.
+   */
+  public @NonNull NettyLatencyHistogram queryRoundTripTime() {
+    return this.queryRoundTripTime;
+  }
+
+  /**
+   * Get the metrics of all packets that were sent or received on the channel.
+   *
+   * @return the metrics of the full channel.
+   */
+  public @NonNull PacketChannelMetrics channelMetrics() {
+    return this.channelMetrics;
+  }
+
+  /**
+   * Get the metrics mapped by the packet channel id they were recorded for.
+   *
+   * @return the metrics per packet channel id.
+   */
+  public @Unmodifiable @NonNull Map<Integer, PacketChannelMetrics> packetChannelMetrics() {
+    return Map.copyOf(this.packetChannelMetrics);
+  }
+
+  /**
+   * Creates a point-in-time snapshot of all metrics of the channel which can be serialized.
+   *
+   * @return a snapshot of the metrics of the channel.
+   */
+  public @NonNull Snapshot snapshot() {
+    Map<Integer, PacketChannelMetrics.Snapshot> packetChannels = new HashMap<>();
+    this.packetChannelMetrics.forEach((id, metrics) -> packetChannels.put(id, metrics.snapshot()));
+
+    return new Snapshot(
+      this.queueDepth(),
+      this.maxQueueDepth(),
+      this.queryRoundTripTime.snapshot(),
+      this.channelMetrics.snapshot(),
+      packetChannels);
+  }
+
+  /**
+   * Get or creates the metrics holder for the given packet channel id.
+   *
+   * @param packetChannel the packet channel id to get the metrics for.
+   * @return the metrics of the given packet channel id.
+   */
+  private @NonNull PacketChannelMetrics packetChannelMetrics(int packetChannel) {
+    return this.packetChannelMetrics.computeIfAbsent(packetChannel, $ -> new PacketChannelMetrics());
+  }
+
+  /**
+   * A point-in-time snapshot of the metrics of a network channel.
+   *
+   * @param queueDepth         the number of packets currently waiting to be handled.
+   * @param maxQueueDepth      the highest number of packets that were waiting at the same time.
+   * @param queryRoundTripTime the sampled round-trip times of queries sent over the channel.
+   * @param total              the metrics of all packets sent or received on the channel.
+   * @param packetChannels     the metrics per packet channel id.
+   * @since 4.0
+   */
+  public record Snapshot(
+    int queueDepth,
+    long maxQueueDepth,
+    @NonNull NettyLatencyHistogram.Snapshot queryRoundTripTime,
+    @NonNull PacketChannelMetrics.Snapshot total,
+    @NonNull Map<Integer, PacketChannelMetrics.Snapshot> packetChannels
+  ) {
+
+  }
+
+  /**
+   * Holds the traffic counters and the time packets spent in the dispatcher queue and being handled by the associated
+   * listeners.
+   *
+   * @since 4.0
+   */
+  public static final class PacketChannelMetrics {
+
+    private final LongAdder packetsIn = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder packetsOut = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder handledPackets = new LongAdder();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+
+    private final NettyLatencyHistogram queueTime = new NettyLatencyHistogram();
+    private final NettyLatencyHistogram handleTime = new NettyLatencyHistogram();
+
+    /**
+     * Records a received packet with the given amount of content bytes.
+     *
+     * @param bytes the content bytes of the packet.
+     */
+    private void recordInbound(int bytes) {
+      this.packetsIn.increment();
+      this.bytesIn.add(bytes);
+    }
+
+    /**
+     * Records a received packet with the given amount of content bytes which is queued for handling.
+     *
+     * @param bytes the content bytes of the packet.
+     */
+    private void recordQueued(int bytes) {
+      this.recordInbound(bytes);
+
+      var depth = this.queueDepth.incrementAndGet();
+      this.maxQueueDepth.accumulate(depth);
+    }
+
+    /**
+     * Records a sent packet with the given amount of content bytes.
+     *
+     * @param bytes the content bytes of the packet.
+     */
+    private void recordOutbound(int bytes) {
+      this.packetsOut.increment();
+      this.bytesOut.add(bytes);
+    }
+
+    /**
+     * Records the time a single packet was waiting in the queue and the time it took to handle it.
+     *
+     * @param queueNanos  the nanos the packet spent in the queue.
+     * @param handleNanos the nanos it took to handle the packet.
+     */
+    private void recordHandled(long queueNanos, long handleNanos) {
+      this.handledPackets.increment();
+      this.queueTime.record(queueNanos);
+      this.handleTime.record(handleNanos);
+    }
+
+    /**
+     * Get the number of packets which were received.
+     *
+     * @return the number of received packets.
+     */
+    public long packetsIn() {
+      return this.packetsIn.sum();
+    }
+
+    /**
+     * Get the number of content bytes which were received.
+     *
+     * @return the number of received content bytes.
+     */
+    public long bytesIn() {
+      return this.bytesIn.sum();
+    }
+
+    /**
+     * Get the number of packets which were sent.
+     *
+     * @return the number of sent packets.
+     */
+    public long packetsOut() {
+      return this.packetsOut.sum();
+    }
+
+    /**
+     * Get the number of content bytes which were sent.
+     *
+     * @return the number of sent content bytes.
+     */
+    public long bytesOut() {
+      return this.bytesOut.sum();
+    }
+
+    /**
+     * Get the number of packets which were handled.
+     *
+     * @return the number of handled packets.
+     */
+    public long handledPackets() {
+      return this.handledPackets.sum();
+    }
+
+    /**
+     * Get the number of packets which are currently waiting to be handled or are being handled.
+     *
+     * @return the current queue depth.
+     */
+    public int queueDepth() {
+      return this.queueDepth.get();
+    }
+
+    /**
+     * Get the highest number of packets that were waiting at the same time to be handled.
+     *
+     * @return the maximum queue depth.
+     */
+    public long maxQueueDepth() {
+      return this.maxQueueDepth.get();
+    }
+
+    /**
+     * Get the histogram of the (sampled) times packets spent waiting in the dispatcher queue.
+     *
+     * @return the queue time histogram.
+     */
+    public @NonNull NettyLatencyHistogram queueTime() {
+      return this.queueTime;
+    }
+
+    /**
+     * Get the histogram of the (sampled) times it took to handle packets.
+     *
+     * @return the handle time histogram.
+     */
+    public @NonNull NettyLatencyHistogram handleTime() {
+      return this.handleTime;
+    }
+
+    /**
+     * Creates a point-in-time snapshot of these metrics which can be serialized.
+     *
+     * @return a snapshot of these metrics.
+     */
+    public @NonNull Snapshot snapshot() {
+      return new Snapshot(
+        this.packetsIn(),
+        this.bytesIn(),
+        this.packetsOut(),
+        this.bytesOut(),
+        this.queueDepth(),
+        this.maxQueueDepth(),
+        this.queueTime.snapshot(),
+        this.handleTime.snapshot());
+    }
+
+    /**
+     * A point-in-time snapshot of the metrics of a packet channel.
+     *
+     * @param packetsIn     the number of received packets.
+     * @param bytesIn       the number of received content bytes.
+     * @param packetsOut    the number of sent packets.
+     * @param bytesOut      the number of sent content bytes.
+     * @param queueDepth    the number of packets currently waiting to be handled.
+     * @param maxQueueDepth the highest number of packets that were waiting at the same time.
+     * @param queueTime     the sampled times packets spent in the dispatcher queue.
+     * @param handleTime    the sampled times it took to handle packets.
+     * @since 4.0
+     */
+    public record Snapshot(
+      long packetsIn,
+      long bytesIn,
+      long packetsOut,
+      long bytesOut,
+      int queueDepth,
+      long maxQueueDepth,
+      @NonNull NettyLatencyHistogram.Snapshot queueTime,
+      @NonNull NettyLatencyHistogram.Snapshot handleTime
+    ) {
+
+    }
+  }
+}
@@ -42,6 +42,9 @@ public abstract class NettyNetworkHandler extends SimpleChannelInboundHandler<Ba
   protected final EventManager eventManager;
   protected volatile NettyNetworkChannel channel;
 
+  // only accessed from the event loop of the channel
+  private NettyPacketMailbox packetMailbox;
+
   /**
    * Constructs a new netty network handler instance.
    *
@@ -88,11 +91,45 @@ public void channelReadComplete(@NonNull ChannelHandlerContext ctx) {
    */
   @Override
   protected void messageReceived(@NonNull ChannelHandlerContext ctx, @NonNull BasePacket msg) {
+    var metrics = this.channel.metrics();
+    var queuedNanos = metrics.packetQueued(msg.channel(), msg.content().readableBytes());
+
     // post directly if the packet has a high priority
     if (msg.prioritized()) {
-      this.doHandlePacket(msg);
+      var startNanos = metrics.packetHandlingStarted(queuedNanos);
+      try {
+        this.doHandlePacket(msg);
+      } finally {
+        metrics.packetHandled(msg.channel(), queuedNanos, startNanos);
+      }
+      return;
+    }
+
+    Runnable handler = () -> {
+      var startNanos = metrics.packetHandlingStarted(queuedNanos);
+      try {
+        this.doHandlePacket(msg);
+      } finally {
+        metrics.packetHandled(msg.channel(), queuedNanos, startNanos);
+      }
+    };
+
+    if (NettyUtil.orderedPacketDispatch()) {
+      // complete waiting queries directly, the query response would otherwise wait behind packet handlers which might
+      // block until exactly this response arrives. The mailbox only serializes the handling of unsolicited packets
+      var startNanos = metrics.packetHandlingStarted(queuedNanos);
+      if (this.completeWaitingQuery(msg)) {
+        metrics.packetHandled(msg.channel(), queuedNanos, startNanos);
+        return;
+      }
+
+      // serialize the handling of all packets received on this channel
+      if (this.packetMailbox == null) {
+        this.packetMailbox = new NettyPacketMailbox(this.packetDispatcher());
+      }
+      this.packetMailbox.post(handler);
     } else {
-      this.packetDispatcher().execute(() -> this.doHandlePacket(msg));
+      this.packetDispatcher().execute(handler);
     }
   }
 
@@ -105,17 +142,9 @@ protected void messageReceived(@NonNull ChannelHandlerContext ctx, @NonNull Base
    */
   protected void doHandlePacket(@NonNull BasePacket packet) {
     try {
-      var uuid = packet.uniqueId();
-      if (uuid != null) {
-        var task = this.channel.queryPacketManager().waitingHandler(uuid);
-        if (task != null) {
-          // complete the waiting task
-          task.complete(packet);
-
-          // don't post a query response packet to another handler at all
-          // the packet might be inbound - we might be expected to respond
-          return;
-        }
+      // don't post a query response packet to another handler at all
+      if (this.completeWaitingQuery(packet)) {
+        return;
       }
 
       // check if any handler can handle the incoming packet
@@ -131,6 +160,27 @@ protected void doHandlePacket(@NonNull BasePacket packet) {
     }
   }
 
+  /**
+   * Completes the query task which is waiting for the given packet, if any. Packets which have a unique id but no
+   * waiting query task are inbound queries which we might be expected to respond to.
+   *
+   * @param packet the packet to complete the waiting query with.
+   * @return true if a waiting query task was completed with the given packet, false otherwise.
+   * @throws NullPointerException if the given packet is null.
+   */
+  protected boolean completeWaitingQuery(@NonNull BasePacket packet) {
+    var uuid = packet.uniqueId();
+    if (uuid != null) {
+      var task = this.channel.queryPacketManager().waitingHandler(uuid);
+      if (task != null) {
+        task.complete(packet);
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   /**
    * Get all channels which are connected to the underlying network component.
    *
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * A mailbox which serializes the execution of all tasks posted to it, while running them on a shared executor. At most
+ * one task of a mailbox is executed at the same time and tasks are executed in the order they were posted. To prevent a
+ * single busy mailbox from occupying an executor thread forever, the mailbox gives up its thread after a fixed amount
+ * of tasks and reschedules itself.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class NettyPacketMailbox implements Runnable {
+
+  private static final int MAX_TASKS_PER_RUN = 64;
+
+  private final Executor executor;
+  private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  /**
+   * Constructs a new mailbox instance.
+   *
+   * @param executor the executor to run the mailbox on.
+   * @throws NullPointerException if the given executor is null.
+   */
+  public NettyPacketMailbox(@NonNull Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Posts the given task into this mailbox, scheduling the mailbox for execution if it is not already scheduled.
+   *
+   * @param task the task to execute.
+   * @throws NullPointerException if the given task is null.
+   */
+  public void post(@NonNull Runnable task) {
+    this.tasks.offer(task);
+    this.scheduleIfNeeded();
+  }
+
+  /**
+   * Get the number of tasks that are waiting for execution in this mailbox.
+   *
+   * @return the number of waiting tasks.
+   */
+  public int waitingTasks() {
+    return this.tasks.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void run() {
+    try {
+      for (var i = 0; i < MAX_TASKS_PER_RUN; i++) {
+        var task = this.tasks.poll();
+        if (task == null) {
+          break;
+        }
+
+        task.run();
+      }
+    } finally {
+      // release the mailbox and re-schedule it if new tasks were posted in the meantime
+      this.scheduled.set(false);
+      if (!this.tasks.isEmpty()) {
+        this.scheduleIfNeeded();
+      }
+    }
+  }
+
+  /**
+   * Schedules this mailbox for execution on the underlying executor if it is not yet scheduled.
+   */
+  private void scheduleIfNeeded() {
+    if (this.scheduled.compareAndSet(false, true)) {
+      this.executor.execute(this);
+    }
+  }
+}
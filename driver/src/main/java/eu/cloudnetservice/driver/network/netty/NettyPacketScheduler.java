@@ -0,0 +1,259 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty;
+
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.util.concurrent.Future;
+import io.netty5.util.concurrent.Promise;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An outbound handler which schedules the packets written to a channel based on their priority class instead of
+ * writing them in the order they were written. Packets are held back in one queue per priority class and only up to
+ * {@code cloudnet.network.scheduler-in-flight-bytes} bytes (by default 1 MiB) are passed to the encoder but not yet
+ * written to the socket, so that a packet of a higher class never has to wait behind a full outbound buffer of packets
+ * from lower classes. The bytes held back by this handler are reported as pending outbound bytes of the channel, the
+ * channel therefore becomes unwritable once the held back packets exceed the write buffer water mark.
+ * <p>
+ * The queues are drained using a weighted round-robin, each class may write as many packets per round as its weight
+ * allows before the next class is served. This prevents starvation of the lower classes while still preferring the
+ * higher ones. The weights can be configured using the {@code cloudnet.network.priority-weight.high},
+ * {@code cloudnet.network.priority-weight.normal} and {@code cloudnet.network.priority-weight.bulk} system properties.
+ * Bulk packets are additionally limited to {@code cloudnet.network.bulk-in-flight-bytes} bytes (by default 256 KiB)
+ * which were passed to the encoder but not yet written to the socket.
+ * <p>
+ * The order of packets within the same priority class is retained. Only explicitly prioritized packets are sent in the
+ * highest class, query responses and all other packets which are not bulk packets share the normal class, so that a
+ * response never overtakes a packet which was written before it and might be required to process the response.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class NettyPacketScheduler implements ChannelHandler {
+
+  private static final int HIGH = 0;
+  private static final int NORMAL = 1;
+  private static final int BULK = 2;
+
+  private static final int[] WEIGHTS = new int[]{
+    Math.max(1, Integer.getInteger("cloudnet.network.priority-weight.high", 8)),
+    Math.max(1, Integer.getInteger("cloudnet.network.priority-weight.normal", 4)),
+    Math.max(1, Integer.getInteger("cloudnet.network.priority-weight.bulk", 1))};
+  private static final long MAX_BULK_IN_FLIGHT_BYTES = Long.getLong(
+    "cloudnet.network.bulk-in-flight-bytes",
+    256 * 1024);
+  private static final long MAX_IN_FLIGHT_BYTES = Math.max(1, Long.getLong(
+    "cloudnet.network.scheduler-in-flight-bytes",
+    1024 * 1024));
+
+  // all fields are only accessed from the event loop of the channel
+  @SuppressWarnings("unchecked")
+  private final Queue<PendingWrite>[] queues = new Queue[]{new ArrayDeque<>(), new ArrayDeque<>(), new ArrayDeque<>()};
+
+  private int currentClass;
+  private int remainingCredits = WEIGHTS[HIGH];
+  private long queuedBytes;
+  private long inFlightBytes;
+  private long bulkInFlightBytes;
+
+  /**
+   * Get the priority class of the given packet. Prioritized packets are sent with the highest priority, bulk packets
+   * with the lowest. All other packets, including query responses, are sent in the normal class and therefore keep
+   * their order relative to each other.
+   *
+   * @param packet the packet to get the priority class of.
+   * @return the priority class of the given packet.
+   * @throws NullPointerException if the given packet is null.
+   */
+  static int priorityClass(@NonNull Packet packet) {
+    if (packet.bulk()) {
+      return BULK;
+    }
+
+    return packet.prioritized() ? HIGH : NORMAL;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Future<Void> write(@NonNull ChannelHandlerContext ctx, @NonNull Object msg) {
+    if (msg instanceof Packet packet) {
+      // read the size now, the encoder releases the packet content
+      var pendingWrite = new PendingWrite(packet, packet.content().readableBytes(), ctx.newPromise());
+      this.queues[priorityClass(packet)].offer(pendingWrite);
+      this.queuedBytes += pendingWrite.bytes();
+      return pendingWrite.promise().asFuture();
+    }
+
+    return ctx.write(msg);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void flush(@NonNull ChannelHandlerContext ctx) {
+    this.drain(ctx);
+    ctx.flush();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long pendingOutboundBytes(@NonNull ChannelHandlerContext ctx) {
+    // the held back packets count towards the write buffer of the channel
+    return this.queuedBytes;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void channelInactive(@NonNull ChannelHandlerContext ctx) {
+    this.failPendingWrites();
+    ctx.fireChannelInactive();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handlerRemoved(@NonNull ChannelHandlerContext ctx) {
+    this.failPendingWrites();
+  }
+
+  /**
+   * Get the number of packets that are held back by this scheduler.
+   *
+   * @return the number of packets waiting to be written.
+   */
+  public int pendingWrites() {
+    var pending = 0;
+    for (var queue : this.queues) {
+      pending += queue.size();
+    }
+    return pending;
+  }
+
+  /**
+   * Passes the held back packets to the next handler as long as the bytes which were passed on but not yet written to
+   * the socket are below the limit.
+   *
+   * @param ctx the context of this handler.
+   * @return true if at least one packet was passed to the next handler, false otherwise.
+   * @throws NullPointerException if the given context is null.
+   */
+  private boolean drain(@NonNull ChannelHandlerContext ctx) {
+    if (!ctx.channel().isActive()) {
+      this.failPendingWrites();
+      return false;
+    }
+
+    var written = false;
+    while (this.inFlightBytes < MAX_IN_FLIGHT_BYTES) {
+      var pendingWrite = this.nextWrite();
+      if (pendingWrite == null) {
+        break;
+      }
+
+      // keep track of the bytes which are not yet written to the socket
+      var packetBytes = pendingWrite.bytes();
+      var bulk = priorityClass(pendingWrite.packet()) == BULK;
+      this.queuedBytes -= packetBytes;
+      this.inFlightBytes += packetBytes;
+      if (bulk) {
+        this.bulkInFlightBytes += packetBytes;
+      }
+
+      var future = ctx.write(pendingWrite.packet());
+      future.cascadeTo(pendingWrite.promise());
+      future.addListener(ignored -> {
+        this.inFlightBytes -= packetBytes;
+        if (bulk) {
+          this.bulkInFlightBytes -= packetBytes;
+        }
+
+        // continue writing the held back packets now that the outbound buffer drained
+        if (this.drain(ctx)) {
+          ctx.flush();
+        }
+      });
+      written = true;
+    }
+
+    return written;
+  }
+
+  /**
+   * Selects the next packet to write using a weighted round-robin over all priority classes.
+   *
+   * @return the next packet to write, null if no packet can be written at the moment.
+   */
+  private @Nullable PendingWrite nextWrite() {
+    // visit each class at most once more than there are classes, to give the current class a chance after a switch
+    for (var visited = 0; visited <= this.queues.length; visited++) {
+      var queue = this.queues[this.currentClass];
+      var blocked = this.currentClass == BULK && this.bulkInFlightBytes >= MAX_BULK_IN_FLIGHT_BYTES;
+      if (this.remainingCredits > 0 && !blocked && !queue.isEmpty()) {
+        this.remainingCredits--;
+        return queue.poll();
+      }
+
+      // switch to the next class and refill the credits
+      this.currentClass = (this.currentClass + 1) % this.queues.length;
+      this.remainingCredits = WEIGHTS[this.currentClass];
+    }
+
+    return null;
+  }
+
+  /**
+   * Fails the write futures of all packets which are held back and releases their content.
+   */
+  private void failPendingWrites() {
+    for (var queue : this.queues) {
+      PendingWrite pendingWrite;
+      while ((pendingWrite = queue.poll()) != null) {
+        pendingWrite.packet().content().release();
+        pendingWrite.promise().tryFailure(new ClosedChannelException());
+      }
+    }
+
+    this.queuedBytes = 0;
+  }
+
+  /**
+   * A packet which is held back until it can be written.
+   *
+   * @param packet  the packet to write.
+   * @param bytes   the number of content bytes of the packet.
+   * @param promise the promise to complete once the packet was written.
+   * @since 4.0
+   */
+  private record PendingWrite(@NonNull Packet packet, long bytes, @NonNull Promise<Void> promise) {
+
+  }
+}
@@ -35,8 +35,14 @@
 import io.netty5.channel.nio.NioHandler;
 import io.netty5.channel.socket.nio.NioServerSocketChannel;
 import io.netty5.channel.socket.nio.NioSocketChannel;
+import io.netty5.channel.uring.IOUring;
+import io.netty5.channel.uring.IOUringHandler;
+import io.netty5.channel.uring.IOUringServerSocketChannel;
+import io.netty5.channel.uring.IOUringSocketChannel;
+import java.net.StandardProtocolFamily;
 import java.util.function.Supplier;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Holds all supported transport types and functionality to retrieve model instances for servers/clients construction.
@@ -45,13 +51,25 @@
  */
 public enum NettyTransport {
 
+  IO_URING(
+    "io_uring",
+    IOUring.isAvailable(),
+    true,
+    IOUringHandler::newFactory,
+    IOUringSocketChannel::new,
+    IOUringServerSocketChannel::new,
+    null,
+    null
+  ),
   EPOLL(
     "epoll",
     Epoll.isAvailable(),
     true,
     EpollHandler::newFactory,
     EpollSocketChannel::new,
-    EpollServerSocketChannel::new
+    EpollServerSocketChannel::new,
+    eventLoop -> new EpollSocketChannel(eventLoop, StandardProtocolFamily.UNIX),
+    (eventLoop, childGroup) -> new EpollServerSocketChannel(eventLoop, childGroup, StandardProtocolFamily.UNIX)
   ),
   KQUEUE(
     "kqueue",
@@ -59,7 +77,9 @@ public enum NettyTransport {
     true,
     KQueueHandler::newFactory,
     KQueueSocketChannel::new,
-    KQueueServerSocketChannel::new
+    KQueueServerSocketChannel::new,
+    eventLoop -> new KQueueSocketChannel(eventLoop, StandardProtocolFamily.UNIX),
+    (eventLoop, childGroup) -> new KQueueServerSocketChannel(eventLoop, childGroup, StandardProtocolFamily.UNIX)
   ),
   NIO(
     "nio",
@@ -67,7 +87,9 @@ public enum NettyTransport {
     false,
     NioHandler::newFactory,
     NioSocketChannel::new,
-    NioServerSocketChannel::new
+    NioServerSocketChannel::new,
+    null,
+    null
   );
 
   private final String name;
@@ -76,6 +98,8 @@ public enum NettyTransport {
   private final Supplier<IoHandlerFactory> ioHandlerFactory;
   private final ChannelFactory<? extends Channel> clientChannelFactory;
   private final ServerChannelFactory<? extends ServerChannel> serverChannelFactory;
+  private final ChannelFactory<? extends Channel> domainSocketClientChannelFactory;
+  private final ServerChannelFactory<? extends ServerChannel> domainSocketServerChannelFactory;
 
   /**
    * Constructs a new netty transport instance.
@@ -86,7 +110,9 @@ public enum NettyTransport {
    * @param ioHandlerFactory     the factory for io handlers.
    * @param clientChannelFactory the factory for client channels.
    * @param serverChannelFactory the factory for server channels.
-   * @throws NullPointerException if one of the given parameters is null.
+   * @param domainClientFactory  the factory for unix domain socket client channels, null if not supported.
+   * @param domainServerFactory  the factory for unix domain socket server channels, null if not supported.
+   * @throws NullPointerException if one of the required parameters is null.
    */
   NettyTransport(
     @NonNull String name,
@@ -94,7 +120,9 @@ public enum NettyTransport {
     boolean nativeTransport,
     @NonNull Supplier<IoHandlerFactory> ioHandlerFactory,
     @NonNull ChannelFactory<? extends Channel> clientChannelFactory,
-    @NonNull ServerChannelFactory<? extends ServerChannel> serverChannelFactory
+    @NonNull ServerChannelFactory<? extends ServerChannel> serverChannelFactory,
+    @Nullable ChannelFactory<? extends Channel> domainClientFactory,
+    @Nullable ServerChannelFactory<? extends ServerChannel> domainServerFactory
   ) {
     this.name = name;
     this.available = available;
@@ -102,23 +130,44 @@ public enum NettyTransport {
     this.ioHandlerFactory = Suppliers.memoize(ioHandlerFactory::get);
     this.clientChannelFactory = clientChannelFactory;
     this.serverChannelFactory = serverChannelFactory;
+    this.domainSocketClientChannelFactory = domainClientFactory;
+    this.domainSocketServerChannelFactory = domainServerFactory;
   }
 
   /**
    * Selects and returns the first available transport. If this method should not return native transports, it currently
-   * only returns nio.
+   * only returns nio. This method is equivalent to {@code availableTransport(noNative, false)}.
    *
    * @param noNative if no native transport should get included into the selection.
    * @return the first available transport.
    * @throws IllegalStateException if no transport is available, should normally never happen.
    */
   public static @NonNull NettyTransport availableTransport(boolean noNative) {
+    return availableTransport(noNative, false);
+  }
+
+  /**
+   * Selects and returns the first available transport. If this method should not return native transports, it currently
+   * only returns nio. If io_uring should not be used, the next available transport is selected (for example epoll on
+   * linux systems).
+   *
+   * @param noNative  if no native transport should get included into the selection.
+   * @param noIoUring if the io_uring transport should not get included into the selection.
+   * @return the first available transport.
+   * @throws IllegalStateException if no transport is available, should normally never happen.
+   */
+  public static @NonNull NettyTransport availableTransport(boolean noNative, boolean noIoUring) {
     for (var transport : values()) {
       // ignore native transports if no-native is selected
       if (noNative && transport.nativeTransport()) {
         continue;
       }
 
+      // ignore io_uring if it was explicitly disabled
+      if (noIoUring && transport == IO_URING) {
+        continue;
+      }
+
       // use the first available transport
       if (transport.available) {
         return transport;
@@ -128,6 +177,24 @@ public enum NettyTransport {
     throw new IllegalStateException("Unable to select an available netty transport!");
   }
 
+  /**
+   * Selects and returns the first available transport which supports unix domain sockets. As domain sockets are only
+   * supported by native transports, this method always returns null if native transports should not be used.
+   *
+   * @param noNative if no native transport should get included into the selection.
+   * @return the first available transport supporting unix domain sockets, null if no such transport is available.
+   */
+  public static @Nullable NettyTransport availableDomainSocketTransport(boolean noNative) {
+    if (!noNative) {
+      for (var transport : values()) {
+        if (transport.available && transport.supportsDomainSockets()) {
+          return transport;
+        }
+      }
+    }
+    return null;
+  }
+
   /**
    * Creates a new event loop group of the current selected transport with the supplied amount of threads.
    *
@@ -174,4 +241,31 @@ public boolean nativeTransport() {
   public @NonNull ServerChannelFactory<? extends ServerChannel> serverChannelFactory() {
     return this.serverChannelFactory;
   }
+
+  /**
+   * Get if this transport supports unix domain socket channels.
+   *
+   * @return true if this transport supports unix domain sockets, false otherwise.
+   */
+  public boolean supportsDomainSockets() {
+    return this.domainSocketClientChannelFactory != null && this.domainSocketServerChannelFactory != null;
+  }
+
+  /**
+   * Get the factory for unix domain socket client channels of this transport.
+   *
+   * @return the factory for domain socket client channels, null if this transport doesn't support domain sockets.
+   */
+  public @Nullable ChannelFactory<? extends Channel> domainSocketClientChannelFactory() {
+    return this.domainSocketClientChannelFactory;
+  }
+
+  /**
+   * Get the factory for unix domain socket server channels of this transport.
+   *
+   * @return the factory for domain socket server channels, null if this transport doesn't support domain sockets.
+   */
+  public @Nullable ServerChannelFactory<? extends ServerChannel> domainSocketServerChannelFactory() {
+    return this.domainSocketServerChannelFactory;
+  }
 }
@@ -17,6 +17,7 @@
 package eu.cloudnetservice.driver.network.netty;
 
 import eu.cloudnetservice.driver.DriverEnvironment;
+import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import io.netty5.buffer.Buffer;
 import io.netty5.buffer.BufferUtil;
@@ -28,11 +29,15 @@
 import io.netty5.handler.codec.DecoderException;
 import io.netty5.util.ResourceLeakDetector;
 import io.netty5.util.concurrent.Future;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
@@ -52,8 +57,16 @@ public final class NettyUtil {
   private static final int[] VAR_INT_BYTE_LENGTHS = new int[33];
   // transport
   private static final boolean NO_NATIVE_TRANSPORT = Boolean.getBoolean("cloudnet.no-native");
-  private static final NettyTransport CURR_NETTY_TRANSPORT = NettyTransport.availableTransport(NO_NATIVE_TRANSPORT);
+  private static final boolean NO_IO_URING_TRANSPORT = Boolean.getBoolean("cloudnet.no-io-uring");
+  private static final NettyTransport CURR_NETTY_TRANSPORT = NettyTransport.availableTransport(
+    NO_NATIVE_TRANSPORT,
+    NO_IO_URING_TRANSPORT);
+  private static final NettyTransport DOMAIN_SOCKET_TRANSPORT = CURR_NETTY_TRANSPORT.supportsDomainSockets()
+    ? CURR_NETTY_TRANSPORT
+    : NettyTransport.availableDomainSocketTransport(NO_NATIVE_TRANSPORT);
   // packet thread handling
+  private static final boolean ORDERED_PACKET_DISPATCH = Boolean.getBoolean("cloudnet.network.ordered-dispatch");
+  private static final int METRICS_SAMPLE_RATE = Integer.getInteger("cloudnet.network.metrics-sample-rate", 16);
   private static final RejectedExecutionHandler DEFAULT_REJECT_HANDLER = new ThreadPoolExecutor.CallerRunsPolicy();
 
   static {
@@ -105,10 +118,37 @@ private NettyUtil() {
   }
 
   /**
-   * Creates a new nio or epoll event loop group based on their availability.
+   * Get if packets received on a channel should be dispatched in the order they were received. If enabled, each
+   * channel gets a mailbox which serializes the handling of all non-prioritized packets received on the channel while
+   * running on the shared packet dispatcher. Responses to queries are not ordered, they complete the waiting query
+   * directly when received. This setting can be enabled using the
+   * {@code cloudnet.network.ordered-dispatch} system property.
+   *
+   * @return true if packets should be dispatched in order per channel, false otherwise.
+   */
+  public static boolean orderedPacketDispatch() {
+    return ORDERED_PACKET_DISPATCH;
+  }
+
+  /**
+   * Get if the timings (queue, handling and query round-trip time) of the current packet should be recorded into the
+   * network metrics. Only one in {@code cloudnet.network.metrics-sample-rate} packets (by default 16) is sampled to
+   * keep the overhead low, a sample rate of 1 records every packet while a value of 0 or less disables the timing
+   * sampling. Packet and byte counters are always recorded, regardless of this setting.
+   *
+   * @return true if the timings of the current packet should be recorded, false otherwise.
+   */
+  public static boolean sampleMetrics() {
+    return METRICS_SAMPLE_RATE > 0
+      && (METRICS_SAMPLE_RATE == 1 || ThreadLocalRandom.current().nextInt(METRICS_SAMPLE_RATE) == 0);
+  }
+
+  /**
+   * Creates a new event loop group of the selected transport (io_uring, epoll, kqueue or nio) based on their
+   * availability.
    *
    * @param threads the number of threads to use for the event loop.
-   * @return a new nio or epoll event loop group.
+   * @return a new event loop group of the selected transport.
    */
   public static @NonNull EventLoopGroup newEventLoopGroup(int threads) {
     return CURR_NETTY_TRANSPORT.createEventLoopGroup(threads);
@@ -132,6 +172,48 @@ private NettyUtil() {
     return CURR_NETTY_TRANSPORT.serverChannelFactory();
   }
 
+  /**
+   * Get the transport which should be used for unix domain socket channels. This is the selected transport if it
+   * supports domain sockets, otherwise the first available native transport that supports them (for example epoll if
+   * io_uring is the selected transport).
+   *
+   * @return the transport to use for domain socket channels, null if domain sockets are not supported.
+   */
+  public static @Nullable NettyTransport domainSocketTransport() {
+    return DOMAIN_SOCKET_TRANSPORT;
+  }
+
+  /**
+   * Creates a dedicated event loop group for unix domain socket channels if the transport that supports domain sockets
+   * differs from the selected transport. In all other cases null is returned as the event loop groups of the selected
+   * transport can be used for domain socket channels as well.
+   *
+   * @param threads the number of threads to use for the event loop.
+   * @return a new event loop group for domain socket channels, null if not needed or domain sockets are unsupported.
+   */
+  public static @Nullable EventLoopGroup newDomainSocketEventLoopGroup(int threads) {
+    if (DOMAIN_SOCKET_TRANSPORT == null || DOMAIN_SOCKET_TRANSPORT == CURR_NETTY_TRANSPORT) {
+      return null;
+    }
+    return DOMAIN_SOCKET_TRANSPORT.createEventLoopGroup(threads);
+  }
+
+  /**
+   * Converts the given host and port into a socket address which can be used to bind or connect a channel. A host and
+   * port without a valid port is treated as the path to a unix domain socket.
+   *
+   * @param hostAndPort the host and port to convert.
+   * @return a socket address representing the given host and port.
+   * @throws NullPointerException if the given host and port is null.
+   */
+  public static @NonNull SocketAddress socketAddress(@NonNull HostAndPort hostAndPort) {
+    if (hostAndPort.validPort()) {
+      return new InetSocketAddress(hostAndPort.host(), hostAndPort.port());
+    } else {
+      return UnixDomainSocketAddress.of(hostAndPort.host());
+    }
+  }
+
   /**
    * Writes the given integer value as a var int into the buffer.
    *
@@ -75,6 +75,21 @@ protected NettyDataBufFactory() {
     return new NettyImmutableDataBuf(buffer.copy(0, buffer.readableBytes(), true));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull DataBuf sharedCopyOf(@NonNull DataBuf dataBuf) {
+    Preconditions.checkArgument(dataBuf instanceof NettyImmutableDataBuf, "Factory only supports netty data buf copy");
+
+    // readonly copies of a readonly buffer share the memory of the buffer instead of copying it
+    var buffer = ((NettyImmutableDataBuf) dataBuf).buffer();
+    if (!buffer.readOnly()) {
+      buffer.makeReadOnly();
+    }
+    return new NettyImmutableDataBuf(buffer.copy(buffer.readerOffset(), buffer.readableBytes(), true));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -78,6 +78,14 @@ public int readInt() {
     return this.hotRead(Buffer::readInt);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int readVarInt() {
+    return this.hotRead(NettyUtil::readVarInt);
+  }
+
   /**
    * {@inheritDoc}
    */
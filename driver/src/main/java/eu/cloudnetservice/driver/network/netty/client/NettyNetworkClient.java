@@ -59,6 +59,7 @@ public class NettyNetworkClient implements DefaultNetworkComponent, NetworkClien
   private static final WriteBufferWaterMark WATER_MARK = new WriteBufferWaterMark(1 << 20, 1 << 21);
 
   protected final EventLoopGroup eventLoopGroup = NettyUtil.newEventLoopGroup(0);
+  protected final EventLoopGroup domainSocketEventLoopGroup = NettyUtil.newDomainSocketEventLoopGroup(0);
 
   protected final Collection<NetworkChannel> channels = ConcurrentHashMap.newKeySet();
   protected final PacketListenerRegistry packetRegistry = new DefaultPacketListenerRegistry();
@@ -126,6 +127,11 @@ public boolean sslEnabled() {
    */
   @Override
   public @NonNull Task<Void> connect(@NonNull HostAndPort hostAndPort) {
+    // a host and port without a port represents the path to a unix domain socket
+    if (!hostAndPort.validPort()) {
+      return this.connectDomainSocket(hostAndPort);
+    }
+
     Task<Void> result = new Task<>();
     new Bootstrap()
       .group(this.eventLoopGroup)
@@ -153,6 +159,47 @@ public boolean sslEnabled() {
     return result;
   }
 
+  /**
+   * Connects to the unix domain socket at the path given as the host of the given host and port. The returned task is
+   * completed exceptionally if no available transport supports unix domain sockets.
+   *
+   * @param socketPath the host and port holding the path to the socket file as the host.
+   * @return a task completed when the connection was established successfully.
+   * @throws NullPointerException if the given socket path is null.
+   */
+  protected @NonNull Task<Void> connectDomainSocket(@NonNull HostAndPort socketPath) {
+    var transport = NettyUtil.domainSocketTransport();
+    if (transport == null || transport.domainSocketClientChannelFactory() == null) {
+      return Task.completedTask(new UnsupportedOperationException("No transport supports unix domain sockets"));
+    }
+
+    // the event loop group must match the transport of the channel
+    var eventLoopGroup = transport == NettyUtil.selectedNettyTransport()
+      ? this.eventLoopGroup
+      : this.domainSocketEventLoopGroup;
+
+    Task<Void> result = new Task<>();
+    new Bootstrap()
+      .group(eventLoopGroup)
+      .channelFactory(transport.domainSocketClientChannelFactory())
+      .handler(new NettyNetworkClientInitializer(socketPath, this.eventManager, this)
+        .option(ChannelOption.AUTO_READ, true)
+        .option(ChannelOption.WRITE_BUFFER_WATER_MARK, WATER_MARK)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECTION_TIMEOUT_MILLIS))
+      .connect(NettyUtil.socketAddress(socketPath))
+      .addListener(future -> {
+        if (future.isSuccess()) {
+          // ok, we connected successfully
+          result.complete(null);
+        } else {
+          // something went wrong
+          result.completeExceptionally(future.cause());
+        }
+      });
+
+    return result;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -160,6 +207,9 @@ public boolean sslEnabled() {
   public void close() {
     this.closeChannels();
     this.eventLoopGroup.shutdownGracefully();
+    if (this.domainSocketEventLoopGroup != null) {
+      this.domainSocketEventLoopGroup.shutdownGracefully();
+    }
   }
 
   /**
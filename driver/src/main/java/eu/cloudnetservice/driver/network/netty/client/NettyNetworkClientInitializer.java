@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.netty.NettyOptionSettingChannelInitializer;
+import eu.cloudnetservice.driver.network.netty.NettyPacketScheduler;
 import eu.cloudnetservice.driver.network.netty.codec.NettyPacketDecoder;
 import eu.cloudnetservice.driver.network.netty.codec.NettyPacketEncoder;
 import eu.cloudnetservice.driver.network.netty.codec.VarInt32FrameDecoder;
@@ -72,6 +73,7 @@ protected void doInitChannel(@NonNull Channel channel) {
       .addLast("packet-decoder", new NettyPacketDecoder())
       .addLast("packet-length-serializer", VarInt32FramePrepender.INSTANCE)
       .addLast("packet-encoder", NettyPacketEncoder.INSTANCE)
+      .addLast("packet-scheduler", new NettyPacketScheduler())
       .addLast("network-client-handler",
         new NettyNetworkClientHandler(this.eventManager, this.nettyNetworkClient, this.hostAndPort));
   }
@@ -38,6 +38,9 @@
 import io.netty5.channel.unix.UnixChannelOption;
 import io.netty5.util.concurrent.Future;
 import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -59,6 +62,7 @@ public class NettyNetworkServer extends NettySslServer implements DefaultNetwork
 
   protected final EventLoopGroup bossEventLoopGroup = NettyUtil.newEventLoopGroup(1);
   protected final EventLoopGroup workerEventLoopGroup = NettyUtil.newEventLoopGroup(0);
+  protected final EventLoopGroup domainSocketEventLoopGroup = NettyUtil.newDomainSocketEventLoopGroup(0);
 
   protected final Collection<NetworkChannel> channels = ConcurrentHashMap.newKeySet();
   protected final Map<HostAndPort, Future<Void>> channelFutures = new ConcurrentHashMap<>();
@@ -133,6 +137,11 @@ public boolean sslEnabled() {
    */
   @Override
   public @NonNull Task<Void> addListener(@NonNull HostAndPort hostAndPort) {
+    // a host and port without a port represents the path to a unix domain socket
+    if (!hostAndPort.validPort()) {
+      return this.addDomainSocketListener(hostAndPort);
+    }
+
     Task<Void> result = new Task<>();
     new ServerBootstrap()
       .channelFactory(NettyUtil.serverChannelFactory())
@@ -165,6 +174,55 @@ public boolean sslEnabled() {
     return result;
   }
 
+  /**
+   * Binds a new listener to the unix domain socket at the path given as the host of the given host and port. A stale
+   * socket file at the given path is removed before binding. The returned task is completed exceptionally if no
+   * available transport supports unix domain sockets.
+   *
+   * @param socketPath the host and port holding the path to the socket file as the host.
+   * @return a task completed when the listener was bound successfully.
+   * @throws NullPointerException if the given socket path is null.
+   */
+  protected @NonNull Task<Void> addDomainSocketListener(@NonNull HostAndPort socketPath) {
+    var transport = NettyUtil.domainSocketTransport();
+    if (transport == null || transport.domainSocketServerChannelFactory() == null) {
+      return Task.completedTask(new UnsupportedOperationException("No transport supports unix domain sockets"));
+    }
+
+    try {
+      // remove the socket file of a previous run, binding would fail otherwise
+      Files.deleteIfExists(Path.of(socketPath.host()));
+    } catch (IOException exception) {
+      return Task.completedTask(exception);
+    }
+
+    // the event loop group must match the transport of the channel
+    var eventLoopGroup = transport == NettyUtil.selectedNettyTransport()
+      ? this.workerEventLoopGroup
+      : this.domainSocketEventLoopGroup;
+
+    Task<Void> result = new Task<>();
+    new ServerBootstrap()
+      .channelFactory(transport.domainSocketServerChannelFactory())
+      .group(eventLoopGroup, eventLoopGroup)
+      .childHandler(new NettyNetworkServerInitializer(this.eventManager, this, socketPath)
+        .option(ChannelOption.AUTO_READ, true)
+        .option(ChannelOption.WRITE_BUFFER_WATER_MARK, WATER_MARK))
+      .bind(NettyUtil.socketAddress(socketPath))
+      .addListener(future -> {
+        if (future.isSuccess()) {
+          // ok, we bound successfully
+          result.complete(null);
+          this.channelFutures.put(socketPath, future.getNow().closeFuture());
+        } else {
+          // something went wrong
+          result.completeExceptionally(future.cause());
+        }
+      });
+
+    return result;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -178,6 +236,9 @@ public void close() {
 
     this.bossEventLoopGroup.shutdownGracefully();
     this.workerEventLoopGroup.shutdownGracefully();
+    if (this.domainSocketEventLoopGroup != null) {
+      this.domainSocketEventLoopGroup.shutdownGracefully();
+    }
   }
 
   /**
@@ -104,11 +104,26 @@ public interface Packet {
    * This option should be used with care, as each thread which will normally read from the channel will be blocked with
    * the packet handling of this packet. Blocking the handler thread too long will cause other packets to be delayed for
    * no visible reason.
+   * <p>
+   * Prioritized packets are also sent with the highest outbound priority, meaning that they are written to the network
+   * before other packets which are waiting to be written on the same channel.
    *
    * @return if this packet is prioritized.
    */
   boolean prioritized();
 
+  /**
+   * Get if this packet is part of a bulk transfer, for example a chunk of a file transfer. Bulk packets are sent with
+   * the lowest outbound priority and the amount of bulk data waiting to be written to the network is limited. This
+   * prevents huge transfers from delaying latency-critical packets, but means that bulk packets might be sent after
+   * packets which were written later on the same channel. The order of bulk packets between each other is retained.
+   *
+   * @return if this packet is part of a bulk transfer.
+   */
+  default boolean bulk() {
+    return false;
+  }
+
   /**
    * Get if this packet still has readable bytes left. Useful to verify that from a packet can actually be read instead
    * of running into exceptions because the end of the buffer has been reached.
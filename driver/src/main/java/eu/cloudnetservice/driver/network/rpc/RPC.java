@@ -16,7 +16,10 @@
 
 package eu.cloudnetservice.driver.network.rpc;
 
+import eu.cloudnetservice.driver.network.NetworkChannel;
 import java.lang.reflect.Type;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 import lombok.NonNull;
 
 /**
@@ -90,4 +93,50 @@ public interface RPC extends RPCProvider, RPCExecutable, ChainableRPC {
    * @return true if the current rpc expects a result from the target network component, false otherwise.
    */
   boolean expectsResult();
+
+  /**
+   * Fires this rpc into the first channel of the associated network component and streams the result of the method
+   * back in chunks instead of a single response. Iterables, iterators, streams and arrays returned by the remote method
+   * are streamed element by element. The request is sent once a subscriber subscribes to the returned publisher, the
+   * remote only sends more elements when the subscriber requests them. The returned publisher only supports a single
+   * subscriber.
+   *
+   * @param <T> the type of the elements in the stream.
+   * @return a publisher of the elements returned by the remote method.
+   * @throws NullPointerException if the associated network component has no channels available.
+   */
+  @NonNull <T> Flow.Publisher<T> fireStream();
+
+  /**
+   * Fires this rpc into the given network channel and streams the result of the method back in chunks instead of a
+   * single response. See {@link #fireStream()} for further details.
+   *
+   * @param component the network channel to which the rpc should be sent.
+   * @param <T>       the type of the elements in the stream.
+   * @return a publisher of the elements returned by the remote method.
+   * @throws NullPointerException if the given network channel is null.
+   */
+  @NonNull <T> Flow.Publisher<T> fireStream(@NonNull NetworkChannel component);
+
+  /**
+   * Fires this rpc into the first channel of the associated network component and returns a blocking stream of the
+   * elements returned by the remote method. Consuming the stream suspends the calling thread until the next element is
+   * available. The stream should be closed when not fully consumed, to stop the remote from producing more elements.
+   *
+   * @param <T> the type of the elements in the stream.
+   * @return a blocking stream of the elements returned by the remote method.
+   * @throws NullPointerException if the associated network component has no channels available.
+   */
+  @NonNull <T> Stream<T> fireStreamSync();
+
+  /**
+   * Fires this rpc into the given network channel and returns a blocking stream of the elements returned by the remote
+   * method. See {@link #fireStreamSync()} for further details.
+   *
+   * @param component the network channel to which the rpc should be sent.
+   * @param <T>       the type of the elements in the stream.
+   * @return a blocking stream of the elements returned by the remote method.
+   * @throws NullPointerException if the given network channel is null.
+   */
+  @NonNull <T> Stream<T> fireStreamSync(@NonNull NetworkChannel component);
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc;
+
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import java.util.List;
+import lombok.NonNull;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * A batch of independent rpcs which are sent to the remote component in a single packet. Other than the calls in a
+ * {@link RPCChain}, the rpcs in a batch don't operate on the result of the previous call. The remote executes all rpcs
+ * of the batch, optionally in parallel, and sends the results of all calls back in a single response. This allows to
+ * fetch a lot of unrelated information using one round-trip instead of one round-trip per call.
+ * <p>
+ * Each rpc added to a batch results in a separate task which gets completed with the result of the rpc once the
+ * response of the batch was received. An exception thrown by one rpc only completes the task of that rpc
+ * exceptionally. A batch can only be fired once.
+ *
+ * @since 4.0
+ */
+public interface RPCBatch {
+
+  /**
+   * Adds the given rpc to this batch. The returned task gets completed once the response of this batch is received,
+   * with either the result of the rpc or the exception thrown during the execution of the rpc.
+   *
+   * @param rpc the rpc to add to this batch.
+   * @param <T> the expected result type of the rpc.
+   * @return a task completed with the result of the given rpc.
+   * @throws NullPointerException  if the given rpc is null.
+   * @throws IllegalStateException if this batch was already fired.
+   */
+  @NonNull <T> Task<T> add(@NonNull RPC rpc);
+
+  /**
+   * Get all rpcs which were added to this batch, in the order in which they were added.
+   *
+   * @return all rpcs which were added to this batch.
+   */
+  @NonNull
+  @UnmodifiableView List<RPC> rpcs();
+
+  /**
+   * Sets if the remote is allowed to execute the rpcs of this batch in parallel. If disabled (the default) all rpcs
+   * are executed sequentially in the order in which they were added to this batch.
+   *
+   * @param parallel true if the rpcs of this batch can be executed in parallel, false otherwise.
+   * @return the same batch as used to call the method, for chaining.
+   */
+  @NonNull RPCBatch parallel(boolean parallel);
+
+  /**
+   * Get if the remote is allowed to execute the rpcs of this batch in parallel.
+   *
+   * @return true if the rpcs of this batch can be executed in parallel, false otherwise.
+   */
+  boolean parallel();
+
+  /**
+   * Sends this batch to the first channel of the network component associated with the sender of the first rpc in
+   * this batch. The task of each rpc is completed before the returned task is completed.
+   *
+   * @return a task completed once the results of all rpcs in this batch were received.
+   * @throws IllegalStateException if this batch was already fired.
+   */
+  @NonNull Task<Void> fire();
+
+  /**
+   * Sends this batch to the given network channel. The task of each rpc is completed before the returned task is
+   * completed.
+   *
+   * @param channel the channel to send the batch to.
+   * @return a task completed once the results of all rpcs in this batch were received.
+   * @throws NullPointerException  if the given channel is null.
+   * @throws IllegalStateException if this batch was already fired.
+   */
+  @NonNull Task<Void> fire(@NonNull NetworkChannel channel);
+}
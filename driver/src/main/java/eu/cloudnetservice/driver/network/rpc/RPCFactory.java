@@ -161,6 +161,13 @@ public interface RPCFactory {
     @NonNull Class<T> chainBaseClass,
     @NonNull GenerationContext context);
 
+  /**
+   * Constructs a new, empty batch of rpcs which are sent to the remote in a single packet.
+   *
+   * @return a new, empty rpc batch.
+   */
+  @NonNull RPCBatch newBatch();
+
   /**
    * Constructs a new rpc handler for the given class.
    *
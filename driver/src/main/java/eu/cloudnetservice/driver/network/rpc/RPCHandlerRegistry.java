@@ -29,6 +29,12 @@
  */
 public interface RPCHandlerRegistry {
 
+  /**
+   * The method id which is sent in the response to a rpc that targets a method id unknown to the handler registry.
+   * The sender should forget all method ids it knows for the remote and resend the rpc using the method name.
+   */
+  int UNKNOWN_METHOD_ID = -1;
+
   /**
    * Get all handlers which are registered to this registry. The keys of the map is the target class of the handler
    * registered as its value.
@@ -123,4 +129,39 @@ public interface RPCHandlerRegistry {
    * @throws NullPointerException if the given class loader is null.
    */
   void unregisterHandlers(@NonNull ClassLoader classLoader);
+
+  /**
+   * Interns the given method of the given target class, assigning it a unique id which is valid for the lifetime of
+   * this registry. The id is sent back to the caller of a rpc, allowing it to send the id instead of the class and
+   * method name with subsequent calls on the same channel. Calling this method multiple times with the same class and
+   * method name always returns the same id. An id is never zero, that id is reserved to indicate that the class and
+   * method name are sent instead.
+   *
+   * @param targetClassName the name of the class in which the method is located.
+   * @param methodName      the name of the method to intern.
+   * @return the id assigned to the given method.
+   * @throws NullPointerException if the given class or method name is null.
+   */
+  int internMethod(@NonNull String targetClassName, @NonNull String methodName);
+
+  /**
+   * Get the method which was interned by this registry using the given id, null if no method with the given id was
+   * interned previously.
+   *
+   * @param methodId the id of the interned method to get.
+   * @return the method interned with the given id or null if the id is unknown.
+   */
+  @Nullable InternedMethod internedMethod(int methodId);
+
+  /**
+   * A method of a target class which was interned by a rpc handler registry.
+   *
+   * @param id              the id assigned to the method, zero if the method is not interned.
+   * @param targetClassName the name of the class in which the method is located.
+   * @param methodName      the name of the method.
+   * @since 4.0
+   */
+  record InternedMethod(int id, @NonNull String targetClassName, @NonNull String methodName) {
+
+  }
 }
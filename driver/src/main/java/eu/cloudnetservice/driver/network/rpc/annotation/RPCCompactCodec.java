@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation which can be added to a data class to indicate that a compact codec should be generated for it instead
+ * of the default data class serializer. The compact codec writes primitive fields directly into the buffer and only
+ * resolves the serializers of the other fields through the object mapper.
+ * <p>
+ * The fields are written in their declaration order, therefore fields must not be removed or reordered once the class
+ * was released. New fields must be annotated with {@link RPCFieldSince}, they are written into a separate section which
+ * is skipped by components which do not know about the field yet. Fields which were not sent by the other component
+ * are initialized to their default value ({@code null}, {@code 0} or {@code false}).
+ * <p>
+ * Note that the wire format of a class changes when adding this annotation to it, this must happen in a release which
+ * breaks the network compatibility anyway.
+ *
+ * @since 4.0
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RPCCompactCodec {
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation which can be added to a field of a data class annotated with {@link RPCCompactCodec} to indicate that
+ * the field was added after the first release of the class. These fields are written into a separate section of the
+ * serialized class, ordered by their schema version and declaration order, which allows components that do not know
+ * about the field yet to skip it.
+ *
+ * @since 4.0
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RPCFieldSince {
+
+  /**
+   * Get the schema version of the data class in which the field was added. The version must be greater than zero.
+   *
+   * @return the schema version in which the field was added.
+   */
+  int value();
+}
@@ -23,6 +23,7 @@
 import io.leangen.geantyref.GenericTypeReflector;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletionStage;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
@@ -36,8 +37,10 @@ public class MethodInformation {
 
   private final String name;
   private final Type returnType;
+  private final Type resultType;
   private final Type[] arguments;
   private final boolean voidMethod;
+  private final boolean asyncMethod;
   private final Object sourceInstance;
   private final Class<?> rawReturnType;
   private final Class<?> definingClass;
@@ -68,6 +71,8 @@ protected MethodInformation(
     this.voidMethod = rType.equals(void.class);
     this.sourceInstance = sourceInstance;
     this.rawReturnType = GenericTypeReflector.erase(rType);
+    this.asyncMethod = CompletionStage.class.isAssignableFrom(this.rawReturnType);
+    this.resultType = this.asyncMethod ? resolveAsyncResultType(rType) : rType;
     this.definingClass = definingClass;
     this.methodInvoker = generator == null ? null : generator.makeMethodInvoker(this);
   }
@@ -122,6 +127,19 @@ protected MethodInformation(
       generator);
   }
 
+  /**
+   * Resolves the type of the value the given completion stage type gets completed with. If the type can't be resolved
+   * (for example when using a raw type) object is returned.
+   *
+   * @param stageType the completion stage type to resolve the result type of.
+   * @return the type of the value the given completion stage type gets completed with.
+   * @throws NullPointerException if the given type is null.
+   */
+  private static @NonNull Type resolveAsyncResultType(@NonNull Type stageType) {
+    var resultType = GenericTypeReflector.getTypeParameter(stageType, CompletionStage.class.getTypeParameters()[0]);
+    return resultType == null ? Object.class : resultType;
+  }
+
   /**
    * Get the name of the underlying method.
    *
@@ -140,6 +158,17 @@ protected MethodInformation(
     return this.returnType;
   }
 
+  /**
+   * Get the type of the result the caller of the underlying method receives. For methods returning a completion stage
+   * (for example a task) this is the type of the value the stage gets completed with, for all other methods this is
+   * the same as the return type.
+   *
+   * @return the type of the result the caller of the method receives.
+   */
+  public @NonNull Type resultType() {
+    return this.resultType;
+  }
+
   /**
    * Get the raw return type of the underlying method. For example a method with a return type of
    * {@code Collection&lt;String&gt;} would result in {@code Collection}.
@@ -168,6 +197,16 @@ public boolean voidMethod() {
     return this.voidMethod;
   }
 
+  /**
+   * Get if the method completes asynchronously by returning a completion stage (for example a task). The result of
+   * such methods is sent to the caller once the returned stage completes.
+   *
+   * @return true if the method returns a completion stage, false otherwise.
+   */
+  public boolean asyncMethod() {
+    return this.asyncMethod;
+  }
+
   /**
    * Get the instance to which this method is bound, used for chained rpc call lookups to process on the instance
    * returned by the previous rpc rather than a global one.
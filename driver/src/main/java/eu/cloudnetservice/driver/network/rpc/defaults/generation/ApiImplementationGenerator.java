@@ -22,6 +22,7 @@
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ANEWARRAY;
+import static org.objectweb.asm.Opcodes.ARETURN;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.GETFIELD;
@@ -63,6 +64,7 @@
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
@@ -100,6 +102,10 @@ public final class ApiImplementationGenerator {
   static final String EXECUTABLE_FIRE_FORGET_CHANNEL = Type.getMethodDescriptor(Type.VOID_TYPE, CHANNEL_TYPE);
   static final String EXECUTABLE_FIRE_CHANNEL = Type.getMethodDescriptor(Type.getType(Task.class), CHANNEL_TYPE);
   static final String EXECUTABLE_FIRE_SYNC_CHANNEL = Type.getMethodDescriptor(Type.getType(Object.class), CHANNEL_TYPE);
+  // stream firing, only available for single rpcs
+  static final String RPC_NAME = Type.getInternalName(RPC.class);
+  static final String RPC_FIRE_STREAM_SYNC = Type.getMethodDescriptor(Type.getType(Stream.class));
+  static final String RPC_FIRE_STREAM_SYNC_CHANNEL = Type.getMethodDescriptor(Type.getType(Stream.class), CHANNEL_TYPE);
   // information regarding the generated class
   static final String GENERATED_CLASS_NAME_FORMAT = "%s$Impl_%s";
   // the main checker function if a method should be overridden or not, only applying the base checks
@@ -230,7 +236,7 @@ private ApiImplementationGenerator() {
           // generate the invoke method
           visitInvokeMethod(className, method, mv);
           // we cannot ignore the return type if not void
-          visitFireMethod(method, mv, className, context);
+          visitFireMethod(method, mv, className, context, true);
           // finish the method
           mv.visitMaxs(0, 0);
           mv.visitEnd();
@@ -306,12 +312,14 @@ static void visitInvokeMethod(@NonNull String className, @NonNull Method method,
 
   /**
    * Decides which {@link RPC#fire()} method is appropriate to call for the return type of this method and generates the
-   * call on the {@link RPC} that was generated previously.
+   * call on the {@link RPC} that was generated previously. Methods returning a {@link Stream} are fired using
+   * {@link RPC#fireStreamSync()} if the rpc on the stack is a single rpc, streaming the result in chunks.
    *
    * @param method    the method to invoke using the rpc.
    * @param mv        the method visitor for the current method.
    * @param className the name of the class owning the method.
    * @param context   the generation context for this generation step.
+   * @param singleRPC if the rpc on the stack is a single rpc rather than a chain.
    * @throws NullPointerException if the given method, method visitor, class name or context is null.
    */
   @SuppressWarnings("ConstantConditions")
@@ -319,7 +327,8 @@ static void visitFireMethod(
     @NonNull Method method,
     @NonNull MethodVisitor mv,
     @NonNull String className,
-    @NonNull GenerationContext context
+    @NonNull GenerationContext context,
+    boolean singleRPC
   ) {
     var hasChannelSupplier = context.channelSupplier() != null;
     // load the network channel we want to send the request to onto the stack if needed
@@ -330,6 +339,18 @@ static void visitFireMethod(
       mv.visitTypeInsn(CHECKCAST, NET_CHANNEL_TYPE);
     }
 
+    // stream the elements of the result instead of sending them in one response
+    if (singleRPC && method.getReturnType().equals(Stream.class)) {
+      mv.visitMethodInsn(
+        INVOKEINTERFACE,
+        RPC_NAME,
+        "fireStreamSync",
+        hasChannelSupplier ? RPC_FIRE_STREAM_SYNC_CHANNEL : RPC_FIRE_STREAM_SYNC,
+        true);
+      mv.visitInsn(ARETURN);
+      return;
+    }
+
     // visit the actual fire method
     var voidMethod = method.getReturnType().equals(void.class);
     if (!voidMethod || !method.isAnnotationPresent(RPCNoResult.class)) {
@@ -170,7 +170,8 @@ private ChainedApiImplementationGenerator() {
           // actually visit the join method, taking the base rpc as the argument
           mv.visitMethodInsn(INVOKEINTERFACE, CHAINABLE_RPC_NAME, "join", RPC_JOIN_METHOD_DESC, true);
           // fires the rpc
-          visitFireMethod(method, mv, className, context);
+          // chains can't be streamed, their result is always sent in one response
+          visitFireMethod(method, mv, className, context, false);
 
           // finish the method
           mv.visitMaxs(0, 0);
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.network.rpc.RPCHandler;
 import eu.cloudnetservice.driver.network.rpc.RPCHandlerRegistry;
 import jakarta.inject.Singleton;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -37,6 +38,11 @@
 public class DefaultRPCHandlerRegistry implements RPCHandlerRegistry {
 
   protected final Map<String, RPCHandler> handlers = new ConcurrentHashMap<>();
+  protected final Map<String, InternedMethod> internedMethodsByName = new ConcurrentHashMap<>();
+
+  // the index into the array is the id of the method, written while holding the lock of this instance
+  protected volatile InternedMethod[] internedMethods = new InternedMethod[64];
+  protected int lastMethodId;
 
   /**
    * {@inheritDoc}
@@ -128,4 +134,48 @@ public void unregisterHandlers(@NonNull ClassLoader classLoader) {
       }
     }
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int internMethod(@NonNull String targetClassName, @NonNull String methodName) {
+    var key = targetClassName + '#' + methodName;
+    return this.internedMethodsByName.computeIfAbsent(key, $ -> this.assignMethodId(targetClassName, methodName)).id();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable InternedMethod internedMethod(int methodId) {
+    var methods = this.internedMethods;
+    return methodId > 0 && methodId < methods.length ? methods[methodId] : null;
+  }
+
+  /**
+   * Assigns the next free id to the given method and stores it in the id lookup table.
+   *
+   * @param targetClassName the name of the class in which the method is located.
+   * @param methodName      the name of the method to assign the id to.
+   * @return the interned method holding the assigned id.
+   * @throws NullPointerException if the given class or method name is null.
+   */
+  protected synchronized @NonNull InternedMethod assignMethodId(
+    @NonNull String targetClassName,
+    @NonNull String methodName
+  ) {
+    var methodId = ++this.lastMethodId;
+    var internedMethod = new InternedMethod(methodId, targetClassName, methodName);
+
+    // grow the lookup table if needed, the new table is published after the method was inserted
+    var methods = this.internedMethods;
+    if (methodId >= methods.length) {
+      methods = Arrays.copyOf(methods, methods.length << 1);
+    }
+
+    methods[methodId] = internedMethod;
+    this.internedMethods = methods;
+    return internedMethod;
+  }
 }
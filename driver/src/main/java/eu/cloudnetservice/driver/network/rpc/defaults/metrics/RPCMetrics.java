@@ -0,0 +1,346 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults.metrics;
+
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
+import eu.cloudnetservice.driver.network.netty.NettyLatencyHistogram;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * Holds the metrics of the rpcs of this component, recorded per target class and method. There are two separate
+ * metric sets: the caller metrics contain the rpcs sent by this component, including the time until the result was
+ * received. The handler metrics contain the rpcs received by this component, including the time until the result was
+ * serialized (for async methods the time until the returned future completed).
+ * <p>
+ * Calls taking longer than {@code cloudnet.rpc.slow-call-threshold} milliseconds are logged together with a summary
+ * of their arguments (if known). The slow call log is disabled by default.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class RPCMetrics {
+
+  private static final Logger LOGGER = LogManager.logger(RPCMetrics.class);
+
+  private static final long SLOW_CALL_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(
+    Long.getLong("cloudnet.rpc.slow-call-threshold", 0));
+  private static final int MAX_SUMMARIZED_ARGUMENT_LENGTH = 64;
+
+  private static final RPCMetrics CALLER_METRICS = new RPCMetrics("caller");
+  private static final RPCMetrics HANDLER_METRICS = new RPCMetrics("handler");
+
+  private final String side;
+  private final Map<MethodKey, MethodMetrics> methodMetrics = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new, empty rpc metrics instance.
+   *
+   * @param side the side of the rpcs which are recorded, used for the slow call log.
+   * @throws NullPointerException if the given side is null.
+   */
+  private RPCMetrics(@NonNull String side) {
+    this.side = side;
+  }
+
+  /**
+   * Get the metrics of the rpcs which were sent by this component.
+   *
+   * @return the metrics of the rpcs sent by this component.
+   */
+  public static @NonNull RPCMetrics callerMetrics() {
+    return CALLER_METRICS;
+  }
+
+  /**
+   * Get the metrics of the rpcs which were handled by this component.
+   *
+   * @return the metrics of the rpcs handled by this component.
+   */
+  public static @NonNull RPCMetrics handlerMetrics() {
+    return HANDLER_METRICS;
+  }
+
+  /**
+   * Summarizes the given rpc arguments into a short string which can be logged. Each argument is represented by its
+   * string form, cut after a few characters.
+   *
+   * @param arguments the arguments to summarize.
+   * @return a summary of the given arguments.
+   * @throws NullPointerException if the given argument array is null.
+   */
+  public static @NonNull String summarizeArguments(Object @NonNull [] arguments) {
+    var summary = new StringBuilder();
+    for (var i = 0; i < arguments.length; i++) {
+      if (i != 0) {
+        summary.append(", ");
+      }
+
+      var argument = String.valueOf(arguments[i]);
+      if (argument.length() > MAX_SUMMARIZED_ARGUMENT_LENGTH) {
+        summary.append(argument, 0, MAX_SUMMARIZED_ARGUMENT_LENGTH).append("...");
+      } else {
+        summary.append(argument);
+      }
+    }
+    return summary.toString();
+  }
+
+  /**
+   * Get or creates the metrics of the given method.
+   *
+   * @param className  the name of the class in which the method is located.
+   * @param methodName the name of the method.
+   * @return the metrics of the given method.
+   * @throws NullPointerException if the given class or method name is null.
+   */
+  public @NonNull MethodMetrics method(@NonNull String className, @NonNull String methodName) {
+    return this.methodMetrics.computeIfAbsent(
+      new MethodKey(className, methodName),
+      key -> new MethodMetrics(this.side, key.className(), key.methodName()));
+  }
+
+  /**
+   * Get the metrics of all methods which were called at least once.
+   *
+   * @return the metrics of all called methods.
+   */
+  public @Unmodifiable @NonNull Collection<MethodMetrics> methods() {
+    return List.copyOf(this.methodMetrics.values());
+  }
+
+  /**
+   * Creates a point-in-time snapshot of the metrics of all methods which can be serialized.
+   *
+   * @return a snapshot of the metrics of all methods.
+   */
+  public @NonNull List<MethodMetrics.Snapshot> snapshot() {
+    List<MethodMetrics.Snapshot> snapshots = new ArrayList<>(this.methodMetrics.size());
+    for (var metrics : this.methodMetrics.values()) {
+      snapshots.add(metrics.snapshot());
+    }
+    return snapshots;
+  }
+
+  /**
+   * Removes the metrics of all methods.
+   */
+  public void reset() {
+    this.methodMetrics.clear();
+  }
+
+  /**
+   * The key of the metrics of a method.
+   *
+   * @param className  the name of the class in which the method is located.
+   * @param methodName the name of the method.
+   * @since 4.0
+   */
+  private record MethodKey(@NonNull String className, @NonNull String methodName) {
+
+  }
+
+  /**
+   * Holds the call and traffic counters as well as the latency of a single rpc method.
+   *
+   * @since 4.0
+   */
+  public static final class MethodMetrics {
+
+    private final String side;
+    private final String className;
+    private final String methodName;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final NettyLatencyHistogram latency = new NettyLatencyHistogram();
+
+    /**
+     * Constructs a new, empty method metrics instance.
+     *
+     * @param side       the side of the rpcs which are recorded, used for the slow call log.
+     * @param className  the name of the class in which the method is located.
+     * @param methodName the name of the method.
+     * @throws NullPointerException if one of the given parameters is null.
+     */
+    private MethodMetrics(@NonNull String side, @NonNull String className, @NonNull String methodName) {
+      this.side = side;
+      this.className = className;
+      this.methodName = methodName;
+    }
+
+    /**
+     * Records a call of the method with a request of the given size.
+     *
+     * @param bytes the size of the serialized request.
+     */
+    public void recordRequest(int bytes) {
+      this.calls.increment();
+      this.requestBytes.add(bytes);
+    }
+
+    /**
+     * Records a response of the given size to a call of the method.
+     *
+     * @param bytes the size of the serialized response.
+     */
+    public void recordResponse(int bytes) {
+      this.responseBytes.add(bytes);
+    }
+
+    /**
+     * Records the completion of a call to the method which was started at the given nano time. If the call took longer
+     * than the configured slow call threshold, the call gets logged.
+     *
+     * @param startNanos the nano time when the call was started.
+     * @param failed     if the call completed with an exception.
+     * @param arguments  the arguments of the call to log if the call was slow, null if the arguments are unknown.
+     */
+    public void recordCompletion(long startNanos, boolean failed, Object @Nullable [] arguments) {
+      var nanos = System.nanoTime() - startNanos;
+      this.latency.record(nanos);
+      if (failed) {
+        this.failures.increment();
+      }
+
+      if (SLOW_CALL_THRESHOLD_NANOS > 0 && nanos >= SLOW_CALL_THRESHOLD_NANOS) {
+        LOGGER.warning(String.format(
+          "Slow rpc (%s) %s#%s(%s) took %.2fms",
+          this.side,
+          this.className,
+          this.methodName,
+          arguments == null ? "?" : summarizeArguments(arguments),
+          nanos / 1_000_000D));
+      }
+    }
+
+    /**
+     * Get the name of the class in which the method is located.
+     *
+     * @return the name of the class in which the method is located.
+     */
+    public @NonNull String className() {
+      return this.className;
+    }
+
+    /**
+     * Get the name of the method.
+     *
+     * @return the name of the method.
+     */
+    public @NonNull String methodName() {
+      return this.methodName;
+    }
+
+    /**
+     * Get the number of calls of the method.
+     *
+     * @return the number of calls of the method.
+     */
+    public long calls() {
+      return this.calls.sum();
+    }
+
+    /**
+     * Get the number of calls of the method which completed with an exception.
+     *
+     * @return the number of failed calls of the method.
+     */
+    public long failures() {
+      return this.failures.sum();
+    }
+
+    /**
+     * Get the total size of the serialized requests to the method.
+     *
+     * @return the total request size in bytes.
+     */
+    public long requestBytes() {
+      return this.requestBytes.sum();
+    }
+
+    /**
+     * Get the total size of the serialized responses of the method.
+     *
+     * @return the total response size in bytes.
+     */
+    public long responseBytes() {
+      return this.responseBytes.sum();
+    }
+
+    /**
+     * Get the histogram of the latencies of the calls to the method.
+     *
+     * @return the latency histogram of the method.
+     */
+    public @NonNull NettyLatencyHistogram latency() {
+      return this.latency;
+    }
+
+    /**
+     * Creates a point-in-time snapshot of these metrics which can be serialized.
+     *
+     * @return a snapshot of these metrics.
+     */
+    public @NonNull Snapshot snapshot() {
+      return new Snapshot(
+        this.className,
+        this.methodName,
+        this.calls(),
+        this.failures(),
+        this.requestBytes(),
+        this.responseBytes(),
+        this.latency.snapshot());
+    }
+
+    /**
+     * A point-in-time snapshot of the metrics of a rpc method.
+     *
+     * @param className     the name of the class in which the method is located.
+     * @param methodName    the name of the method.
+     * @param calls         the number of calls of the method.
+     * @param failures      the number of calls which completed with an exception.
+     * @param requestBytes  the total size of the serialized requests.
+     * @param responseBytes the total size of the serialized responses.
+     * @param latency       the latencies of the calls.
+     * @since 4.0
+     */
+    public record Snapshot(
+      @NonNull String className,
+      @NonNull String methodName,
+      long calls,
+      long failures,
+      long requestBytes,
+      long responseBytes,
+      @NonNull NettyLatencyHistogram.Snapshot latency
+    ) {
+
+    }
+  }
+}
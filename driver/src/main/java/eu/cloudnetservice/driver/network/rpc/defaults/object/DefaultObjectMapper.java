@@ -62,6 +62,7 @@
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -186,6 +187,8 @@ public class DefaultObjectMapper implements ObjectMapper {
       return types;
     });
 
+  private volatile ResolvedSerializers resolvedSerializers = new ResolvedSerializers();
+
   /**
    * Constructs a new default object mapper instance with all default object serializers already registered. This call
    * is equivalent to {@code new DefaultObjectMapper(true)}.
@@ -221,6 +224,8 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
       // we don't need to unregister the subtypes of the type, skip the lookup
       this.registeredSerializers.remove(type);
     }
+
+    this.invalidateResolvedSerializers();
     return this;
   }
 
@@ -234,6 +239,8 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
         this.registeredSerializers.remove(entry.getKey(), entry.getValue());
       }
     }
+
+    this.invalidateResolvedSerializers();
     // for chaining
     return this;
   }
@@ -258,6 +265,8 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
       // we don't need to register the subtypes of the type, skip the lookup
       this.registeredSerializers.putIfAbsent(type, serializer);
     }
+
+    this.invalidateResolvedSerializers();
     return this;
   }
 
@@ -267,22 +276,19 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
   @Override
   public @NonNull <T> DataBuf.Mutable writeObject(@NonNull DataBuf.Mutable dataBuf, @Nullable T object) {
     return dataBuf.writeNullable(object, (buffer, obj) -> {
-      // Get the type token of the type
-      var subTypes = this.typeCache.get(obj.getClass());
-      // get the registered serializer for the type
-      ObjectSerializer<T> serializer = null;
-      for (var subType : subTypes) {
-        serializer = this.serializerForType(subType);
-        if (serializer != null && serializer.preWriteCheckAccepts(obj, this)) {
-          break;
+      // get the serializers which are registered for the class or one of its super types
+      var candidates = this.resolvedSerializers.writeSerializers.get(obj.getClass());
+      for (var candidate : candidates) {
+        @SuppressWarnings("unchecked")
+        var serializer = (ObjectSerializer<T>) candidate;
+        if (serializer.preWriteCheckAccepts(obj, this)) {
+          // serialize the object into the buffer
+          serializer.write(buffer, obj, obj.getClass(), this);
+          return;
         }
       }
-      // check if a serializer was found
-      if (serializer == null || !serializer.preWriteCheckAccepts(obj, this)) {
-        throw new MissingObjectSerializerException(obj.getClass());
-      }
-      // serialize the object into the buffer
-      serializer.write(buffer, obj, obj.getClass(), this);
+      // no serializer accepted the object
+      throw new MissingObjectSerializerException(obj.getClass());
     });
   }
 
@@ -293,25 +299,64 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
   @SuppressWarnings("unchecked")
   public <T> @Nullable T readObject(@NonNull DataBuf dataBuf, @NonNull Type type) {
     return dataBuf.readNullable(buffer -> {
-      // Get the type token of the type
-      var subTypes = this.typeCache.get(type);
-      // get the registered serializer for the type
-      ObjectSerializer<?> serializer = null;
-      for (var subType : subTypes) {
-        serializer = this.serializerForType(subType);
-        if (serializer != null && serializer.preReadCheckAccepts(type, this)) {
-          break;
-        }
-      }
-      // check if a serializer was found
-      if (serializer == null || !serializer.preReadCheckAccepts(type, this)) {
-        throw new MissingObjectSerializerException(type);
+      // get the serializer resolved for the type, resolve it if this is the first read of the type
+      var resolvedSerializers = this.resolvedSerializers;
+      var serializer = resolvedSerializers.readSerializers.get(type);
+      if (serializer == null) {
+        serializer = this.resolveReadSerializer(type);
+        resolvedSerializers.readSerializers.putIfAbsent(type, serializer);
       }
       // read the object from the buffer
       return (T) serializer.read(buffer, type, this);
     });
   }
 
+  /**
+   * Resolves the serializers which are registered for the given class or one of its super types. The serializers are
+   * ordered by the position of the type they are registered for in the type hierarchy of the given class.
+   *
+   * @param type the class to resolve the serializers for.
+   * @return the serializers which might be able to serialize an instance of the given class.
+   * @throws NullPointerException if the given class is null.
+   */
+  protected @NonNull ObjectSerializer<?>[] resolveWriteSerializers(@NonNull Class<?> type) {
+    var subTypes = this.typeCache.get(type);
+    Set<ObjectSerializer<?>> serializers = new LinkedHashSet<>();
+    for (var subType : subTypes) {
+      var serializer = this.serializerForType(subType);
+      if (serializer != null) {
+        serializers.add(serializer);
+      }
+    }
+    return serializers.toArray(ObjectSerializer<?>[]::new);
+  }
+
+  /**
+   * Resolves the serializer to use when reading an object of the given type.
+   *
+   * @param type the type to resolve the serializer for.
+   * @return the serializer to use when reading an object of the given type.
+   * @throws NullPointerException             if the given type is null.
+   * @throws MissingObjectSerializerException if no serializer accepts the given type.
+   */
+  protected @NonNull ObjectSerializer<?> resolveReadSerializer(@NonNull Type type) {
+    var subTypes = this.typeCache.get(type);
+    for (var subType : subTypes) {
+      var serializer = this.serializerForType(subType);
+      if (serializer != null && serializer.preReadCheckAccepts(type, this)) {
+        return serializer;
+      }
+    }
+    throw new MissingObjectSerializerException(type);
+  }
+
+  /**
+   * Drops all serializers which were resolved for a type, as they might have changed due to a binding change.
+   */
+  protected void invalidateResolvedSerializers() {
+    this.resolvedSerializers = new ResolvedSerializers();
+  }
+
   /**
    * Finds the best matching serializer for the given type. The method first tries to get the serializer by the exact
    * type of the supplied type token, then by the raw type.
@@ -326,4 +371,21 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
     var byType = (ObjectSerializer<T>) this.registeredSerializers.get(typePair.first());
     return byType == null ? (ObjectSerializer<T>) this.registeredSerializers.get(typePair.second()) : byType;
   }
+
+  /**
+   * The serializers which were resolved for the types written and read by this mapper. A new instance is created each
+   * time the bindings of this mapper change, the values are computed lazily.
+   *
+   * @since 4.0
+   */
+  private final class ResolvedSerializers {
+
+    private final Map<Type, ObjectSerializer<?>> readSerializers = new ConcurrentHashMap<>();
+    private final ClassValue<ObjectSerializer<?>[]> writeSerializers = new ClassValue<>() {
+      @Override
+      protected ObjectSerializer<?>[] computeValue(@NonNull Class<?> type) {
+        return DefaultObjectMapper.this.resolveWriteSerializers(type);
+      }
+    };
+  }
 }
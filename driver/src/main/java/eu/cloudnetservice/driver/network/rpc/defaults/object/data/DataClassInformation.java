@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.network.rpc.defaults.object.data;
 
+import eu.cloudnetservice.driver.network.rpc.annotation.RPCCompactCodec;
 import eu.cloudnetservice.driver.network.rpc.annotation.RPCIgnore;
 import eu.cloudnetservice.driver.network.rpc.exception.MissingAllArgsConstructorException;
 import java.lang.reflect.Array;
@@ -26,6 +27,7 @@
 import java.util.List;
 import java.util.function.Function;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Holds all information about a data class and is able to create an instance from a network buffer and serializing an
@@ -37,6 +39,7 @@ public class DataClassInformation {
 
   private final DataClassInvokerGenerator.DataClassInstanceCreator instanceCreator;
   private final DataClassInvokerGenerator.DataClassInformationWriter informationWriter;
+  private final DataClassInvokerGenerator.DataClassCodec codec;
 
   /**
    * Constructs a new data class information instance.
@@ -48,16 +51,34 @@ public class DataClassInformation {
   protected DataClassInformation(
     @NonNull DataClassInvokerGenerator.DataClassInstanceCreator creator,
     @NonNull DataClassInvokerGenerator.DataClassInformationWriter writer
+  ) {
+    this(creator, writer, null);
+  }
+
+  /**
+   * Constructs a new data class information instance.
+   *
+   * @param creator the instance creator for the class.
+   * @param writer  the instance write for the class.
+   * @param codec   the compact codec for the class, null if the class should not be serialized using a compact codec.
+   * @throws NullPointerException if either the writer or creator is null.
+   */
+  protected DataClassInformation(
+    @NonNull DataClassInvokerGenerator.DataClassInstanceCreator creator,
+    @NonNull DataClassInvokerGenerator.DataClassInformationWriter writer,
+    @Nullable DataClassInvokerGenerator.DataClassCodec codec
   ) {
     this.instanceCreator = creator;
     this.informationWriter = writer;
+    this.codec = codec;
   }
 
   /**
    * Constructs a data class information based on the given class using the given generator. This class pre evaluates if
    * the data class creation is possible and collects all fields of the data class, which will be interpreted by the
    * generator in the required way. This method ensures that only fields which should get included are passed to the
-   * data class generator.
+   * data class generator. A compact codec is generated in addition if the class is annotated with
+   * {@link RPCCompactCodec}.
    *
    * @param clazz the class to build the information for.
    * @return the created data class information for the given class.
@@ -79,8 +100,12 @@ protected DataClassInformation(
     // generate the constructor invoker for the argument types
     var instanceCreator = DataClassInvokerGenerator.createInstanceCreator(clazz, types);
     var informationWriter = DataClassInvokerGenerator.createWriter(clazz, includedFields);
+    // generate the compact codec if requested
+    var codec = clazz.isAnnotationPresent(RPCCompactCodec.class)
+      ? DataClassInvokerGenerator.createCodec(clazz, includedFields)
+      : null;
     // done
-    return new DataClassInformation(instanceCreator, informationWriter);
+    return new DataClassInformation(instanceCreator, informationWriter, codec);
   }
 
   /**
@@ -149,4 +174,13 @@ protected DataClassInformation(
   public @NonNull DataClassInvokerGenerator.DataClassInformationWriter informationWriter() {
     return this.informationWriter;
   }
+
+  /**
+   * Get the compact codec for the underlying data class.
+   *
+   * @return the compact codec, null if the class is not annotated with {@link RPCCompactCodec}.
+   */
+  public @Nullable DataClassInvokerGenerator.DataClassCodec codec() {
+    return this.codec;
+  }
 }
@@ -17,25 +17,38 @@
 package eu.cloudnetservice.driver.network.rpc.defaults.object.data;
 
 import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ARETURN;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DCONST_0;
 import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.FCONST_0;
 import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.IF_ICMPLE;
+import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.ISTORE;
+import static org.objectweb.asm.Opcodes.LCONST_0;
 import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_8;
 
+import com.google.common.base.Preconditions;
 import eu.cloudnetservice.common.util.StringUtil;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.rpc.annotation.RPCFieldGetter;
+import eu.cloudnetservice.driver.network.rpc.annotation.RPCFieldSince;
 import eu.cloudnetservice.driver.network.rpc.annotation.RPCIgnore;
 import eu.cloudnetservice.driver.network.rpc.exception.ClassCreationException;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
@@ -45,9 +58,12 @@
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -55,6 +71,7 @@
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 
@@ -81,6 +98,16 @@ public final class DataClassInvokerGenerator {
     Type.getType(DataBuf.Mutable.class),
     Type.getType(Object.class),
     Type.getType(ObjectMapper.class));
+  // DataClassCodec related stuff
+  private static final String[] CODEC = new String[]{Type.getInternalName(DataClassCodec.class)};
+  private static final String CODEC_READ_DESCRIPTOR = Type.getMethodDescriptor(
+    Type.getType(Object.class),
+    Type.getType(DataBuf.class),
+    Type.getType(DataBuf.class),
+    Type.INT_TYPE,
+    Type.getType(ObjectMapper.class));
+  private static final String DATA_BUF = Type.getInternalName(DataBuf.class);
+  private static final String MUTABLE_DATA_BUF = Type.getInternalName(DataBuf.Mutable.class);
   // ObjectMapper related stuff
   private static final String DATA_BUF_NAME = Type.getInternalName(ObjectMapper.class);
   private static final String READ_OBJECT_DESC = Type.getMethodDescriptor(
@@ -94,6 +121,7 @@ public final class DataClassInvokerGenerator {
   // Related stuff to generated classes
   private static final String INSTANCE_CREATOR_NAME_FORMAT = "%s$InstanceCreator";
   private static final String INFORMATION_WRITE_NAME_FORMAT = "%s$InformationWriter";
+  private static final String CODEC_NAME_FORMAT = "%s$CompactCodec";
 
   private DataClassInvokerGenerator() {
     throw new UnsupportedOperationException();
@@ -233,80 +261,15 @@ private DataClassInvokerGenerator() {
       mv.visitCode();
       // check if there are fields we need to include - skip that step if not
       if (fields.size() > 0) {
-        // get the methods of the class
-        Set<Method> includedMethods = new HashSet<>();
-        var processing = clazz;
-        do {
-          // only use the methods of the current class, not of the subclasses to prevent deep methods.
-          for (var method : processing.getDeclaredMethods()) {
-            // we search for getter methods which
-            //  - have no parameters
-            //  - are not annotated with @RPCIgnore
-            //  - is public
-            //  - is not static
-            if (method.getParameterCount() == 0
-              && !method.isAnnotationPresent(RPCIgnore.class)
-              && Modifier.isPublic(method.getModifiers())
-              && !Modifier.isStatic(method.getModifiers())) {
-              includedMethods.add(method);
-            }
-          }
-        } while ((processing = processing.getSuperclass()) != Object.class);
-        // associate each field to a method getter
-        Map<Field, Method> fieldGetters = new HashMap<>();
-        for (var field : fields) {
-          var overriddenGetter = field.getAnnotation(RPCFieldGetter.class);
-          if (overriddenGetter != null) {
-            // in this case the associated getter method is given, try to find it in the methods list
-            fieldGetters.put(field, findGetterForField(
-              includedMethods,
-              field,
-              m -> m.getName().equals(overriddenGetter.value())));
-          } else {
-            // here we just search for a method which ends with the field name, covering any case.
-            // Example: field name: cpuUsage will find methods like:
-            //  - getCpuUsage()
-            //  - cpuUsage()
-            //  - getFullCpuUsage()
-            fieldGetters.put(field, findGetterForField(
-              includedMethods,
-              field,
-              m -> StringUtil.endsWithIgnoreCase(m.getName(), field.getName())));
-          }
-        }
+        var fieldGetters = resolveFieldGetters(clazz, fields);
         // create the method body
         for (var field : fields) {
           // initial work for the method instantiation
           // load the arguments of the method to the stack
           mv.visitVarInsn(ALOAD, 3);
           mv.visitVarInsn(ALOAD, 1);
-          mv.visitVarInsn(ALOAD, 2);
-          // get the raw type of the field
-          Class<?> rawType;
-          // get the associated getter method of the field
-          var getter = fieldGetters.get(field);
-          if (getter != null) {
-            // extract all needed information from the method
-            rawType = GenericTypeReflector.erase(getter.getGenericReturnType());
-            var declaring = Type.getInternalName(getter.getDeclaringClass());
-            // cast the object argument to the declaring class of the method
-            mv.visitTypeInsn(CHECKCAST, declaring);
-            // get the value of the method
-            mv.visitMethodInsn(
-              INVOKEVIRTUAL,
-              declaring,
-              getter.getName(),
-              Type.getMethodDescriptor(getter),
-              getter.getDeclaringClass().isInterface());
-          } else {
-            // extract all needed information from the field
-            rawType = GenericTypeReflector.erase(field.getGenericType());
-            var declaring = Type.getInternalName(field.getDeclaringClass());
-            // cast the object argument to the declaring class of the field
-            mv.visitTypeInsn(CHECKCAST, declaring);
-            // get the value of the field
-            mv.visitFieldInsn(GETFIELD, declaring, field.getName(), Type.getDescriptor(field.getType()));
-          }
+          // get the value of the field, using the associated getter method if possible
+          var rawType = visitFieldValue(mv, 2, field, fieldGetters.get(field));
           // check if the type of the method or field is primitive
           if (rawType.isPrimitive()) {
             AsmHelper.primitiveToWrapper(mv, rawType);
@@ -336,6 +299,362 @@ private DataClassInvokerGenerator() {
     }
   }
 
+  /**
+   * Creates a compact codec for the given data class. Primitive fields are written directly into the buffer, all other
+   * fields are written using the object mapper. Fields annotated with {@link RPCFieldSince} are written into a separate
+   * extension section, ordered by their schema version, all other fields in the order they were given.
+   *
+   * @param clazz  the data class to generate the codec for.
+   * @param fields the fields to include, in the order of the constructor arguments.
+   * @return the generated compact codec for the given class.
+   * @throws NullPointerException if either the given class or field list is null.
+   */
+  public static @NonNull DataClassCodec createCodec(@NonNull Class<?> clazz, @NonNull List<Field> fields) {
+    try {
+      var className = String.format(CODEC_NAME_FORMAT, Type.getInternalName(clazz));
+      // split the fields into the base fields and the fields which were added later on
+      List<Field> baseFields = new ArrayList<>();
+      List<Field> extensionFields = new ArrayList<>();
+      for (var field : fields) {
+        var since = field.getAnnotation(RPCFieldSince.class);
+        if (since == null) {
+          baseFields.add(field);
+        } else {
+          Preconditions.checkArgument(since.value() > 0, "Schema version of field %s must be positive", field);
+          extensionFields.add(field);
+        }
+      }
+      // the sort is stable, fields added in the same version retain their declaration order
+      extensionFields.sort(Comparator.comparingInt(field -> field.getAnnotation(RPCFieldSince.class).value()));
+
+      var fieldGetters = resolveFieldGetters(clazz, fields);
+      var types = new java.lang.reflect.Type[fields.size()];
+      for (var i = 0; i < types.length; i++) {
+        types[i] = fields.get(i).getGenericType();
+      }
+
+      // init the class writer for a public final class implementing the DataClassCodec
+      var cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+      cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL, className, null, SUPER, CODEC);
+      // add the Type[] field which holds the generic types of the fields
+      cw
+        .visitField(ACC_PRIVATE | ACC_FINAL, "types", TYPES_DESC, null, null)
+        .visitEnd();
+      MethodVisitor mv;
+      {
+        mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(" + TYPES_DESC + ")V", null, null);
+        mv.visitCode();
+        // visit super
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, SUPER, "<init>", "()V", false);
+        // write the field value
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitFieldInsn(PUTFIELD, className, "types", TYPES_DESC);
+        // finish
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+      }
+      {
+        mv = cw.visitMethod(ACC_PUBLIC | ACC_FINAL, "extensionFieldCount", "()I", null, null);
+        mv.visitCode();
+        AsmHelper.pushInt(mv, extensionFields.size());
+        mv.visitInsn(IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+      }
+      // generate the write methods for both sections
+      visitCodecWrite(cw, "writeBase", baseFields, fieldGetters);
+      visitCodecWrite(cw, "writeExtension", extensionFields, fieldGetters);
+      {
+        mv = cw.visitMethod(ACC_PUBLIC | ACC_FINAL, "read", CODEC_READ_DESCRIPTOR, null, null);
+        mv.visitCode();
+        // assign a local variable to each field, the first 5 slots are used by this and the method arguments
+        var slots = new int[fields.size()];
+        var nextSlot = 5;
+        for (var i = 0; i < slots.length; i++) {
+          slots[i] = nextSlot;
+          nextSlot += Type.getType(fields.get(i).getType()).getSize();
+        }
+        // read the base fields from the source buffer
+        for (var field : baseFields) {
+          var index = fields.indexOf(field);
+          visitCodecFieldRead(mv, className, 1, index, field, slots[index]);
+        }
+        // read the extension fields which were sent, use the default value for the remaining fields
+        for (var i = 0; i < extensionFields.size(); i++) {
+          var field = extensionFields.get(i);
+          var index = fields.indexOf(field);
+          var defaultValue = new Label();
+          var end = new Label();
+          // jump to the default value if the extension field count is less or equal to the current index
+          mv.visitVarInsn(ILOAD, 3);
+          AsmHelper.pushInt(mv, i);
+          mv.visitJumpInsn(IF_ICMPLE, defaultValue);
+          visitCodecFieldRead(mv, className, 2, index, field, slots[index]);
+          mv.visitJumpInsn(GOTO, end);
+          // store the default value of the field type
+          mv.visitLabel(defaultValue);
+          visitDefaultValue(mv, field.getType());
+          mv.visitVarInsn(Type.getType(field.getType()).getOpcode(ISTORE), slots[index]);
+          mv.visitLabel(end);
+        }
+        // construct the instance from the read values
+        var parameters = new Type[fields.size()];
+        mv.visitTypeInsn(NEW, Type.getInternalName(clazz));
+        mv.visitInsn(DUP);
+        for (var i = 0; i < parameters.length; i++) {
+          parameters[i] = Type.getType(fields.get(i).getType());
+          mv.visitVarInsn(parameters[i].getOpcode(ILOAD), slots[i]);
+        }
+        mv.visitMethodInsn(
+          INVOKESPECIAL,
+          Type.getInternalName(clazz),
+          "<init>",
+          Type.getMethodDescriptor(Type.VOID_TYPE, parameters),
+          false);
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+      }
+      // finish the class
+      cw.visitEnd();
+      // define & select the correct constructor for the class
+      var constructor = ClassDefiners.current()
+        .defineClass(className, clazz, cw.toByteArray())
+        .getDeclaredConstructor(java.lang.reflect.Type[].class);
+      constructor.setAccessible(true);
+      // instantiate the new class
+      return (DataClassCodec) constructor.newInstance((Object) types);
+    } catch (Exception exception) {
+      throw new ClassCreationException(String.format(
+        "Unable to generate DataClassCodec for class %s and fields %s",
+        clazz.getName(), fields.stream().map(Field::getName).collect(Collectors.joining(", "))), exception);
+    }
+  }
+
+  /**
+   * Visits a write method of a compact codec which writes the values of the given fields into the target buffer.
+   *
+   * @param cw           the class writer of the codec to visit the method in.
+   * @param methodName   the name of the write method to visit.
+   * @param fields       the fields to write, in the order in which they should be written.
+   * @param fieldGetters the getter methods associated with the fields.
+   * @throws NullPointerException if one of the given arguments is null.
+   */
+  private static void visitCodecWrite(
+    @NonNull ClassWriter cw,
+    @NonNull String methodName,
+    @NonNull List<Field> fields,
+    @NonNull Map<Field, Method> fieldGetters
+  ) {
+    var mv = cw.visitMethod(ACC_PUBLIC | ACC_FINAL, methodName, WRITE_INFORMATION_DESCRIPTOR, null, null);
+    mv.visitCode();
+    for (var field : fields) {
+      var rawType = field.getType();
+      if (rawType.isPrimitive()) {
+        // write the primitive value directly into the buffer
+        mv.visitVarInsn(ALOAD, 1);
+        visitFieldValue(mv, 2, field, fieldGetters.get(field));
+        mv.visitMethodInsn(
+          INVOKEINTERFACE,
+          MUTABLE_DATA_BUF,
+          "write" + primitiveMethodSuffix(rawType),
+          Type.getMethodDescriptor(Type.getType(DataBuf.Mutable.class), Type.getType(rawType)),
+          true);
+      } else {
+        // write the value using the object mapper
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitVarInsn(ALOAD, 1);
+        visitFieldValue(mv, 2, field, fieldGetters.get(field));
+        mv.visitMethodInsn(INVOKEINTERFACE, DATA_BUF_NAME, "writeObject", WRITE_OBJECT_DESC, true);
+      }
+      // discard the returned buffer
+      mv.visitInsn(POP);
+    }
+    mv.visitInsn(RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  /**
+   * Visits the instructions to read the value of the given field from the buffer held by the given local variable and
+   * to store it in the given target local variable.
+   *
+   * @param mv        the method visitor to visit the instructions in.
+   * @param className the internal name of the codec class.
+   * @param sourceVar the index of the local variable holding the buffer to read from.
+   * @param typeIndex the index of the generic field type in the types array of the codec.
+   * @param field     the field to read the value of.
+   * @param targetVar the index of the local variable to store the value in.
+   * @throws NullPointerException if either the given method visitor, class name or field is null.
+   */
+  private static void visitCodecFieldRead(
+    @NonNull MethodVisitor mv,
+    @NonNull String className,
+    int sourceVar,
+    int typeIndex,
+    @NonNull Field field,
+    int targetVar
+  ) {
+    var rawType = field.getType();
+    if (rawType.isPrimitive()) {
+      // read the primitive value directly from the buffer
+      mv.visitVarInsn(ALOAD, sourceVar);
+      mv.visitMethodInsn(
+        INVOKEINTERFACE,
+        DATA_BUF,
+        "read" + primitiveMethodSuffix(rawType),
+        Type.getMethodDescriptor(Type.getType(rawType)),
+        true);
+    } else {
+      // read the value using the object mapper
+      mv.visitVarInsn(ALOAD, 4);
+      mv.visitVarInsn(ALOAD, sourceVar);
+      mv.visitVarInsn(ALOAD, 0);
+      mv.visitFieldInsn(GETFIELD, className, "types", TYPES_DESC);
+      AsmHelper.pushInt(mv, typeIndex);
+      mv.visitInsn(AALOAD);
+      mv.visitMethodInsn(INVOKEINTERFACE, DATA_BUF_NAME, "readObject", READ_OBJECT_DESC, true);
+      mv.visitTypeInsn(CHECKCAST, Type.getInternalName(rawType));
+    }
+    mv.visitVarInsn(Type.getType(rawType).getOpcode(ISTORE), targetVar);
+  }
+
+  /**
+   * Get the suffix of the data buf methods which read or write the given primitive type, for example {@code Int} for
+   * {@code int} which results in {@code readInt} and {@code writeInt}.
+   *
+   * @param primitiveType the primitive type to get the method suffix for.
+   * @return the suffix of the data buf methods for the given primitive type.
+   * @throws NullPointerException if the given type is null.
+   */
+  private static @NonNull String primitiveMethodSuffix(@NonNull Class<?> primitiveType) {
+    var name = primitiveType.getName();
+    return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+
+  /**
+   * Visits the instruction to push the default value of the given type to the stack.
+   *
+   * @param mv   the method visitor to visit the instruction in.
+   * @param type the type to push the default value of.
+   * @throws NullPointerException if either the given method visitor or type is null.
+   */
+  private static void visitDefaultValue(@NonNull MethodVisitor mv, @NonNull Class<?> type) {
+    if (type == long.class) {
+      mv.visitInsn(LCONST_0);
+    } else if (type == float.class) {
+      mv.visitInsn(FCONST_0);
+    } else if (type == double.class) {
+      mv.visitInsn(DCONST_0);
+    } else if (type.isPrimitive()) {
+      mv.visitInsn(ICONST_0);
+    } else {
+      mv.visitInsn(ACONST_NULL);
+    }
+  }
+
+  /**
+   * Associates each of the given fields with the getter method which should be used to get the value of the field. A
+   * field is not included in the returned map if no getter method for the field exists.
+   *
+   * @param clazz  the data class to which the given fields belong.
+   * @param fields the fields to resolve the getters of.
+   * @return a mapping of the given fields to their getter methods.
+   * @throws NullPointerException if either the given class or field collection is null.
+   */
+  private static @NonNull Map<Field, Method> resolveFieldGetters(
+    @NonNull Class<?> clazz,
+    @NonNull Collection<Field> fields
+  ) {
+    // get the methods of the class
+    Set<Method> includedMethods = new HashSet<>();
+    var processing = clazz;
+    do {
+      // only use the methods of the current class, not of the subclasses to prevent deep methods.
+      for (var method : processing.getDeclaredMethods()) {
+        // we search for getter methods which
+        //  - have no parameters
+        //  - are not annotated with @RPCIgnore
+        //  - is public
+        //  - is not static
+        if (method.getParameterCount() == 0
+          && !method.isAnnotationPresent(RPCIgnore.class)
+          && Modifier.isPublic(method.getModifiers())
+          && !Modifier.isStatic(method.getModifiers())) {
+          includedMethods.add(method);
+        }
+      }
+    } while ((processing = processing.getSuperclass()) != Object.class);
+    // associate each field to a method getter
+    Map<Field, Method> fieldGetters = new HashMap<>();
+    for (var field : fields) {
+      var overriddenGetter = field.getAnnotation(RPCFieldGetter.class);
+      if (overriddenGetter != null) {
+        // in this case the associated getter method is given, try to find it in the methods list
+        fieldGetters.put(field, findGetterForField(
+          includedMethods,
+          field,
+          m -> m.getName().equals(overriddenGetter.value())));
+      } else {
+        // here we just search for a method which ends with the field name, covering any case.
+        // Example: field name: cpuUsage will find methods like:
+        //  - getCpuUsage()
+        //  - cpuUsage()
+        //  - getFullCpuUsage()
+        fieldGetters.put(field, findGetterForField(
+          includedMethods,
+          field,
+          m -> StringUtil.endsWithIgnoreCase(m.getName(), field.getName())));
+      }
+    }
+    return fieldGetters;
+  }
+
+  /**
+   * Visits the instructions to push the value of the given field of the object stored in the given local variable
+   * slot to the stack. The getter method is used if given, the field is accessed directly otherwise.
+   *
+   * @param mv        the method visitor to visit the instructions in.
+   * @param objectVar the index of the local variable holding the object to get the field value of.
+   * @param field     the field to push the value of.
+   * @param getter    the getter method of the field, null to access the field directly.
+   * @return the raw type of the value pushed to the stack.
+   * @throws NullPointerException if either the given method visitor or field is null.
+   */
+  private static @NonNull Class<?> visitFieldValue(
+    @NonNull MethodVisitor mv,
+    int objectVar,
+    @NonNull Field field,
+    @Nullable Method getter
+  ) {
+    mv.visitVarInsn(ALOAD, objectVar);
+    if (getter != null) {
+      // extract all needed information from the method
+      var declaring = Type.getInternalName(getter.getDeclaringClass());
+      // cast the object argument to the declaring class of the method
+      mv.visitTypeInsn(CHECKCAST, declaring);
+      // get the value of the method
+      mv.visitMethodInsn(
+        INVOKEVIRTUAL,
+        declaring,
+        getter.getName(),
+        Type.getMethodDescriptor(getter),
+        getter.getDeclaringClass().isInterface());
+      return GenericTypeReflector.erase(getter.getGenericReturnType());
+    } else {
+      // extract all needed information from the field
+      var declaring = Type.getInternalName(field.getDeclaringClass());
+      // cast the object argument to the declaring class of the field
+      mv.visitTypeInsn(CHECKCAST, declaring);
+      // get the value of the field
+      mv.visitFieldInsn(GETFIELD, declaring, field.getName(), Type.getDescriptor(field.getType()));
+      return GenericTypeReflector.erase(field.getGenericType());
+    }
+  }
+
   /**
    * Finds the best matching getter method for the given field. Null is returned when no method is matching the filter
    * based on the field information and the provided extra filter. Always the method with the shortest name matching the
@@ -421,4 +740,59 @@ public interface DataClassInformationWriter {
      */
     void writeInformation(@NonNull DataBuf.Mutable target, @NonNull Object obj, @NonNull ObjectMapper context);
   }
+
+  /**
+   * Represents a compact codec for a data class generated by this generator. The fields of the data class are split
+   * into the base fields, which are always present, and the extension fields, which were added in later schema versions
+   * of the data class and might be unknown to the other side.
+   *
+   * @since 4.0
+   */
+  public interface DataClassCodec {
+
+    /**
+     * Get the number of extension fields known to this codec.
+     *
+     * @return the number of extension fields known to this codec.
+     */
+    int extensionFieldCount();
+
+    /**
+     * Writes the values of the base fields of the given object into the given buffer.
+     *
+     * @param target  the buffer to write the field values to.
+     * @param obj     the object from which the field values should get written.
+     * @param context the object mapper used to serialize the non-primitive field values.
+     * @throws NullPointerException if either the given buffer, object or object mapper is null.
+     */
+    void writeBase(@NonNull DataBuf.Mutable target, @NonNull Object obj, @NonNull ObjectMapper context);
+
+    /**
+     * Writes the values of the extension fields of the given object into the given buffer.
+     *
+     * @param target  the buffer to write the field values to.
+     * @param obj     the object from which the field values should get written.
+     * @param context the object mapper used to serialize the non-primitive field values.
+     * @throws NullPointerException if either the given buffer, object or object mapper is null.
+     */
+    void writeExtension(@NonNull DataBuf.Mutable target, @NonNull Object obj, @NonNull ObjectMapper context);
+
+    /**
+     * Reads an instance of the underlying data class. The base fields are read from the given source buffer, the first
+     * given count of extension fields from the given extension buffer. All other extension fields are initialized to
+     * their default value.
+     *
+     * @param source              the buffer to read the base fields from.
+     * @param extension           the buffer to read the extension fields from, null if no extension fields were sent.
+     * @param extensionFieldCount the number of extension fields which were sent.
+     * @param context             the object mapper used to deserialize the non-primitive field values.
+     * @return an instance of the underlying data class read from the given buffers.
+     * @throws NullPointerException if either the given source buffer or object mapper is null.
+     */
+    @NonNull Object read(
+      @NonNull DataBuf source,
+      @Nullable DataBuf extension,
+      int extensionFieldCount,
+      @NonNull ObjectMapper context);
+  }
 }
@@ -20,6 +20,7 @@
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.base.Preconditions;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectSerializer;
 import java.lang.reflect.Array;
@@ -54,7 +55,12 @@ public class DataClassSerializer implements ObjectSerializer<Object> {
       return this.readArray(source, clazz, caller);
     }
     // get the class information and deserialize the object
-    return this.dataClassInformationCache.get(type).instanceCreator().makeInstance(source, caller);
+    var information = this.dataClassInformationCache.get(type);
+    var codec = information.codec();
+    if (codec != null) {
+      return this.readCompact(source, codec, caller);
+    }
+    return information.instanceCreator().makeInstance(source, caller);
   }
 
   /**
@@ -76,7 +82,66 @@ public void write(
       return;
     }
     // get the class information and serialize the object
-    this.dataClassInformationCache.get(type).informationWriter().writeInformation(dataBuf, object, caller);
+    var information = this.dataClassInformationCache.get(type);
+    var codec = information.codec();
+    if (codec != null) {
+      this.writeCompact(dataBuf, object, codec, caller);
+      return;
+    }
+    information.informationWriter().writeInformation(dataBuf, object, caller);
+  }
+
+  /**
+   * Reads an object which was serialized using a compact codec. The extension fields are read first, followed by the
+   * base fields of the object.
+   *
+   * @param source the buffer to read the object from.
+   * @param codec  the compact codec of the object class.
+   * @param caller the object mapper used for deserialization of the non-primitive fields.
+   * @return the read object from the buffer.
+   * @throws NullPointerException if either the given buffer, codec or object mapper is null.
+   */
+  protected @NonNull Object readCompact(
+    @NonNull DataBuf source,
+    @NonNull DataClassInvokerGenerator.DataClassCodec codec,
+    @NonNull ObjectMapper caller
+  ) {
+    // the extension fields are written into a separate buffer which allows skipping the ones that are unknown to us
+    var extensionFieldCount = source.readVarInt();
+    var extension = extensionFieldCount > 0 ? source.readDataBuf() : null;
+    try {
+      return codec.read(source, extension, extensionFieldCount, caller);
+    } finally {
+      if (extension != null && extension.accessible()) {
+        extension.release();
+      }
+    }
+  }
+
+  /**
+   * Writes the given object using the given compact codec.
+   *
+   * @param dataBuf the buffer to write the object to.
+   * @param object  the object to write.
+   * @param codec   the compact codec of the object class.
+   * @param caller  the object mapper used for serialization of the non-primitive fields.
+   * @throws NullPointerException if either the given buffer, object, codec or object mapper is null.
+   */
+  protected void writeCompact(
+    @NonNull DataBuf.Mutable dataBuf,
+    @NonNull Object object,
+    @NonNull DataClassInvokerGenerator.DataClassCodec codec,
+    @NonNull ObjectMapper caller
+  ) {
+    var extensionFieldCount = codec.extensionFieldCount();
+    dataBuf.writeVarInt(extensionFieldCount);
+    if (extensionFieldCount > 0) {
+      var extension = DataBufFactory.defaultFactory().createEmpty();
+      codec.writeExtension(extension, object, caller);
+      dataBuf.writeDataBuf(extension);
+    }
+    // the base fields are written directly into the buffer
+    codec.writeBase(dataBuf, object, caller);
   }
 
   /**
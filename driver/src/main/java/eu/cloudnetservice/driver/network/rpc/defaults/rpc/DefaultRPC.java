@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.network.rpc.defaults.rpc;
 
+import com.google.common.reflect.TypeToken;
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
@@ -23,13 +24,23 @@
 import eu.cloudnetservice.driver.network.rpc.RPCChain;
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCProvider;
+import eu.cloudnetservice.driver.network.rpc.defaults.metrics.RPCMetrics;
+import eu.cloudnetservice.driver.network.rpc.defaults.stream.BlockingRPCStreamIterator;
+import eu.cloudnetservice.driver.network.rpc.defaults.stream.RPCStreamSessions;
+import eu.cloudnetservice.driver.network.rpc.defaults.stream.RPCStreamSubscription;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCException;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
 import eu.cloudnetservice.driver.network.rpc.packet.RPCRequestPacket;
 import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.stream.BaseStream;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,11 +51,17 @@
  */
 public class DefaultRPC extends DefaultRPCProvider implements RPC {
 
+  private static final List<Class<?>> STREAM_CONTAINER_TYPES = List.of(
+    Iterable.class,
+    Iterator.class,
+    BaseStream.class);
+
   private final RPCSender sender;
   private final String className;
   private final String methodName;
   private final Object[] arguments;
   private final Type expectedResultType;
+  private final RPCMethodIdCache.MethodKey methodKey;
 
   private boolean resultExpectation = true;
 
@@ -76,6 +93,7 @@ public DefaultRPC(
     this.methodName = methodName;
     this.arguments = arguments;
     this.expectedResultType = expectedResultType;
+    this.methodKey = new RPCMethodIdCache.MethodKey(this.className, methodName);
   }
 
   /**
@@ -167,6 +185,22 @@ public void fireAndForget() {
     return this.fire(Objects.requireNonNull(this.sender.associatedComponent().firstChannel()));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull <T> Flow.Publisher<T> fireStream() {
+    return this.fireStream(Objects.requireNonNull(this.sender.associatedComponent().firstChannel()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull <T> Stream<T> fireStreamSync() {
+    return this.fireStreamSync(Objects.requireNonNull(this.sender.associatedComponent().firstChannel()));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -202,27 +236,118 @@ public void fireAndForget(@NonNull NetworkChannel component) {
    */
   @Override
   public @NonNull <T> Task<T> fire(@NonNull NetworkChannel component) {
+    return this.fire(component, true);
+  }
+
+  /**
+   * Fires this rpc to the given channel. If the remote responds that it doesn't know the method id which was sent in
+   * the request, the rpc is resent once using the names of the target class and method if requested.
+   *
+   * @param component    the channel to send the rpc to.
+   * @param resendByName if the rpc should be resent by name if the remote doesn't know the sent method id.
+   * @param <T>          the type of the result of the rpc.
+   * @return a task completed with the result of the rpc.
+   * @throws NullPointerException if the given channel is null.
+   */
+  protected @NonNull <T> Task<T> fire(@NonNull NetworkChannel component, boolean resendByName) {
     // write the default needed information we need
-    var dataBuf = this.dataBufFactory.createEmpty()
-      .writeBoolean(false) // not a method chain
-      .writeString(this.className)
-      .writeString(this.methodName)
+    var dataBuf = this.dataBufFactory.createEmpty().writeByte(RPCRequestPacket.SINGLE_REQUEST);
+    RPCMethodIdCache.writeTargetMethod(dataBuf, component, this.methodKey);
+    dataBuf
       .writeBoolean(this.resultExpectation)
       .writeInt(this.arguments.length);
     // write the arguments provided
     for (var argument : this.arguments) {
       this.objectMapper.writeObject(dataBuf, argument);
     }
+    // record the call before sending, the buffer is released once written
+    var metrics = RPCMetrics.callerMetrics().method(this.className, this.methodName);
+    metrics.recordRequest(dataBuf.readableBytes());
     // send query if result is needed
     if (this.resultExpectation) {
       // now send the query and read the response
+      var startNanos = System.nanoTime();
+      var resultMapper = new RPCResultMapper<T>(this.expectedResultType, this.objectMapper, component, this.methodKey);
       return Task.wrapFuture(component
         .sendQueryAsync(new RPCRequestPacket(dataBuf))
-        .thenApply(new RPCResultMapper<>(this.expectedResultType, this.objectMapper)));
+        .thenApply(response -> {
+          if (response.readable()) {
+            metrics.recordResponse(response.content().readableBytes());
+          }
+          return response;
+        })
+        .thenCompose(response -> {
+          if (resendByName
+            && response.readable()
+            && RPCMethodIdCache.forgetOnUnknownMethod(component, response.content())) {
+            // the remote doesn't know the method id (anymore), the ids were dropped and the names are sent instead
+            return this.<T>fire(component, false);
+          }
+          return CompletableFuture.completedFuture(response).thenApply(resultMapper);
+        })
+        .whenComplete((result, exception) -> metrics.recordCompletion(
+          startNanos,
+          exception != null,
+          this.arguments)));
     } else {
       // just send the method invocation request
       component.sendPacket(new RPCRequestPacket(dataBuf));
       return Task.completedTask(null);
     }
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull <T> Flow.Publisher<T> fireStream(@NonNull NetworkChannel component) {
+    return new RPCStreamSubscription<>(
+      component,
+      streamElementType(this.expectedResultType),
+      this.objectMapper,
+      this.dataBufFactory,
+      streamId -> {
+        var dataBuf = this.dataBufFactory.createEmpty()
+          .writeByte(RPCRequestPacket.STREAM_REQUEST)
+          .writeUniqueId(streamId)
+          .writeVarInt(RPCStreamSessions.INITIAL_CREDITS);
+        // streams are not resent, always send the names to prevent sending an id which the remote doesn't know
+        RPCMethodIdCache.writeMethodName(dataBuf, this.methodKey);
+        dataBuf.writeBoolean(true).writeInt(this.arguments.length);
+        // write the arguments provided
+        for (var argument : this.arguments) {
+          this.objectMapper.writeObject(dataBuf, argument);
+        }
+        return new RPCRequestPacket(dataBuf);
+      });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull <T> Stream<T> fireStreamSync(@NonNull NetworkChannel component) {
+    return BlockingRPCStreamIterator.stream(this.fireStream(component));
+  }
+
+  /**
+   * Resolves the type of the elements which are streamed when calling a method with the given return type. For
+   * iterables, iterators, streams and arrays the element type is returned, for all other types the given type.
+   *
+   * @param resultType the return type of the method to stream the result of.
+   * @return the type of the elements which are streamed.
+   * @throws NullPointerException if the given result type is null.
+   */
+  protected static @NonNull Type streamElementType(@NonNull Type resultType) {
+    var typeToken = TypeToken.of(resultType);
+    for (var containerType : STREAM_CONTAINER_TYPES) {
+      if (typeToken.isSubtypeOf(containerType)) {
+        return typeToken.resolveType(containerType.getTypeParameters()[0]).getType();
+      }
+    }
+
+    // arrays are streamed element by element as well
+    var componentType = typeToken.getComponentType();
+    return componentType == null ? resultType : componentType.getType();
+  }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults.rpc;
+
+import com.google.common.util.concurrent.UncheckedTimeoutException;
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.RPC;
+import eu.cloudnetservice.driver.network.rpc.RPCBatch;
+import eu.cloudnetservice.driver.network.rpc.packet.RPCRequestPacket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import lombok.NonNull;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * The default implementation of a rpc batch.
+ *
+ * @since 4.0
+ */
+public class DefaultRPCBatch implements RPCBatch {
+
+  protected final DataBufFactory dataBufFactory;
+  protected final List<BatchEntry> entries = new ArrayList<>();
+
+  protected boolean parallel;
+  protected boolean fired;
+
+  /**
+   * Constructs a new default rpc batch instance.
+   *
+   * @param dataBufFactory the data buf factory to use for data buf allocation.
+   * @throws NullPointerException if the given data buf factory is null.
+   */
+  public DefaultRPCBatch(@NonNull DataBufFactory dataBufFactory) {
+    this.dataBufFactory = dataBufFactory;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NonNull <T> Task<T> add(@NonNull RPC rpc) {
+    this.ensureNotFired();
+
+    var task = new Task<>();
+    this.entries.add(new BatchEntry(rpc, task));
+    return (Task<T>) task;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull @UnmodifiableView List<RPC> rpcs() {
+    return this.entries.stream().map(BatchEntry::rpc).toList();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull RPCBatch parallel(boolean parallel) {
+    this.parallel = parallel;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean parallel() {
+    return this.parallel;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<Void> fire() {
+    if (this.entries.isEmpty()) {
+      this.ensureNotFired();
+      this.fired = true;
+      return Task.completedTask(null);
+    }
+
+    var component = this.entries.get(0).rpc().sender().associatedComponent();
+    return this.fire(Objects.requireNonNull(component.firstChannel()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<Void> fire(@NonNull NetworkChannel channel) {
+    this.ensureNotFired();
+    this.fired = true;
+
+    // write the general information about the batch
+    var expectsResult = false;
+    var dataBuf = this.dataBufFactory.createEmpty()
+      .writeByte(RPCRequestPacket.BATCH_REQUEST)
+      .writeBoolean(this.parallel)
+      .writeVarInt(this.entries.size());
+    // write each rpc into a separate buffer, allowing the remote to split the rpcs for parallel execution
+    for (var entry : this.entries) {
+      var rpc = entry.rpc();
+      var rpcBuf = rpc.dataBufFactory().createEmpty();
+      RPCMethodIdCache.writeTargetMethod(rpcBuf, channel, entry.methodKey());
+      rpcBuf.writeBoolean(rpc.expectsResult()).writeInt(rpc.arguments().length);
+      for (var argument : rpc.arguments()) {
+        rpc.objectMapper().writeObject(rpcBuf, argument);
+      }
+
+      dataBuf.writeDataBuf(rpcBuf);
+      expectsResult |= rpc.expectsResult();
+    }
+    // send query if a result is needed
+    if (expectsResult) {
+      var resultFuture = channel.sendQueryAsync(new RPCRequestPacket(dataBuf))
+        .thenAccept(response -> this.completeEntries(channel, response))
+        .whenComplete(($, exception) -> {
+          if (exception != null) {
+            // unwrap the exception, all tasks which were not completed yet should fail with the actual exception
+            var cause = exception instanceof CompletionException && exception.getCause() != null
+              ? exception.getCause()
+              : exception;
+            this.entries.forEach(entry -> entry.task().completeExceptionally(cause));
+          }
+        });
+      return Task.wrapFuture(resultFuture);
+    } else {
+      // just send the method invocation requests
+      channel.sendPacket(new RPCRequestPacket(dataBuf));
+      this.entries.forEach(entry -> entry.task().complete(null));
+      return Task.completedTask(null);
+    }
+  }
+
+  /**
+   * Completes the tasks of all rpcs in this batch with the results contained in the given response.
+   *
+   * @param channel  the channel to which this batch was sent.
+   * @param response the response to the batch request.
+   * @throws NullPointerException      if the given channel or response is null.
+   * @throws UncheckedTimeoutException if the query timed out before the remote responded.
+   */
+  protected void completeEntries(@NonNull NetworkChannel channel, @NonNull Packet response) {
+    if (!response.readable()) {
+      throw new UncheckedTimeoutException("Query future was completed before rpc batch was able to respond");
+    }
+
+    var content = response.content();
+    var resultCount = content.readVarInt();
+    for (var i = 0; i < this.entries.size(); i++) {
+      var entry = this.entries.get(i);
+      if (i >= resultCount) {
+        // the remote sent fewer results than rpcs were contained in the batch
+        entry.task().completeExceptionally(new IllegalStateException("Remote sent no result for rpc in batch"));
+      } else if (content.readBoolean()) {
+        // the remote sent a result for the rpc
+        try (var result = content.readDataBuf()) {
+          var rpc = entry.rpc();
+          if (RPCMethodIdCache.forgetOnUnknownMethod(channel, result)) {
+            // the remote doesn't know the method id (anymore), resend the rpc on its own which now uses the names
+            rpc.fire(channel).whenComplete((value, exception) -> {
+              if (exception != null) {
+                entry.task().completeExceptionally(exception);
+              } else {
+                entry.task().complete(value);
+              }
+            });
+            continue;
+          }
+
+          var mapper = new RPCResultMapper<>(rpc.expectedResultType(), rpc.objectMapper(), channel, entry.methodKey());
+          entry.task().complete(mapper.mapResult(result));
+        } catch (Throwable throwable) {
+          entry.task().completeExceptionally(throwable);
+        }
+      } else if (entry.rpc().expectsResult()) {
+        // the remote only omits the result if none was expected
+        entry.task().completeExceptionally(new IllegalStateException("Remote sent no result for rpc in batch"));
+      } else {
+        // no result was expected
+        entry.task().complete(null);
+      }
+    }
+  }
+
+  /**
+   * Ensures that this batch was not fired yet.
+   *
+   * @throws IllegalStateException if this batch was already fired.
+   */
+  protected void ensureNotFired() {
+    if (this.fired) {
+      throw new IllegalStateException("RPC batch was already fired");
+    }
+  }
+
+  /**
+   * A rpc which was added to a batch.
+   *
+   * @param rpc       the rpc which was added to the batch.
+   * @param task      the task to complete with the result of the rpc.
+   * @param methodKey the key of the method targeted by the rpc.
+   * @since 4.0
+   */
+  protected record BatchEntry(
+    @NonNull RPC rpc,
+    @NonNull Task<Object> task,
+    @NonNull RPCMethodIdCache.MethodKey methodKey
+  ) {
+
+    /**
+     * Constructs a new batch entry for the given rpc.
+     *
+     * @param rpc  the rpc which was added to the batch.
+     * @param task the task to complete with the result of the rpc.
+     * @throws NullPointerException if the given rpc or task is null.
+     */
+    public BatchEntry(@NonNull RPC rpc, @NonNull Task<Object> task) {
+      this(rpc, task, new RPCMethodIdCache.MethodKey(rpc.className(), rpc.methodName()));
+    }
+  }
+}
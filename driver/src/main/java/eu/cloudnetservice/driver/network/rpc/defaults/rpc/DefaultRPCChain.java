@@ -29,6 +29,7 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import lombok.NonNull;
 
@@ -165,22 +166,45 @@ public void fireAndForget(@NonNull NetworkChannel component) {
    */
   @Override
   public @NonNull <T> Task<T> fire(@NonNull NetworkChannel component) {
+    return this.fire(component, true);
+  }
+
+  /**
+   * Fires this rpc chain to the given channel. If the remote responds that it doesn't know one of the method ids which
+   * were sent in the request, the chain is resent once using the names of the target classes and methods if requested.
+   *
+   * @param component    the channel to send the rpc chain to.
+   * @param resendByName if the chain should be resent by name if the remote doesn't know a sent method id.
+   * @param <T>          the type of the result of the rpc chain.
+   * @return a task completed with the result of the rpc chain.
+   * @throws NullPointerException if the given channel is null.
+   */
+  protected @NonNull <T> Task<T> fire(@NonNull NetworkChannel component, boolean resendByName) {
     // information about the root invocation
     var dataBuf = this.dataBufFactory.createEmpty()
-      .writeBoolean(true) // method chain
+      .writeByte(RPCRequestPacket.CHAIN_REQUEST)
       .writeInt(this.rpcChain.size() + 1); // chain length (+1 because the root chain is not included)
     // write the root rpc first
-    this.writeRPCInformation(dataBuf, this.rootRPC, false); // the root rpc can never the last
+    this.writeRPCInformation(dataBuf, component, this.rootRPC, false); // the root rpc can never the last
     // write the full chain
     for (var i = 0; i < this.rpcChain.size(); i++) {
-      this.writeRPCInformation(dataBuf, this.rpcChain.get(i), i < (this.rpcChain.size() - 1));
+      this.writeRPCInformation(dataBuf, component, this.rpcChain.get(i), i < (this.rpcChain.size() - 1));
     }
     // send query if result is needed
     if (this.headRPC.expectsResult()) {
       // now send the query and read the response
+      var resultMapper = new RPCResultMapper<T>(this.headRPC.expectedResultType(), this.objectMapper, component, null);
       return Task.wrapFuture(component
         .sendQueryAsync(new RPCRequestPacket(dataBuf))
-        .thenApply(new RPCResultMapper<>(this.headRPC.expectedResultType(), this.objectMapper)));
+        .thenCompose(response -> {
+          if (resendByName
+            && response.readable()
+            && RPCMethodIdCache.forgetOnUnknownMethod(component, response.content())) {
+            // the remote doesn't know one of the method ids (anymore), the ids were dropped and the names are sent
+            return this.<T>fire(component, false);
+          }
+          return CompletableFuture.completedFuture(response).thenApply(resultMapper);
+        }));
     } else {
       // just send the method invocation request
       component.sendPacket(new RPCRequestPacket(dataBuf));
@@ -192,15 +216,21 @@ public void fireAndForget(@NonNull NetworkChannel component) {
    * Writes the given rpc into the given buffer.
    *
    * @param dataBuf the data buffer to write the rpc to.
+   * @param channel the channel to which the rpc chain is sent.
    * @param rpc     the rpc to serialize.
    * @param last    true if the given rpc is the last rpc in the call chain, false otherwise.
-   * @throws NullPointerException if either the given buffer or rpc is null.
+   * @throws NullPointerException if either the given buffer, channel or rpc is null.
    */
-  protected void writeRPCInformation(@NonNull DataBuf.Mutable dataBuf, @NonNull RPC rpc, boolean last) {
+  protected void writeRPCInformation(
+    @NonNull DataBuf.Mutable dataBuf,
+    @NonNull NetworkChannel channel,
+    @NonNull RPC rpc,
+    boolean last
+  ) {
     // general information about the rpc invocation
+    var methodKey = new RPCMethodIdCache.MethodKey(rpc.className(), rpc.methodName());
+    RPCMethodIdCache.writeTargetMethod(dataBuf, channel, methodKey);
     dataBuf
-      .writeString(rpc.className())
-      .writeString(rpc.methodName())
       .writeBoolean(!last || rpc.expectsResult())
       .writeInt(rpc.arguments().length);
     // write the arguments provided
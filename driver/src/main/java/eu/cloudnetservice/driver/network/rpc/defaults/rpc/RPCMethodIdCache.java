@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults.rpc;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.rpc.RPCHandlerRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+
+/**
+ * Holds the method ids which were assigned by the remote handler registry of each network channel. As long as no id is
+ * known for a method, the class and method name are sent with each rpc. The remote registry responds with the id it
+ * assigned to the method, which is then sent instead of the names for all subsequent calls on the same channel.
+ * <p>
+ * Channels are weakly referenced, the ids of a channel are dropped together with the channel. A reconnect results in a
+ * new channel, therefore the ids are negotiated again with a possibly restarted remote. If the remote still responds
+ * that it doesn't know a method id, all ids of the channel are dropped and the rpc is resent using the names.
+ *
+ * @since 4.0
+ */
+final class RPCMethodIdCache {
+
+  private static final Cache<NetworkChannel, Map<MethodKey, Integer>> METHOD_IDS = Caffeine.newBuilder()
+    .weakKeys()
+    .build();
+
+  private RPCMethodIdCache() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Writes the target method of a rpc into the given buffer. If the id of the method is known for the given channel
+   * only the id is written, in all other cases a zero id followed by the class and method name.
+   *
+   * @param dataBuf the buffer to write the target method to.
+   * @param channel the channel to which the rpc is sent.
+   * @param key     the key of the target method.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  static void writeTargetMethod(
+    @NonNull DataBuf.Mutable dataBuf,
+    @NonNull NetworkChannel channel,
+    @NonNull MethodKey key
+  ) {
+    var methodId = methodId(channel, key);
+    if (methodId == 0) {
+      // the remote did not assign an id yet, fall back to the names
+      writeMethodName(dataBuf, key);
+    } else {
+      dataBuf.writeVarInt(methodId);
+    }
+  }
+
+  /**
+   * Writes the target method of a rpc into the given buffer using the class and method name, regardless if an id is
+   * known for the method. The remote will not assign an id to the method when receiving the names this way.
+   *
+   * @param dataBuf the buffer to write the target method to.
+   * @param key     the key of the target method.
+   * @throws NullPointerException if the given buffer or key is null.
+   */
+  static void writeMethodName(@NonNull DataBuf.Mutable dataBuf, @NonNull MethodKey key) {
+    dataBuf.writeVarInt(0).writeString(key.className()).writeString(key.methodName());
+  }
+
+  /**
+   * Get the id which the remote handler registry of the given channel assigned to the given method.
+   *
+   * @param channel the channel to get the method id for.
+   * @param key     the key of the method to get the id of.
+   * @return the id of the method, zero if the id is not known.
+   * @throws NullPointerException if the given channel or key is null.
+   */
+  static int methodId(@NonNull NetworkChannel channel, @NonNull MethodKey key) {
+    var methodIds = METHOD_IDS.getIfPresent(channel);
+    if (methodIds != null) {
+      var methodId = methodIds.get(key);
+      return methodId == null ? 0 : methodId;
+    }
+    return 0;
+  }
+
+  /**
+   * Remembers the id which the remote handler registry of the given channel assigned to the given method.
+   *
+   * @param channel  the channel from which the method id was received.
+   * @param key      the key of the method to which the id was assigned.
+   * @param methodId the id assigned to the method.
+   * @throws NullPointerException if the given channel or key is null.
+   */
+  static void rememberMethodId(@NonNull NetworkChannel channel, @NonNull MethodKey key, int methodId) {
+    METHOD_IDS.get(channel, $ -> new ConcurrentHashMap<>()).put(key, methodId);
+  }
+
+  /**
+   * Checks if the given rpc response indicates that the remote did not know the method id which was sent in the
+   * request. In that case all method ids known for the given channel are forgotten, as the remote registry no longer
+   * matches them. The reader index of the given buffer is not changed by this method.
+   *
+   * @param channel the channel from which the response was received.
+   * @param content the content of the rpc response.
+   * @return true if the remote did not know the method id sent in the request, false otherwise.
+   * @throws NullPointerException if the given channel or content is null.
+   */
+  static boolean forgetOnUnknownMethod(@NonNull NetworkChannel channel, @NonNull DataBuf content) {
+    content.startTransaction();
+    var methodId = content.readVarInt();
+    content.redoTransaction();
+
+    if (methodId == RPCHandlerRegistry.UNKNOWN_METHOD_ID) {
+      METHOD_IDS.invalidate(channel);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * The key of a method targeted by a rpc.
+   *
+   * @param className  the canonical name of the class in which the method is located.
+   * @param methodName the name of the method.
+   * @since 4.0
+   */
+  record MethodKey(@NonNull String className, @NonNull String methodName) {
+
+  }
+}
@@ -17,24 +17,30 @@
 package eu.cloudnetservice.driver.network.rpc.defaults.rpc;
 
 import com.google.common.util.concurrent.UncheckedTimeoutException;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.rpc.defaults.handler.util.ExceptionalResultUtil;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
 import java.lang.reflect.Type;
 import java.util.function.Function;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 
 /**
  * The shared mapping function between the rpc chain and default rpc handling the result of a remote code execution and
- * mapping the result in a convenient way.
+ * mapping the result in a convenient way. If the remote assigned an id to the called method, the id is remembered for
+ * the channel the rpc was sent to.
  *
  * @param <T> the generic expected result type of the rpc.
  * @since 4.0
  */
 record RPCResultMapper<T>(
   @NonNull Type expectedResultType,
-  @NonNull ObjectMapper objectMapper
+  @NonNull ObjectMapper objectMapper,
+  @NonNull NetworkChannel channel,
+  @Nullable RPCMethodIdCache.MethodKey methodKey
 ) implements Function<Packet, T> {
 
   /**
@@ -44,19 +50,34 @@
   public @UnknownNullability T apply(@UnknownNullability Packet response) {
     // check if the query timed out before trying to read from the buffer
     if (response.readable()) {
-      // the remote execution responded - check if the execution was successful or resulted in an exception
-      var content = response.content();
-      if (content.readBoolean()) {
-        // the execution did not throw an exception
-        return this.objectMapper.readObject(content, this.expectedResultType);
-      } else {
-        // rethrow the execution exception
-        ExceptionalResultUtil.rethrowException(content);
-        return null; // ok fine, but this will never happen - no one was seen again after entering the rethrowException method
-      }
+      return this.mapResult(response.content());
     } else {
       // the query timed out - just cover that case in a nice exception wrapper :(
       throw new UncheckedTimeoutException("Query future was completed before rpc was able to respond");
     }
   }
+
+  /**
+   * Maps the result of a remote execution which was serialized into the given buffer.
+   *
+   * @param content the buffer containing the serialized result of the remote execution.
+   * @return the result of the remote execution.
+   * @throws NullPointerException if the given buffer is null.
+   */
+  public @UnknownNullability T mapResult(@NonNull DataBuf content) {
+    var methodId = content.readVarInt();
+    if (methodId > 0 && this.methodKey != null) {
+      RPCMethodIdCache.rememberMethodId(this.channel, this.methodKey, methodId);
+    }
+
+    // the remote execution responded - check if the execution was successful or resulted in an exception
+    if (content.readBoolean()) {
+      // the execution did not throw an exception
+      return this.objectMapper.readObject(content, this.expectedResultType);
+    } else {
+      // rethrow the execution exception
+      ExceptionalResultUtil.rethrowException(content);
+      return null; // ok fine, but this will never happen - no one was seen again after entering the rethrowException method
+    }
+  }
 }
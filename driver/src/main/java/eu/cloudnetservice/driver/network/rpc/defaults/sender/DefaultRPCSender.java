@@ -113,7 +113,7 @@ public DefaultRPCSender(
       methodName,
       args,
       this.objectMapper,
-      information.returnType(),
+      information.resultType(),
       this.dataBufFactory);
   }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults.stream;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.UnknownNullability;
+
+/**
+ * A subscriber to a rpc stream which exposes the received elements as a blocking iterator. Elements are requested in
+ * batches of the stream chunk size, a new batch is requested once the previous batch was consumed.
+ *
+ * @param <T> the type of the elements in the stream.
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class BlockingRPCStreamIterator<T> implements Flow.Subscriber<T>, Iterator<T> {
+
+  private static final Object NULL_ELEMENT = new Object();
+  private static final Object COMPLETED = new Object();
+
+  private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+
+  private volatile Flow.Subscription subscription;
+
+  // only accessed by the thread consuming the iterator
+  private Object next;
+  private int consumed;
+
+  /**
+   * Subscribes to the given publisher and wraps the received elements into a sequential stream. Closing the stream
+   * cancels the subscription.
+   *
+   * @param publisher the publisher to subscribe to.
+   * @param <T>       the type of the elements in the stream.
+   * @return a blocking stream of the elements published by the given publisher.
+   * @throws NullPointerException if the given publisher is null.
+   */
+  public static <T> @NonNull Stream<T> stream(@NonNull Flow.Publisher<T> publisher) {
+    var iterator = new BlockingRPCStreamIterator<T>();
+    publisher.subscribe(iterator);
+
+    var spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+    return StreamSupport.stream(spliterator, false).onClose(iterator::cancel);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onSubscribe(@NonNull Flow.Subscription subscription) {
+    this.subscription = subscription;
+    subscription.request(RPCStreamSessions.CHUNK_SIZE);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onNext(T item) {
+    this.signals.add(item == null ? NULL_ELEMENT : item);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onError(@NonNull Throwable throwable) {
+    this.signals.add(new Failure(throwable));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onComplete() {
+    this.signals.add(COMPLETED);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean hasNext() {
+    if (this.next == null) {
+      try {
+        this.next = this.signals.take();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt(); // reset the interrupted state of the thread
+        this.cancel();
+        throw new IllegalThreadStateException();
+      }
+    }
+
+    // rethrow the exception which caused the stream to fail
+    if (this.next instanceof Failure failure) {
+      if (failure.throwable() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(failure.throwable());
+    }
+
+    return this.next != COMPLETED;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public @UnknownNullability T next() {
+    if (!this.hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    var element = this.next;
+    this.next = null;
+
+    // request the next batch once the previous batch was consumed
+    if (++this.consumed == RPCStreamSessions.CHUNK_SIZE) {
+      this.consumed = 0;
+      this.subscription.request(RPCStreamSessions.CHUNK_SIZE);
+    }
+
+    return element == NULL_ELEMENT ? null : (T) element;
+  }
+
+  /**
+   * Cancels the underlying subscription, no more elements are received after this call.
+   */
+  public void cancel() {
+    var subscription = this.subscription;
+    if (subscription != null) {
+      subscription.cancel();
+    }
+  }
+
+  /**
+   * A signal indicating that the stream failed.
+   *
+   * @param throwable the reason why the stream failed.
+   * @since 4.0
+   */
+  private record Failure(@NonNull Throwable throwable) {
+
+  }
+}
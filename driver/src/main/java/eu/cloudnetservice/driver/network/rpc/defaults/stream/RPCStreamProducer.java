@@ -0,0 +1,205 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults.stream;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.rpc.defaults.handler.util.ExceptionalResultUtil;
+import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
+import eu.cloudnetservice.driver.network.rpc.packet.RPCStreamPacket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.BaseStream;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The producing side of a rpc stream. The producer iterates over the result of the invoked method and sends the
+ * elements in chunks to the consumer, as long as the consumer granted credits for more chunks.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class RPCStreamProducer {
+
+  private final UUID streamId;
+  private final NetworkChannel channel;
+  private final Iterator<?> iterator;
+  private final AutoCloseable resource;
+  private final ObjectMapper objectMapper;
+  private final DataBufFactory dataBufFactory;
+
+  private int credits;
+  private boolean closed;
+
+  /**
+   * Constructs a new rpc stream producer.
+   *
+   * @param streamId       the id of the stream, chosen by the consumer.
+   * @param channel        the channel to which the chunks of the stream are sent.
+   * @param result         the result of the method invocation, which gets streamed to the consumer.
+   * @param credits        the number of chunks which can be sent before receiving more credits.
+   * @param objectMapper   the object mapper to use to serialize the elements.
+   * @param dataBufFactory the buffer factory to use to allocate the chunk buffers.
+   * @throws NullPointerException if one of the given parameters, except for the result, is null.
+   */
+  public RPCStreamProducer(
+    @NonNull UUID streamId,
+    @NonNull NetworkChannel channel,
+    @Nullable Object result,
+    int credits,
+    @NonNull ObjectMapper objectMapper,
+    @NonNull DataBufFactory dataBufFactory
+  ) {
+    this.streamId = streamId;
+    this.channel = channel;
+    this.iterator = toIterator(result);
+    this.resource = result instanceof BaseStream<?, ?> stream ? stream : null;
+    this.credits = credits;
+    this.objectMapper = objectMapper;
+    this.dataBufFactory = dataBufFactory;
+  }
+
+  /**
+   * Converts the result of a method invocation to an iterator over the elements to stream. Iterables, iterators,
+   * streams and object arrays are streamed element by element, null results in an empty stream and any other object
+   * results in a stream containing only the given object.
+   *
+   * @param result the result to convert.
+   * @return an iterator over the elements to stream.
+   */
+  static @NonNull Iterator<?> toIterator(@Nullable Object result) {
+    if (result == null) {
+      return Collections.emptyIterator();
+    } else if (result instanceof Iterable<?> iterable) {
+      return iterable.iterator();
+    } else if (result instanceof Iterator<?> iterator) {
+      return iterator;
+    } else if (result instanceof BaseStream<?, ?> stream) {
+      return stream.iterator();
+    } else if (result instanceof Object[] array) {
+      return Arrays.asList(array).iterator();
+    } else {
+      return Collections.singleton(result).iterator();
+    }
+  }
+
+  /**
+   * Get the id of the stream produced by this producer.
+   *
+   * @return the id of the stream.
+   */
+  public @NonNull UUID streamId() {
+    return this.streamId;
+  }
+
+  /**
+   * Get the channel to which the chunks of the stream are sent.
+   *
+   * @return the channel of the stream.
+   */
+  public @NonNull NetworkChannel channel() {
+    return this.channel;
+  }
+
+  /**
+   * Adds the given number of credits to this producer and continues sending chunks if possible.
+   *
+   * @param credits the number of credits granted by the consumer.
+   */
+  public synchronized void grantCredits(int credits) {
+    this.credits += credits;
+    this.pump();
+  }
+
+  /**
+   * Sends chunks to the consumer as long as there are credits left. The stream is ended once all elements were sent,
+   * or failed if an exception is thrown while iterating over the elements.
+   */
+  public synchronized void pump() {
+    while (!this.closed && this.credits > 0) {
+      // the consumer is gone, no need to produce further elements
+      if (!this.channel.active()) {
+        this.close();
+        return;
+      }
+
+      try {
+        if (!this.iterator.hasNext()) {
+          this.sendMessage(RPCStreamSessions.END);
+          this.close();
+          return;
+        }
+
+        // collect the elements first as the element count is needed before the elements
+        var elements = new ArrayList<>(RPCStreamSessions.CHUNK_SIZE);
+        while (elements.size() < RPCStreamSessions.CHUNK_SIZE && this.iterator.hasNext()) {
+          elements.add(this.iterator.next());
+        }
+
+        var chunk = this.dataBufFactory.createEmpty()
+          .writeByte(RPCStreamSessions.DATA)
+          .writeUniqueId(this.streamId)
+          .writeVarInt(elements.size());
+        for (var element : elements) {
+          this.objectMapper.writeObject(chunk, element);
+        }
+
+        this.channel.sendPacket(new RPCStreamPacket(chunk));
+        this.credits--;
+      } catch (Throwable throwable) {
+        var error = this.dataBufFactory.createEmpty()
+          .writeByte(RPCStreamSessions.ERROR)
+          .writeUniqueId(this.streamId);
+        this.channel.sendPacket(new RPCStreamPacket(ExceptionalResultUtil.serializeThrowable(error, throwable)));
+        this.close();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Closes this producer without notifying the consumer, releasing the underlying resource if needed.
+   */
+  public synchronized void close() {
+    if (!this.closed) {
+      this.closed = true;
+      RPCStreamSessions.unregisterProducer(this.streamId);
+
+      if (this.resource != null) {
+        try {
+          this.resource.close();
+        } catch (Exception ignored) {
+        }
+      }
+    }
+  }
+
+  /**
+   * Sends a message without further content to the consumer of the stream.
+   *
+   * @param type the type of message to send.
+   */
+  private void sendMessage(byte type) {
+    var message = this.dataBufFactory.createEmpty().writeByte(type).writeUniqueId(this.streamId);
+    this.channel.sendPacket(new RPCStreamPacket(message));
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults.stream;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.google.common.util.concurrent.UncheckedTimeoutException;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds all rpc streams which are currently open, both the streams which are produced by this component and the streams
+ * which are consumed by this component. A stream is identified by a unique id chosen by the consuming side.
+ * <p>
+ * A stream is transferred as a sequence of chunks, each containing up to {@code cloudnet.rpc.stream-chunk-size}
+ * elements (by default 128). The producer may only send as many chunks as the consumer granted credits, the consumer
+ * grants {@code cloudnet.rpc.stream-initial-credits} (by default 4) credits initially and one more credit each time a
+ * chunk was fully delivered to the subscriber. Streams are closed when the channel they are transferred over closes,
+ * streams which were not accessed for five minutes are closed as well.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class RPCStreamSessions {
+
+  /**
+   * A chunk of elements sent from the producer to the consumer.
+   */
+  public static final byte DATA = 0;
+  /**
+   * Sent from the producer to the consumer when all elements were sent.
+   */
+  public static final byte END = 1;
+  /**
+   * Sent from the producer to the consumer when the stream failed, followed by the serialized exception.
+   */
+  public static final byte ERROR = 2;
+  /**
+   * Sent from the consumer to the producer to allow the producer to send more chunks.
+   */
+  public static final byte CREDIT = 3;
+  /**
+   * Sent from the consumer to the producer when the consumer is no longer interested in the stream.
+   */
+  public static final byte CANCEL = 4;
+
+  /**
+   * The maximum number of elements in a single chunk.
+   */
+  public static final int CHUNK_SIZE = Math.max(1, Integer.getInteger("cloudnet.rpc.stream-chunk-size", 128));
+  /**
+   * The number of chunks a producer may send before receiving the first credit from the consumer.
+   */
+  public static final int INITIAL_CREDITS = Math.max(1, Integer.getInteger("cloudnet.rpc.stream-initial-credits", 4));
+
+  private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+  private static final Cache<UUID, RPCStreamProducer> PRODUCERS = Caffeine.newBuilder()
+    .expireAfterAccess(IDLE_TIMEOUT)
+    .scheduler(Scheduler.systemScheduler())
+    .<UUID, RPCStreamProducer>removalListener((streamId, producer, cause) -> {
+      if (producer != null && cause.wasEvicted()) {
+        producer.close();
+      }
+    })
+    .build();
+  private static final Cache<UUID, RPCStreamSubscription<?>> CONSUMERS = Caffeine.newBuilder()
+    .expireAfterAccess(IDLE_TIMEOUT)
+    .scheduler(Scheduler.systemScheduler())
+    .<UUID, RPCStreamSubscription<?>>removalListener((streamId, consumer, cause) -> {
+      if (consumer != null && cause.wasEvicted()) {
+        consumer.fail(new UncheckedTimeoutException("RPC stream " + streamId + " was idle for too long"));
+      }
+    })
+    .build();
+
+  private RPCStreamSessions() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Registers the given producer, allowing it to receive credits from the consumer.
+   *
+   * @param producer the producer to register.
+   * @throws NullPointerException if the given producer is null.
+   */
+  public static void registerProducer(@NonNull RPCStreamProducer producer) {
+    PRODUCERS.put(producer.streamId(), producer);
+  }
+
+  /**
+   * Get the producer of the stream with the given id, null if this component doesn't produce the stream.
+   *
+   * @param streamId the id of the stream to get the producer of.
+   * @return the producer of the stream with the given id, null if no such producer is registered.
+   * @throws NullPointerException if the given stream id is null.
+   */
+  public static @Nullable RPCStreamProducer producer(@NonNull UUID streamId) {
+    return PRODUCERS.getIfPresent(streamId);
+  }
+
+  /**
+   * Unregisters the producer of the stream with the given id.
+   *
+   * @param streamId the id of the stream to unregister the producer of.
+   * @throws NullPointerException if the given stream id is null.
+   */
+  public static void unregisterProducer(@NonNull UUID streamId) {
+    PRODUCERS.invalidate(streamId);
+  }
+
+  /**
+   * Registers the given consumer, allowing it to receive the chunks of the stream.
+   *
+   * @param consumer the consumer to register.
+   * @throws NullPointerException if the given consumer is null.
+   */
+  public static void registerConsumer(@NonNull RPCStreamSubscription<?> consumer) {
+    CONSUMERS.put(consumer.streamId(), consumer);
+  }
+
+  /**
+   * Get the consumer of the stream with the given id, null if this component doesn't consume the stream.
+   *
+   * @param streamId the id of the stream to get the consumer of.
+   * @return the consumer of the stream with the given id, null if no such consumer is registered.
+   * @throws NullPointerException if the given stream id is null.
+   */
+  public static @Nullable RPCStreamSubscription<?> consumer(@NonNull UUID streamId) {
+    return CONSUMERS.getIfPresent(streamId);
+  }
+
+  /**
+   * Unregisters the consumer of the stream with the given id.
+   *
+   * @param streamId the id of the stream to unregister the consumer of.
+   * @throws NullPointerException if the given stream id is null.
+   */
+  public static void unregisterConsumer(@NonNull UUID streamId) {
+    CONSUMERS.invalidate(streamId);
+  }
+
+  /**
+   * Closes all streams which are transferred over the given channel. Producers are closed without notifying the
+   * consumer, consumers are failed as no more chunks can be received.
+   *
+   * @param channel the channel which was closed.
+   * @throws NullPointerException if the given channel is null.
+   */
+  public static void closeSessions(@NonNull NetworkChannel channel) {
+    for (var producer : PRODUCERS.asMap().values()) {
+      if (producer.channel().equals(channel)) {
+        producer.close();
+      }
+    }
+
+    for (var consumer : CONSUMERS.asMap().values()) {
+      if (consumer.channel().equals(channel)) {
+        consumer.fail(new IllegalStateException("Channel of rpc stream " + consumer.streamId() + " was closed"));
+      }
+    }
+  }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults.stream;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.defaults.handler.util.ExceptionalResultUtil;
+import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
+import eu.cloudnetservice.driver.network.rpc.packet.RPCStreamPacket;
+import java.lang.reflect.Type;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * The consuming side of a rpc stream. The rpc request is sent once a subscriber subscribes to this publisher, the
+ * chunks sent by the producer are buffered and delivered to the subscriber based on its demand. A new credit is granted
+ * to the producer each time a chunk was fully delivered to the subscriber, therefore the producer can never send more
+ * chunks than initially granted credits ahead of the subscriber.
+ * <p>
+ * A rpc stream can only be subscribed to once, any further subscriber receives an error.
+ *
+ * @param <T> the type of the elements in the stream.
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class RPCStreamSubscription<T> implements Flow.Publisher<T>, Flow.Subscription {
+
+  private final UUID streamId = UUID.randomUUID();
+
+  private final NetworkChannel channel;
+  private final Type elementType;
+  private final ObjectMapper objectMapper;
+  private final DataBufFactory dataBufFactory;
+  private final Function<UUID, Packet> requestFactory;
+
+  private final Queue<Object[]> chunks = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean subscribed = new AtomicBoolean();
+  private final AtomicLong demand = new AtomicLong();
+  private final AtomicInteger drainRequests = new AtomicInteger();
+
+  private volatile Flow.Subscriber<? super T> subscriber;
+  private volatile boolean done;
+  private volatile boolean cancelled;
+  private volatile Throwable error;
+
+  // only accessed by the thread currently draining the chunks
+  private Object[] currentChunk;
+  private int chunkIndex;
+
+  /**
+   * Constructs a new rpc stream subscription.
+   *
+   * @param channel        the channel to which the stream request is sent.
+   * @param elementType    the type of the elements in the stream.
+   * @param objectMapper   the object mapper to use to deserialize the elements.
+   * @param dataBufFactory the buffer factory to use to allocate the flow control buffers.
+   * @param requestFactory the factory for the stream request packet, applied with the id of the stream.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  public RPCStreamSubscription(
+    @NonNull NetworkChannel channel,
+    @NonNull Type elementType,
+    @NonNull ObjectMapper objectMapper,
+    @NonNull DataBufFactory dataBufFactory,
+    @NonNull Function<UUID, Packet> requestFactory
+  ) {
+    this.channel = channel;
+    this.elementType = elementType;
+    this.objectMapper = objectMapper;
+    this.dataBufFactory = dataBufFactory;
+    this.requestFactory = requestFactory;
+  }
+
+  /**
+   * Get the id of this stream.
+   *
+   * @return the id of this stream.
+   */
+  public @NonNull UUID streamId() {
+    return this.streamId;
+  }
+
+  /**
+   * Get the channel from which the chunks of this stream are received.
+   *
+   * @return the channel of this stream.
+   */
+  public @NonNull NetworkChannel channel() {
+    return this.channel;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void subscribe(@NonNull Flow.Subscriber<? super T> subscriber) {
+    if (!this.subscribed.compareAndSet(false, true)) {
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+      });
+      subscriber.onError(new IllegalStateException("RPC streams only support a single subscriber"));
+      return;
+    }
+
+    this.subscriber = subscriber;
+    RPCStreamSessions.registerConsumer(this);
+    subscriber.onSubscribe(this);
+
+    // send the request after the subscriber was notified, the first chunks might arrive instantly
+    if (!this.cancelled) {
+      try {
+        this.channel.sendPacket(this.requestFactory.apply(this.streamId));
+      } catch (Throwable throwable) {
+        this.fail(throwable);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void request(long n) {
+    if (n <= 0) {
+      this.fail(new IllegalArgumentException("Requested a non-positive number of elements: " + n));
+      return;
+    }
+
+    // add the demand, capping at Long.MAX_VALUE which represents an unbounded demand
+    this.demand.accumulateAndGet(n, (current, added) -> {
+      var sum = current + added;
+      return sum < 0 ? Long.MAX_VALUE : sum;
+    });
+    this.drain();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void cancel() {
+    if (!this.cancelled) {
+      this.cancelled = true;
+      RPCStreamSessions.unregisterConsumer(this.streamId);
+
+      // notify the producer if it's still producing elements
+      if (!this.done) {
+        this.sendMessage(RPCStreamSessions.CANCEL);
+      }
+    }
+  }
+
+  /**
+   * Handles a chunk of elements sent by the producer.
+   *
+   * @param content the content of the chunk, positioned at the number of elements in the chunk.
+   * @throws NullPointerException if the given content is null.
+   */
+  public void handleData(@NonNull DataBuf content) {
+    var elements = new Object[content.readVarInt()];
+    for (var i = 0; i < elements.length; i++) {
+      elements[i] = this.objectMapper.readObject(content, this.elementType);
+    }
+
+    this.chunks.offer(elements);
+    this.drain();
+  }
+
+  /**
+   * Handles the end of the stream, sent by the producer after all elements were sent.
+   */
+  public void complete() {
+    this.done = true;
+    RPCStreamSessions.unregisterConsumer(this.streamId);
+    this.drain();
+  }
+
+  /**
+   * Handles a serialized exception which was thrown by the producer.
+   *
+   * @param content the content of the error message, positioned at the serialized exception.
+   * @throws NullPointerException if the given content is null.
+   */
+  public void handleError(@NonNull DataBuf content) {
+    try {
+      ExceptionalResultUtil.rethrowException(content);
+    } catch (Throwable throwable) {
+      this.fail(throwable);
+    }
+  }
+
+  /**
+   * Fails this stream with the given exception. The subscriber is notified instantly, buffered elements are dropped.
+   *
+   * @param throwable the reason why the stream failed.
+   * @throws NullPointerException if the given throwable is null.
+   */
+  public void fail(@NonNull Throwable throwable) {
+    if (!this.done) {
+      this.error = throwable;
+      this.done = true;
+      RPCStreamSessions.unregisterConsumer(this.streamId);
+    }
+
+    this.drain();
+  }
+
+  /**
+   * Delivers the buffered elements to the subscriber as long as it has demand. Only one thread is draining at a time,
+   * calls while another thread is draining cause the draining thread to do another pass.
+   */
+  @SuppressWarnings("unchecked")
+  private void drain() {
+    if (this.drainRequests.getAndIncrement() != 0) {
+      return;
+    }
+
+    var missed = 1;
+    do {
+      var subscriber = this.subscriber;
+      while (subscriber != null && !this.cancelled) {
+        // errors are delivered instantly, dropping the elements which were not yet delivered
+        if (this.error != null) {
+          this.cancelled = true;
+          subscriber.onError(this.error);
+          break;
+        }
+
+        if (this.currentChunk == null) {
+          this.currentChunk = this.chunks.poll();
+          this.chunkIndex = 0;
+        }
+
+        // no more buffered elements, check if the stream ended
+        if (this.currentChunk == null) {
+          if (this.done) {
+            this.cancelled = true;
+            subscriber.onComplete();
+          }
+          break;
+        }
+
+        if (this.chunkIndex < this.currentChunk.length) {
+          // wait for the subscriber to request more elements
+          if (this.demand.get() == 0) {
+            break;
+          }
+
+          var element = this.currentChunk[this.chunkIndex++];
+          this.demand.updateAndGet(current -> current == Long.MAX_VALUE ? current : current - 1);
+          try {
+            subscriber.onNext((T) element);
+          } catch (Throwable throwable) {
+            // a subscriber must not throw, treat the subscription as cancelled
+            this.cancel();
+            break;
+          }
+        }
+
+        // the chunk was fully delivered, allow the producer to send the next one
+        if (this.chunkIndex >= this.currentChunk.length) {
+          this.currentChunk = null;
+          if (!this.done) {
+            this.sendCredit();
+          }
+        }
+      }
+
+      missed = this.drainRequests.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  /**
+   * Grants the producer a credit to send one more chunk.
+   */
+  private void sendCredit() {
+    var message = this.dataBufFactory.createEmpty()
+      .writeByte(RPCStreamSessions.CREDIT)
+      .writeUniqueId(this.streamId)
+      .writeVarInt(1);
+    this.channel.sendPacket(new RPCStreamPacket(message));
+  }
+
+  /**
+   * Sends a message without further content to the producer of the stream.
+   *
+   * @param type the type of message to send.
+   */
+  private void sendMessage(byte type) {
+    var message = this.dataBufFactory.createEmpty().writeByte(type).writeUniqueId(this.streamId);
+    this.channel.sendPacket(new RPCStreamPacket(message));
+  }
+}
@@ -16,6 +16,12 @@
 
 package eu.cloudnetservice.driver.network.rpc.listener;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Preconditions;
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
@@ -25,24 +31,57 @@
 import eu.cloudnetservice.driver.network.rpc.RPCHandler;
 import eu.cloudnetservice.driver.network.rpc.RPCHandlerRegistry;
 import eu.cloudnetservice.driver.network.rpc.RPCInvocationContext;
+import eu.cloudnetservice.driver.network.rpc.defaults.handler.DefaultHandlingResult;
 import eu.cloudnetservice.driver.network.rpc.defaults.handler.util.ExceptionalResultUtil;
+import eu.cloudnetservice.driver.network.rpc.defaults.metrics.RPCMetrics;
+import eu.cloudnetservice.driver.network.rpc.defaults.stream.RPCStreamProducer;
+import eu.cloudnetservice.driver.network.rpc.defaults.stream.RPCStreamSessions;
 import eu.cloudnetservice.driver.network.rpc.exception.CannotDecideException;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
+import eu.cloudnetservice.driver.network.rpc.packet.RPCRequestPacket;
+import eu.cloudnetservice.driver.network.rpc.packet.RPCStreamPacket;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * A network packet listener designed to handle all rpc messages using an underlying handler registry to post method
  * call instructions to it.
+ * <p>
+ * Target methods may return a completion stage (for example a task), the response is sent once the returned stage
+ * completes without blocking the calling thread. The number of requests which are in flight per channel is limited by
+ * the {@code cloudnet.rpc.max-in-flight-async-calls} system property (by default 128). When the limit is reached,
+ * further rpc requests of the channel are queued and handled in order as soon as in flight requests complete. Reading
+ * from the channel continues, so other packets and query responses of the channel are not delayed. The number of queued
+ * requests per channel is limited by the {@code cloudnet.rpc.max-queued-requests} system property (by default 1024),
+ * requests exceeding the limit are rejected by responding with an exception.
  *
  * @since 4.0
  */
 @Singleton
 public class RPCPacketListener implements PacketListener {
 
+  private static final Logger LOGGER = LogManager.logger(RPCPacketListener.class);
+
+  private static final int MAX_IN_FLIGHT_ASYNC_CALLS = Math.max(
+    1,
+    Integer.getInteger("cloudnet.rpc.max-in-flight-async-calls", 128));
+  private static final int MAX_QUEUED_REQUESTS = Math.max(
+    0,
+    Integer.getInteger("cloudnet.rpc.max-queued-requests", 1024));
+
+  private final int maxInFlightCalls;
+  private final int maxQueuedRequests;
   private final RPCHandlerRegistry rpcHandlerRegistry;
+  private final Cache<NetworkChannel, InFlightCalls> inFlightCalls = Caffeine.newBuilder().weakKeys().build();
 
   /**
    * Constructs a new rpc packet listener instance.
@@ -52,6 +91,28 @@ public class RPCPacketListener implements PacketListener {
    */
   @Inject
   public RPCPacketListener(@NonNull RPCHandlerRegistry rpcHandlerRegistry) {
+    this(rpcHandlerRegistry, MAX_IN_FLIGHT_ASYNC_CALLS, MAX_QUEUED_REQUESTS);
+  }
+
+  /**
+   * Constructs a new rpc packet listener instance using the given limits for requests of a single channel.
+   *
+   * @param rpcHandlerRegistry the registry to use to downstream call instructions to.
+   * @param maxInFlightCalls   the maximum number of requests per channel which are handled at the same time.
+   * @param maxQueuedRequests  the maximum number of requests per channel which are waiting to be handled.
+   * @throws NullPointerException     if the given rpc handler registry is null.
+   * @throws IllegalArgumentException if the in flight limit is not positive or the queue limit is negative.
+   */
+  public RPCPacketListener(
+    @NonNull RPCHandlerRegistry rpcHandlerRegistry,
+    int maxInFlightCalls,
+    int maxQueuedRequests
+  ) {
+    Preconditions.checkArgument(maxInFlightCalls > 0, "maxInFlightCalls must be positive");
+    Preconditions.checkArgument(maxQueuedRequests >= 0, "maxQueuedRequests must not be negative");
+
+    this.maxInFlightCalls = maxInFlightCalls;
+    this.maxQueuedRequests = maxQueuedRequests;
     this.rpcHandlerRegistry = rpcHandlerRegistry;
   }
 
@@ -60,89 +121,528 @@ public RPCPacketListener(@NonNull RPCHandlerRegistry rpcHandlerRegistry) {
    */
   @Override
   public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) throws Exception {
+    // queue the request if the channel has too many requests in flight, it gets handled once requests complete
+    var inFlightCalls = this.inFlightCalls.get(
+      channel,
+      $ -> new InFlightCalls(this.maxInFlightCalls, this.maxQueuedRequests));
+    switch (inFlightCalls.admit(() -> this.handleAdmittedRequest(channel, packet, inFlightCalls))) {
+      case ADMITTED -> this.handleAdmittedRequest(channel, packet, inFlightCalls);
+      case REJECTED -> this.rejectRequest(channel, packet);
+      default -> {
+        // queued, handled once requests complete
+      }
+    }
+  }
+
+  /**
+   * Handles the given request which reserved a slot of the given in flight calls. The slot is released once the
+   * request was handled completely.
+   *
+   * @param channel       the channel from which the request was received.
+   * @param packet        the rpc request packet.
+   * @param inFlightCalls the in flight calls of the channel in which the request reserved its slot.
+   * @throws Exception           if any exception occurs while handling the request.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  private void handleAdmittedRequest(
+    @NonNull NetworkChannel channel,
+    @NonNull Packet packet,
+    @NonNull InFlightCalls inFlightCalls
+  ) throws Exception {
+    CompletableFuture<?> completion;
+    try {
+      completion = this.handleRequest(channel, packet);
+    } catch (Exception exception) {
+      inFlightCalls.release();
+      throw exception;
+    }
+
+    completion.whenComplete(($, $$) -> inFlightCalls.release());
+  }
+
+  /**
+   * Rejects the given request because too many requests of the channel are waiting to be handled. The sender of the
+   * request receives an exception as the result of the request, if it is waiting for one.
+   *
+   * @param channel the channel from which the request was received.
+   * @param packet  the rpc request packet to reject.
+   * @throws NullPointerException if the given channel or packet is null.
+   */
+  protected void rejectRequest(@NonNull NetworkChannel channel, @NonNull Packet packet) {
+    var exception = new IllegalStateException("Too many rpc requests are waiting to be handled on the channel");
+    try (var content = packet.content()) {
+      var requestType = content.readByte();
+      if (requestType == RPCRequestPacket.STREAM_REQUEST) {
+        // stream requests are answered by failing the stream
+        this.sendStreamError(channel, content.readUniqueId(), exception);
+      } else if (packet.uniqueId() != null) {
+        if (requestType == RPCRequestPacket.BATCH_REQUEST) {
+          // fail each rpc of the batch, the sender expects a result for each of them
+          content.readBoolean();
+          var entries = content.readVarInt();
+          var response = DataBufFactory.defaultFactory().createEmpty().writeVarInt(entries);
+          for (var i = 0; i < entries; i++) {
+            response.writeBoolean(true).writeDataBuf(this.serializeException(exception));
+          }
+          this.sendResponse(channel, packet, response);
+        } else {
+          this.sendResponse(channel, packet, this.serializeException(exception));
+        }
+      }
+    }
+  }
+
+  /**
+   * Handles the given rpc request which was admitted for execution.
+   *
+   * @param channel the channel from which the request was received.
+   * @param packet  the rpc request packet.
+   * @return a future completed once the request was handled completely and a potential response was sent.
+   * @throws Exception           if any exception occurs while handling the request.
+   * @throws NullPointerException if the given channel or packet is null.
+   */
+  protected @NonNull CompletableFuture<?> handleRequest(
+    @NonNull NetworkChannel channel,
+    @NonNull Packet packet
+  ) throws Exception {
     // the result of the invocation, encoded
-    DataBuf result = null;
+    CompletableFuture<DataBuf> result = null;
     // the input information we get
     var buf = packet.content();
+    var requestType = buf.readByte();
+    // batches are handled separately as their rpcs might be executed in parallel
+    if (requestType == RPCRequestPacket.BATCH_REQUEST) {
+      return this.handleBatch(channel, packet, buf);
+    }
+    // the result of stream requests is sent back in chunks instead of a single response
+    if (requestType == RPCRequestPacket.STREAM_REQUEST) {
+      return this.handleStream(channel, buf);
+    }
     // check if the invocation is chained
-    if (buf.readBoolean()) {
+    if (requestType == RPCRequestPacket.CHAIN_REQUEST) {
       // get the chain size
       var chainSize = buf.readInt();
       // invoke the method on the current result
       RPCHandler.HandlingResult lastResult = null;
       for (var i = 1; i < chainSize; i++) {
+        var target = this.readTargetMethod(buf);
+        if (target == null) {
+          // the remaining content can't be decoded without knowing the method
+          this.respondUnknownMethod(channel, packet);
+          return CompletableFuture.completedFuture(null);
+        }
+
         if (i == 1) {
           // always invoke the first method
-          lastResult = this.handleRaw(buf.readString(), this.buildContext(channel, buf, null, false));
+          lastResult = this.handleRaw(
+            target.targetClassName(),
+            this.buildContext(channel, buf, target.methodName(), null, false));
         } else if (lastResult != null) {
           if (lastResult.wasSuccessful()) {
             // only invoke upcoming methods if there was a previous result
             lastResult = this.handleRaw(
-              buf.readString(),
-              this.buildContext(channel, buf, lastResult.invocationResult(), true));
+              target.targetClassName(),
+              this.buildContext(channel, buf, target.methodName(), lastResult.invocationResult(), true));
           } else {
             // an exception was thrown previously, break
-            buf.readString(); // remove the handler information which is not necessary
-            result = this.serializeResult(
+            result = CompletableFuture.completedFuture(this.serializeResult(
+              0,
               lastResult,
               lastResult.invocationHandler().dataBufFactory(),
               lastResult.invocationHandler().objectMapper(),
-              this.buildContext(channel, buf, null, true));
+              this.buildContext(channel, buf, target.methodName(), null, true)));
             break;
           }
         } else {
           // just process over to remove the content from the buffer
-          this.handleRaw(buf.readString(), this.buildContext(channel, buf, null, true));
+          this.handleRaw(target.targetClassName(), this.buildContext(channel, buf, target.methodName(), null, true));
         }
       }
       // check if there is already a result (which is caused by an exception - we can skip the handling step then)
       if (result == null && lastResult != null) {
+        var target = this.readTargetMethod(buf);
+        if (target == null) {
+          this.respondUnknownMethod(channel, packet);
+          return CompletableFuture.completedFuture(null);
+        }
+
         // the last handler decides over the method invocation result
         result = this.handle(
-          buf.readString(),
-          this.buildContext(channel, buf, lastResult.invocationResult(), true));
+          target,
+          this.buildContext(channel, buf, target.methodName(), lastResult.invocationResult(), true),
+          false);
       }
     } else {
       // just invoke the method
-      result = this.handle(buf.readString(), this.buildContext(channel, buf, null, false));
+      var target = this.readTargetMethod(buf);
+      if (target == null) {
+        this.respondUnknownMethod(channel, packet);
+        return CompletableFuture.completedFuture(null);
+      }
+
+      result = this.handle(target, this.buildContext(channel, buf, target.methodName(), null, false), true);
+    }
+    // no handler for the target class
+    if (result == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    // check if we need to send a result, async methods complete the result later
+    return result.whenComplete((resultBuf, throwable) -> {
+      if (throwable != null) {
+        // the result could not be computed or serialized, let the sender know instead of letting the query time out
+        var cause = throwable instanceof CompletionException && throwable.getCause() != null
+          ? throwable.getCause()
+          : throwable;
+        LOGGER.severe("Exception while completing rpc request", cause);
+        if (packet.uniqueId() != null) {
+          this.sendResponse(channel, packet, this.serializeException(cause));
+        }
+      } else if (resultBuf != null && packet.uniqueId() != null) {
+        this.sendResponse(channel, packet, resultBuf);
+      }
+    });
+  }
+
+  /**
+   * Reads the next target method from the given buffer. The buffer either contains the id of a method which was
+   * interned by the handler registry, or a zero id followed by the name of the target class and method. Null is
+   * returned if the given buffer contains a method id which is not known to the handler registry.
+   *
+   * @param content the buffer to read the target method from.
+   * @return the target method of the next rpc, or null if the method id is unknown.
+   * @throws NullPointerException if the given buffer is null.
+   */
+  protected @Nullable RPCHandlerRegistry.InternedMethod readTargetMethod(@NonNull DataBuf content) {
+    var methodId = content.readVarInt();
+    if (methodId == 0) {
+      // the sender has no id for the method yet, the names follow
+      return new RPCHandlerRegistry.InternedMethod(0, content.readString(), content.readString());
+    }
+
+    return this.rpcHandlerRegistry.internedMethod(methodId);
+  }
+
+  /**
+   * Handles a batch of independent rpcs. Each rpc of the batch is contained in a separate buffer, allowing the rpcs to
+   * be executed in parallel if requested by the sender. The results of all rpcs are sent back in a single response once
+   * all rpcs were executed, in the same order as the rpcs were contained in the request.
+   *
+   * @param channel the channel from which the batch request was received.
+   * @param request the batch request packet.
+   * @param content the remaining content of the batch request.
+   * @return a future completed once the results of all rpcs were sent.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  protected @NonNull CompletableFuture<Void> handleBatch(
+    @NonNull NetworkChannel channel,
+    @NonNull Packet request,
+    @NonNull DataBuf content
+  ) {
+    var parallel = content.readBoolean();
+    var entries = new DataBuf[content.readVarInt()];
+    for (var i = 0; i < entries.length; i++) {
+      entries[i] = content.readDataBuf();
+    }
+
+    // execute all rpcs of the batch, in parallel if the sender allowed it
+    @SuppressWarnings("unchecked")
+    CompletableFuture<DataBuf>[] results = new CompletableFuture[entries.length];
+    for (var i = 0; i < entries.length; i++) {
+      var entry = entries[i];
+      var result = parallel
+        ? Task.supply(() -> this.handleBatchEntry(channel, entry)).thenCompose(Function.identity())
+        : this.handleBatchEntry(channel, entry);
+      // a failure of one rpc must not prevent the response for the other rpcs of the batch
+      results[i] = result.handle((resultBuf, throwable) -> {
+        if (throwable == null) {
+          return resultBuf;
+        }
+
+        var cause = throwable instanceof CompletionException && throwable.getCause() != null
+          ? throwable.getCause()
+          : throwable;
+        return this.serializeException(cause);
+      });
+    }
+
+    // send the results of all rpcs back once all of them completed
+    return CompletableFuture.allOf(results).thenRun(() -> {
+      if (request.uniqueId() == null) {
+        // the sender is not waiting for the results, just release them
+        for (var result : results) {
+          var resultBuf = result.join();
+          if (resultBuf != null) {
+            resultBuf.release();
+          }
+        }
+        return;
+      }
+
+      var response = DataBufFactory.defaultFactory().createEmpty().writeVarInt(results.length);
+      for (var result : results) {
+        var resultBuf = result.join();
+        if (resultBuf == null) {
+          response.writeBoolean(false);
+        } else {
+          response.writeBoolean(true).writeDataBuf(resultBuf);
+        }
+      }
+
+      this.sendResponse(channel, request, response);
+    });
+  }
+
+  /**
+   * Handles a single rpc of a batch. Exceptions which are thrown while resolving the target method are serialized into
+   * the result of the rpc, they only affect the rpc which caused them.
+   *
+   * @param channel the channel from which the batch request was received.
+   * @param entry   the buffer containing the rpc to execute.
+   * @return a future completed with the serialized result of the rpc, completed with null if no result is expected.
+   * @throws NullPointerException if the given channel or entry buffer is null.
+   */
+  protected @NonNull CompletableFuture<DataBuf> handleBatchEntry(
+    @NonNull NetworkChannel channel,
+    @NonNull DataBuf entry
+  ) {
+    try (entry) {
+      var target = this.readTargetMethod(entry);
+      if (target == null) {
+        return CompletableFuture.completedFuture(this.serializeUnknownMethod());
+      }
+
+      var context = this.buildContext(channel, entry, target.methodName(), null, false);
+      var result = this.handle(target, context, true);
+      if (result == null) {
+        // no handler for the target class is registered, fail the rpc if the sender is waiting for its result
+        var exception = new IllegalStateException("No rpc handler registered for " + target.targetClassName());
+        return CompletableFuture.completedFuture(context.expectsMethodResult()
+          ? this.serializeException(exception)
+          : null);
+      }
+
+      return result;
+    } catch (Exception exception) {
+      return CompletableFuture.completedFuture(this.serializeException(exception));
+    }
+  }
+
+  /**
+   * Handles a rpc whose result is streamed back to the sender in chunks. The target method is invoked instantly, the
+   * elements of the result are sent by a stream producer based on the credits granted by the sender once the result is
+   * available. If the method can't be invoked the stream is failed instantly.
+   *
+   * @param channel the channel from which the stream request was received.
+   * @param content the remaining content of the stream request.
+   * @return a future completed once the result of the method is available and the stream was started.
+   * @throws NullPointerException if the given channel or content is null.
+   */
+  protected @NonNull CompletableFuture<Void> handleStream(@NonNull NetworkChannel channel, @NonNull DataBuf content) {
+    var streamId = content.readUniqueId();
+    var credits = content.readVarInt();
+
+    try {
+      var target = this.readTargetMethod(content);
+      var handler = target == null ? null : this.rpcHandlerRegistry.handler(target.targetClassName());
+      if (handler == null) {
+        this.sendStreamError(channel, streamId, new IllegalStateException("No rpc handler for stream target"));
+        return CompletableFuture.completedFuture(null);
+      }
+
+      // invoke the method, the result gets streamed to the sender once available
+      var handlingResult = handler.handle(this.buildContext(channel, content, target.methodName(), null, false));
+      return this.awaitResult(handlingResult).thenAccept(result -> {
+        if (!result.wasSuccessful()) {
+          this.sendStreamError(channel, streamId, (Throwable) result.invocationResult());
+          return;
+        }
+
+        var producer = new RPCStreamProducer(
+          streamId,
+          channel,
+          result.invocationResult(),
+          credits,
+          handler.objectMapper(),
+          handler.dataBufFactory());
+        RPCStreamSessions.registerProducer(producer);
+        producer.pump();
+      });
+    } catch (Exception exception) {
+      this.sendStreamError(channel, streamId, exception);
+      return CompletableFuture.completedFuture(null);
     }
-    // check if we need to send a result
-    if (result != null && packet.uniqueId() != null) {
-      var response = new BasePacket(-1, result);
-      response.uniqueId(packet.uniqueId());
-      channel.sendPacket(response);
+  }
+
+  /**
+   * Fails the stream with the given id by sending the given exception to the consumer of the stream.
+   *
+   * @param channel   the channel to which the stream is sent.
+   * @param streamId  the id of the stream to fail.
+   * @param exception the exception which caused the stream to fail.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  protected void sendStreamError(
+    @NonNull NetworkChannel channel,
+    @NonNull UUID streamId,
+    @NonNull Throwable exception
+  ) {
+    var message = DataBufFactory.defaultFactory().createEmpty()
+      .writeByte(RPCStreamSessions.ERROR)
+      .writeUniqueId(streamId);
+    channel.sendPacket(new RPCStreamPacket(ExceptionalResultUtil.serializeThrowable(message, exception)));
+  }
+
+  /**
+   * Responds with an exception to the given rpc request if the sender is waiting for a response. This method is called
+   * when the request contains a method id which is not known to the handler registry.
+   *
+   * @param channel the channel from which the request was received.
+   * @param request the rpc request which contains the unknown method id.
+   * @throws NullPointerException if the given channel or request is null.
+   */
+  protected void respondUnknownMethod(@NonNull NetworkChannel channel, @NonNull Packet request) {
+    if (request.uniqueId() != null) {
+      this.sendResponse(channel, request, this.serializeUnknownMethod());
     }
   }
 
+  /**
+   * Serializes the result of a rpc which targets a method id that is unknown to the handler registry. The result uses
+   * {@link RPCHandlerRegistry#UNKNOWN_METHOD_ID} as the method id, telling the sender to resend the rpc using the names
+   * of the target class and method.
+   *
+   * @return a new buffer containing the result of a rpc with an unknown method id.
+   */
+  protected @NonNull DataBuf serializeUnknownMethod() {
+    var buffer = DataBufFactory.defaultFactory().createEmpty()
+      .writeVarInt(RPCHandlerRegistry.UNKNOWN_METHOD_ID)
+      .writeBoolean(false);
+    var exception = new IllegalStateException("Received rpc request with unknown method id");
+    return ExceptionalResultUtil.serializeThrowable(buffer, exception);
+  }
+
+  /**
+   * Serializes the given exception in the same format as an exception thrown by an invoked method.
+   *
+   * @param exception the exception to serialize.
+   * @return a new buffer containing the serialized exception.
+   * @throws NullPointerException if the given exception is null.
+   */
+  protected @NonNull DataBuf serializeException(@NonNull Throwable exception) {
+    var buffer = DataBufFactory.defaultFactory().createEmpty().writeVarInt(0).writeBoolean(false);
+    return ExceptionalResultUtil.serializeThrowable(buffer, exception);
+  }
+
+  /**
+   * Sends the given result as the response to the given rpc request.
+   *
+   * @param channel the channel from which the request was received.
+   * @param request the request to respond to.
+   * @param result  the result to send as the response.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  protected void sendResponse(@NonNull NetworkChannel channel, @NonNull Packet request, @NonNull DataBuf result) {
+    var response = new BasePacket(-1, result);
+    response.uniqueId(request.uniqueId());
+    channel.sendPacket(response);
+  }
+
   /**
    * Posts the next rpc instruction in the given context into the handler for the given class which potentially contains
    * the target method and serializes the result into a data buffer. Null is returned when no handler for the given
-   * class is present.
+   * class is present. If the method was not called by its id and interning is allowed, the method gets interned and
+   * the assigned id is sent back to the caller together with the result. The returned future is completed instantly
+   * unless the target method returned a completion stage, in which case the future completes with the stage.
    *
-   * @param clazz   the class in which the method to call is located.
-   * @param context the context of the method invocation passed to the handler for the method invocation.
-   * @return the serialized result of the method invocation, or null if no handler for the given class is registered.
-   * @throws NullPointerException  if either the given class or invocation context is null.
+   * @param target       the target method to call.
+   * @param context      the context of the method invocation passed to the handler for the method invocation.
+   * @param internMethod if the target method should get interned if it was called by its name.
+   * @return a future completed with the serialized result of the method invocation (null if the sender expects no
+   * result), or null if no handler for the given class is registered.
+   * @throws NullPointerException  if either the given target method or invocation context is null.
    * @throws CannotDecideException if none or multiple methods are matching the method to call in the given class.
    */
-  protected @Nullable DataBuf handle(@NonNull String clazz, @NonNull RPCInvocationContext context) {
+  protected @Nullable CompletableFuture<DataBuf> handle(
+    @NonNull RPCHandlerRegistry.InternedMethod target,
+    @NonNull RPCInvocationContext context,
+    boolean internMethod
+  ) {
     // get the handler associated with the class of the rpc
-    var handler = this.rpcHandlerRegistry.handler(clazz);
+    var handler = this.rpcHandlerRegistry.handler(target.targetClassName());
     // check if the method gets called on a specific instance
     if (handler != null) {
+      // the arguments are read while invoking the method, record the request size before
+      var metrics = RPCMetrics.handlerMetrics().method(target.targetClassName(), target.methodName());
+      metrics.recordRequest(context.argumentInformation().readableBytes());
+      var startNanos = System.nanoTime();
       // invoke the method
       var handlingResult = handler.handle(context);
-      // serialize the result
-      return this.serializeResult(handlingResult, handler.dataBufFactory(), handler.objectMapper(), context);
+      // the method was resolved successfully at this point, assign an id to it if the sender has none yet
+      var methodId = internMethod && target.id() == 0 && context.expectsMethodResult()
+        ? this.rpcHandlerRegistry.internMethod(target.targetClassName(), target.methodName())
+        : 0;
+      // serialize the result once it is available
+      return this.awaitResult(handlingResult).thenApply(result -> {
+        var serializedResult = this.serializeResult(
+          methodId,
+          result,
+          handler.dataBufFactory(),
+          handler.objectMapper(),
+          context);
+        if (serializedResult != null) {
+          metrics.recordResponse(serializedResult.readableBytes());
+        }
+
+        metrics.recordCompletion(startNanos, !result.wasSuccessful(), null);
+        return serializedResult;
+      });
     }
     // no handler for the class - no result
     return null;
   }
 
+  /**
+   * Waits for the completion of the stage returned by the target method of the given handling result. If the target
+   * method did not return a completion stage or the invocation failed, the given result is returned instantly.
+   * <p>
+   * Note that only the result of the last method in a chain is awaited, the results of the previous methods are used
+   * as they were returned.
+   *
+   * @param result the result of the method invocation to wait for.
+   * @return a future completed with the result of the method invocation once the returned stage completed.
+   * @throws NullPointerException if the given result is null.
+   */
+  protected @NonNull CompletableFuture<RPCHandler.HandlingResult> awaitResult(
+    @NonNull RPCHandler.HandlingResult result
+  ) {
+    var information = result.targetMethodInformation();
+    if (!result.wasSuccessful()
+      || !information.asyncMethod()
+      || !(result.invocationResult() instanceof CompletionStage<?> stage)) {
+      return CompletableFuture.completedFuture(result);
+    }
+
+    return stage.<RPCHandler.HandlingResult>handle((value, throwable) -> {
+      var handler = result.invocationHandler();
+      if (throwable == null) {
+        return DefaultHandlingResult.success(information, handler, value);
+      }
+
+      // unwrap the exception thrown by the target method
+      var cause = throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause()
+        : throwable;
+      return DefaultHandlingResult.failure(information, handler, cause);
+    }).toCompletableFuture();
+  }
+
   /**
    * Serializes the given handling result into a newly allocated buffer using the given data buf factory. This method
-   * returns null if the caller of this handler did not expect an invocation result.
+   * returns null if the caller of this handler did not expect an invocation result. The given method id is written in
+   * front of the result, zero indicates that no new id was assigned to the called method.
    *
+   * @param methodId       the id assigned to the called method, zero if no id was assigned.
    * @param result         the result to serialize.
    * @param dataBufFactory the factory to use for buffer allocation.
    * @param objectMapper   the mapper to use for object serialization.
@@ -151,6 +651,7 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
    * @throws NullPointerException if one of the given parameters is null.
    */
   protected @Nullable DataBuf serializeResult(
+    int methodId,
     @NonNull RPCHandler.HandlingResult result,
     @NonNull DataBufFactory dataBufFactory,
     @NonNull ObjectMapper objectMapper,
@@ -160,16 +661,19 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
     if (context.expectsMethodResult()) {
       // check if the method return void
       if (result.wasSuccessful() && result.targetMethodInformation().voidMethod()) {
-        return dataBufFactory.createWithExpectedSize(2)
+        return dataBufFactory.createWithExpectedSize(7)
+          .writeVarInt(methodId)
           .writeBoolean(true) // was successful
           .writeBoolean(false);
       } else if (result.wasSuccessful()) {
         // successful - write the result of the invocation
-        return objectMapper.writeObject(dataBufFactory.createEmpty().writeBoolean(true), result.invocationResult());
+        var buffer = dataBufFactory.createEmpty().writeVarInt(methodId).writeBoolean(true);
+        return objectMapper.writeObject(buffer, result.invocationResult());
       } else {
         // not successful - send some basic information about the result
         var throwable = (Throwable) result.invocationResult();
-        return ExceptionalResultUtil.serializeThrowable(dataBufFactory.createEmpty().writeBoolean(false), throwable);
+        var buffer = dataBufFactory.createEmpty().writeVarInt(methodId).writeBoolean(false);
+        return ExceptionalResultUtil.serializeThrowable(buffer, throwable);
       }
     }
     // no result expected or no handler
@@ -200,28 +704,29 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
    * Builds a new context for a rpc method invocation based on the given information and remaining content in the
    * buffer. The given buffer should still contain (in the given order):
    * <ol>
-   *   <li>the target method name
    *   <li>a boolean indicating if the rpc call expects a result
    *   <li>the number of arguments of the target method
    * </ol>
    *
    * @param channel             the network channel on which the rpc request was received.
    * @param content             the remaining buffer content, containing the data as described above.
+   * @param methodName          the name of the method to invoke.
    * @param on                  the object to call the method on, when using a rpc chain.
    * @param strictInstanceUsage if using the instance provided to the context is required.
    * @return a generated invocation context based on the given information.
-   * @throws NullPointerException if either the given channel or content buffer is null.
+   * @throws NullPointerException if either the given channel, content buffer or method name is null.
    */
   protected @NonNull RPCInvocationContext buildContext(
     @NonNull NetworkChannel channel,
     @NonNull DataBuf content,
+    @NonNull String methodName,
     @Nullable Object on,
     boolean strictInstanceUsage
   ) {
     return RPCInvocationContext.builder()
       .workingInstance(on)
       .channel(channel)
-      .methodName(content.readString())
+      .methodName(methodName)
       .expectsMethodResult(content.readBoolean())
       .argumentCount(content.readInt())
       .argumentInformation(content)
@@ -229,4 +734,135 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
       .strictInstanceUsage(strictInstanceUsage)
       .build();
   }
+
+  /**
+   * The possible outcomes of requesting the admission of a rpc request.
+   *
+   * @since 4.0
+   */
+  private enum Admission {
+
+    /**
+     * The request reserved a slot and can be handled instantly.
+     */
+    ADMITTED,
+    /**
+     * The request was queued and gets handled once in flight requests complete.
+     */
+    QUEUED,
+    /**
+     * Too many requests are waiting already, the request must be rejected.
+     */
+    REJECTED
+  }
+
+  /**
+   * Handles a rpc request which was queued because too many requests were in flight on its channel.
+   *
+   * @since 4.0
+   */
+  @FunctionalInterface
+  private interface QueuedRequest {
+
+    /**
+     * Handles the queued request, the request already reserved its slot when this method is called.
+     *
+     * @throws Exception if any exception occurs while handling the request.
+     */
+    void handle() throws Exception;
+  }
+
+  /**
+   * Counts the rpc requests of a channel which are in flight and holds the requests of the channel which are waiting
+   * for admission because the maximum number of in flight requests was reached. The waiting requests are handled in the
+   * order they were received once requests complete.
+   *
+   * @since 4.0
+   */
+  private static final class InFlightCalls {
+
+    private final int maxCalls;
+    private final int maxWaitingRequests;
+    private final Queue<QueuedRequest> waitingRequests = new ArrayDeque<>();
+
+    private int calls;
+    private boolean draining;
+
+    /**
+     * Constructs a new in flight call counter.
+     *
+     * @param maxCalls           the maximum number of requests which are in flight at the same time.
+     * @param maxWaitingRequests the maximum number of requests which are waiting for admission.
+     */
+    public InFlightCalls(int maxCalls, int maxWaitingRequests) {
+      this.maxCalls = maxCalls;
+      this.maxWaitingRequests = maxWaitingRequests;
+    }
+
+    /**
+     * Requests the admission of a request. If the request can be handled instantly, a slot is reserved for it which
+     * must be released once the request was handled. If too many requests are in flight or other requests are still
+     * waiting, the given request is queued and handled once requests complete, unless the queue is full.
+     *
+     * @param request the request to queue if it can't be handled instantly.
+     * @return the outcome of the admission.
+     * @throws NullPointerException if the given request is null.
+     */
+    public synchronized @NonNull Admission admit(@NonNull QueuedRequest request) {
+      if (this.calls < this.maxCalls && this.waitingRequests.isEmpty()) {
+        this.calls++;
+        return Admission.ADMITTED;
+      }
+
+      if (this.waitingRequests.size() >= this.maxWaitingRequests) {
+        return Admission.REJECTED;
+      }
+
+      this.waitingRequests.add(request);
+      return Admission.QUEUED;
+    }
+
+    /**
+     * Releases the slot of a request which was handled completely, starts handling the waiting requests if there are
+     * any.
+     */
+    public void release() {
+      synchronized (this) {
+        this.calls--;
+        if (this.draining || this.waitingRequests.isEmpty()) {
+          return;
+        }
+
+        this.draining = true;
+      }
+
+      // handle the waiting requests off the thread which completed the request
+      Task.supply(this::drain);
+    }
+
+    /**
+     * Handles the waiting requests in order, as long as the maximum number of in flight requests is not reached.
+     */
+    private void drain() {
+      while (true) {
+        QueuedRequest request;
+        synchronized (this) {
+          request = this.calls < this.maxCalls ? this.waitingRequests.poll() : null;
+          if (request == null) {
+            this.draining = false;
+            return;
+          }
+
+          // reserve the slot for the request before leaving the lock
+          this.calls++;
+        }
+
+        try {
+          request.handle();
+        } catch (Exception exception) {
+          LOGGER.severe("Exception while handling queued rpc request", exception);
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.listener;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.protocol.PacketListener;
+import eu.cloudnetservice.driver.network.rpc.defaults.stream.RPCStreamSessions;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+
+/**
+ * A network packet listener handling the chunks and flow control messages of rpc streams. The messages are posted to
+ * the producer or consumer of the stream they belong to, messages for unknown streams are ignored.
+ *
+ * @since 4.0
+ */
+@Singleton
+public class RPCStreamPacketListener implements PacketListener {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) throws Exception {
+    var content = packet.content();
+    var messageType = content.readByte();
+    var streamId = content.readUniqueId();
+
+    switch (messageType) {
+      // messages sent by the producer to the consumer
+      case RPCStreamSessions.DATA, RPCStreamSessions.END, RPCStreamSessions.ERROR -> {
+        var consumer = RPCStreamSessions.consumer(streamId);
+        if (consumer != null) {
+          switch (messageType) {
+            case RPCStreamSessions.DATA -> consumer.handleData(content);
+            case RPCStreamSessions.END -> consumer.complete();
+            default -> consumer.handleError(content);
+          }
+        }
+      }
+      // messages sent by the consumer to the producer
+      case RPCStreamSessions.CREDIT -> {
+        var producer = RPCStreamSessions.producer(streamId);
+        if (producer != null) {
+          producer.grantCredits(content.readVarInt());
+        }
+      }
+      case RPCStreamSessions.CANCEL -> {
+        var producer = RPCStreamSessions.producer(streamId);
+        if (producer != null) {
+          producer.close();
+        }
+      }
+      default -> throw new IllegalArgumentException("Unknown rpc stream message type " + messageType);
+    }
+  }
+}
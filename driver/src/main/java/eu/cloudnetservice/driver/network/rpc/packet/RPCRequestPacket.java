@@ -29,6 +29,23 @@
  */
 public class RPCRequestPacket extends BasePacket {
 
+  /**
+   * The first byte of a request which contains a single rpc.
+   */
+  public static final byte SINGLE_REQUEST = 0;
+  /**
+   * The first byte of a request which contains a chain of rpcs, each called on the result of the previous rpc.
+   */
+  public static final byte CHAIN_REQUEST = 1;
+  /**
+   * The first byte of a request which contains a batch of independent rpcs.
+   */
+  public static final byte BATCH_REQUEST = 2;
+  /**
+   * The first byte of a request which contains a single rpc whose result is streamed back in chunks.
+   */
+  public static final byte STREAM_REQUEST = 3;
+
   /**
    * Constructs a new rpc request packet.
    *
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.packet;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import lombok.NonNull;
+
+/**
+ * The packet used to transfer the chunks of a streamed rpc result and the flow control messages of the stream. This
+ * packet should only be used internally, any developer should use the rpc api rather than sending this packet.
+ *
+ * @since 4.0
+ */
+public class RPCStreamPacket extends BasePacket {
+
+  /**
+   * Constructs a new rpc stream packet.
+   *
+   * @param dataBuf the encoded stream message, ready for interpretation and handling on the receiver site.
+   * @throws NullPointerException if the given data buffer is null.
+   */
+  public RPCStreamPacket(@NonNull DataBuf dataBuf) {
+    super(NetworkConstants.INTERNAL_RPC_STREAM_CHANNEL, dataBuf);
+  }
+}
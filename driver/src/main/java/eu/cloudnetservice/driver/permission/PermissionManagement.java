@@ -23,6 +23,7 @@
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -305,6 +306,15 @@ default boolean hasGroupPermission(
    */
   @NonNull Collection<PermissionUser> users();
 
+  /**
+   * Streams all stored permission users in the database. Other than {@link #users()} the users are read from the
+   * database in chunks while the stream is consumed, and are transferred in chunks when called from a wrapper. The
+   * returned stream should be closed when it is not fully consumed.
+   *
+   * @return a stream of all permission users.
+   */
+  @NonNull Stream<PermissionUser> usersStream();
+
   /**
    * Gets a list of all stored permission users in the database that are in the given group.
    * <p>
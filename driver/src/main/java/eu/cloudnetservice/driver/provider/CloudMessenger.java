@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.channel.ChannelMessageQueryMode;
 import eu.cloudnetservice.driver.network.rpc.annotation.RPCValidation;
 import java.util.Collection;
 import lombok.NonNull;
@@ -83,6 +84,23 @@ public interface CloudMessenger {
    */
   @Nullable ChannelMessage sendSingleChannelMessageQuery(@NonNull ChannelMessage channelMessage);
 
+  /**
+   * Subscribes this component to the channel messages sent to the given channels. Components which restrict their
+   * subscriptions only receive broadcast channel messages (for example messages sent to all services or all services of
+   * a task) if they are subscribed to the channel of the message. Channel messages sent directly to a component are
+   * always received.
+   * <p>
+   * Whether a component restricts its subscriptions depends on the implementation and its configuration. By default,
+   * all components receive all channel messages and calls to this method have no effect. Listeners of channel messages
+   * should nevertheless subscribe to the channels they are interested in, so that they continue to work when a
+   * component restricts its subscriptions.
+   *
+   * @param channels the channels to subscribe to.
+   * @throws NullPointerException if the given channel array or one of the channels is null.
+   */
+  default void subscribeChannels(String @NonNull ... channels) {
+  }
+
   /**
    * Sends the given channel message to all of its targets without waiting for a response from them.
    *
@@ -106,6 +124,30 @@ public interface CloudMessenger {
     return Task.supply(() -> this.sendChannelMessageQuery(message));
   }
 
+  /**
+   * Sends the given channel message to all of its targets and completes the returned task as specified by the given
+   * query mode. Each response is passed to the response handler of the mode as soon as it is available to this
+   * component. Components which are not able to complete a query early wait for all responses and apply the mode to
+   * them afterwards.
+   *
+   * @param message   the channel message to send.
+   * @param queryMode the mode controlling when the query gets completed.
+   * @return a task completed with the responses which were received until the query was completed.
+   * @throws NullPointerException if the given channel message or query mode is null.
+   */
+  default @NonNull Task<Collection<ChannelMessage>> sendChannelMessageQueryAsync(
+    @NonNull ChannelMessage message,
+    @NonNull ChannelMessageQueryMode queryMode
+  ) {
+    return Task.supply(() -> {
+      var responses = this.sendChannelMessageQuery(message);
+      if (queryMode.responseHandler() != null) {
+        responses.forEach(queryMode.responseHandler());
+      }
+      return responses;
+    });
+  }
+
   /**
    * Sends the given channel message to all of its targets and waits for all responses to be present or the query to
    * time out. This method will then peek the first response out of the returned array, or return null if no components
@@ -21,6 +21,7 @@
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import java.util.Collection;
 import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
@@ -89,6 +90,15 @@ public interface CloudServiceProvider {
   @UnmodifiableView
   @NonNull Collection<ServiceInfoSnapshot> services();
 
+  /**
+   * Streams all services which are currently registered in the cluster. Other than {@link #services()} the services are
+   * transferred in chunks when called from a wrapper, instead of sending all of them in a single response. The returned
+   * stream should be closed when it is not fully consumed.
+   *
+   * @return a stream of all services which are registered in the cluster.
+   */
+  @NonNull Stream<ServiceInfoSnapshot> servicesStream();
+
   /**
    * Gets all services which are currently registered and running in the cluster. Modifications to the returned
    * collections are not possible nor will they have any effect.
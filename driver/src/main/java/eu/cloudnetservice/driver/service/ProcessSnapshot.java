@@ -18,6 +18,7 @@
 
 import com.sun.management.OperatingSystemMXBean;
 import eu.cloudnetservice.common.resource.CpuUsageResolver;
+import eu.cloudnetservice.driver.network.rpc.annotation.RPCCompactCodec;
 import java.lang.management.ClassLoadingMXBean;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
@@ -43,6 +44,7 @@
  * @param threads                 a snapshot of all threads which are currently known to the associated process.
  * @since 4.0
  */
+@RPCCompactCodec
 public record ProcessSnapshot(
   long pid,
   double cpuUsage,
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.network.rpc.annotation.RPCCompactCodec;
 import eu.cloudnetservice.driver.provider.CloudServiceFactory;
 import java.util.Collection;
 import java.util.HashSet;
@@ -121,6 +122,7 @@
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
+@RPCCompactCodec
 public class ServiceConfiguration extends ServiceConfigurationBase implements Cloneable {
 
   protected final ServiceId serviceId;
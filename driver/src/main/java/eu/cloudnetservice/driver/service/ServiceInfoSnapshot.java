@@ -22,6 +22,7 @@
 import eu.cloudnetservice.driver.document.property.DefaultedDocPropertyHolder;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.rpc.annotation.RPCCompactCodec;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
 import lombok.EqualsAndHashCode;
@@ -38,6 +39,7 @@
  */
 @ToString
 @EqualsAndHashCode
+@RPCCompactCodec
 public class ServiceInfoSnapshot
   implements Named, DefaultedDocPropertyHolder, Cloneable, Comparable<ServiceInfoSnapshot> {
 
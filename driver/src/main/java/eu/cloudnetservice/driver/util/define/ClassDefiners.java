@@ -54,4 +54,14 @@ private ClassDefiners() {
   public static @NonNull ClassDefiner current() {
     return DEFINER;
   }
+
+  /**
+   * Get if the classes defined by the current definer are nest mates of the parent class they are defined in. Nest
+   * mates are allowed to access private and package private members of the parent class.
+   *
+   * @return true if defined classes are nest mates of their parent class, false otherwise.
+   */
+  public static boolean definesNestMates() {
+    return DEFINER instanceof LookupClassDefiner;
+  }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.channel;
+
+import eu.cloudnetservice.driver.DriverEnvironment;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class ChannelMessageQueryModeTest {
+
+  @Test
+  void testAllIsNeverSatisfiedEarly() {
+    var mode = ChannelMessageQueryMode.all();
+
+    Assertions.assertEquals(0, mode.requiredResponses());
+    Assertions.assertFalse(mode.satisfiedBy(0));
+    Assertions.assertFalse(mode.satisfiedBy(100));
+  }
+
+  @Test
+  void testQuorumIsSatisfiedAfterRequiredResponses() {
+    var first = ChannelMessageQueryMode.firstResponse();
+    Assertions.assertFalse(first.satisfiedBy(0));
+    Assertions.assertTrue(first.satisfiedBy(1));
+
+    var quorum = ChannelMessageQueryMode.quorum(3);
+    Assertions.assertFalse(quorum.satisfiedBy(2));
+    Assertions.assertTrue(quorum.satisfiedBy(3));
+    Assertions.assertTrue(quorum.satisfiedBy(4));
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> ChannelMessageQueryMode.quorum(0));
+  }
+
+  @Test
+  void testStreamingKeepsRequiredResponses() {
+    var quorum = ChannelMessageQueryMode.quorum(2);
+    var streaming = quorum.streaming(message -> {
+    });
+
+    Assertions.assertNull(quorum.responseHandler());
+    Assertions.assertNotNull(streaming.responseHandler());
+    Assertions.assertEquals(2, streaming.requiredResponses());
+  }
+
+  @Test
+  void testHandleResponseDoesNotRethrowHandlerExceptions() {
+    var message = new ChannelMessage(
+      false,
+      false,
+      "test_channel",
+      "test_message",
+      Mockito.mock(DataBuf.class),
+      ChannelMessageSender.of("Node-1", DriverEnvironment.NODE),
+      List.of(ChannelMessageTarget.of(ChannelMessageTarget.Type.ALL, null)),
+      false);
+
+    var calls = new AtomicInteger();
+    var mode = ChannelMessageQueryMode.all().streaming(response -> {
+      calls.incrementAndGet();
+      throw new IllegalStateException("handler failure");
+    });
+
+    Assertions.assertDoesNotThrow(() -> mode.handleResponse(message));
+    Assertions.assertDoesNotThrow(() -> ChannelMessageQueryMode.all().handleResponse(message));
+    Assertions.assertEquals(1, calls.get());
+  }
+}
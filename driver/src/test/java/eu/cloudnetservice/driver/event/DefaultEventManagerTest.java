@@ -18,6 +18,14 @@
 
 import com.google.common.collect.Iterables;
 import eu.cloudnetservice.driver.event.events.service.CloudServiceLifecycleChangeEvent;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -40,6 +48,8 @@ void testListenerRegistration() {
     eventManager.registerListeners(TestListener.INSTANCE);
 
     Assertions.assertEquals(2, eventManager.listeners.size());
+    Assertions.assertTrue(eventManager.hasListeners(TestEvent.class));
+    Assertions.assertTrue(eventManager.hasListeners(CloudServiceLifecycleChangeEvent.class));
 
     Assertions.assertNotNull(eventManager.listeners.get(TestEvent.class));
     Assertions.assertEquals(3, eventManager.listeners.get(TestEvent.class).size());
@@ -78,6 +88,7 @@ void testUnregisterListenerByInstance() {
     eventManager.unregisterListener(TestListener.INSTANCE);
 
     Assertions.assertEquals(0, eventManager.listeners.size());
+    Assertions.assertFalse(eventManager.hasListeners(TestEvent.class));
   }
 
   @Test
@@ -89,6 +100,88 @@ void testUnregisterListenerByClassLoader() {
     Assertions.assertEquals(0, eventManager.listeners.size());
   }
 
+  @Test
+  @Order(40)
+  void testInjectedListenerArguments() {
+    EventManager eventManager = new DefaultEventManager();
+    var listener = new InjectingTestListener();
+    eventManager.registerListener(listener);
+
+    eventManager.callEvent(new TestEvent(1));
+    eventManager.callEvent(new TestEvent(2));
+
+    // the singleton argument must be passed to each call
+    Assertions.assertEquals(2, listener.services.size());
+    Assertions.assertNotNull(listener.services.get(0));
+    Assertions.assertSame(listener.services.get(0), listener.services.get(1));
+  }
+
+  @Test
+  @Order(50)
+  void testListenerExceptionIsWrapped() {
+    EventManager eventManager = new DefaultEventManager();
+    eventManager.registerListener(new ThrowingTestListener());
+
+    var exception = Assertions.assertThrows(
+      EventListenerException.class,
+      () -> eventManager.callEvent(new TestEvent(1)));
+    Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+  }
+
+  @Test
+  @Order(60)
+  void testSuperclassListenersReceiveEvents() {
+    var eventManager = new DefaultEventManager();
+    var listener = new SuperclassTestListener();
+    eventManager.registerListener(listener);
+
+    Assertions.assertTrue(eventManager.hasListeners(TestEvent.class));
+    Assertions.assertTrue(eventManager.hasListeners(SubTestEvent.class));
+    Assertions.assertFalse(eventManager.hasListeners(CloudServiceLifecycleChangeEvent.class));
+
+    // the listener for the superclass must be called before the late listener for the subclass
+    eventManager.callEvent(new SubTestEvent());
+    Assertions.assertEquals(List.of("TestEvent", "SubTestEvent"), listener.calls);
+
+    // events on other channels must not be received
+    listener.calls.clear();
+    eventManager.callEvent("other", new SubTestEvent());
+    Assertions.assertEquals(List.of(), listener.calls);
+
+    // unregistering must remove the listener from all dispatch tables
+    eventManager.unregisterListener(listener);
+    Assertions.assertFalse(eventManager.hasListeners(SubTestEvent.class));
+  }
+
+  @Test
+  @Order(70)
+  void testAsyncListeners() throws Exception {
+    var eventManager = new DefaultEventManager();
+    var listener = new AsyncTestListener();
+    eventManager.registerListener(listener);
+
+    // the sync listener must be called on the calling thread, the async ones afterwards on the executor
+    eventManager.callEvent(new TestEvent(0));
+    Assertions.assertTrue(listener.asyncCalls.await(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(List.of("sync", "asyncEarly", "asyncLate"), listener.calls);
+    Assertions.assertEquals(Thread.currentThread(), listener.syncThread);
+    Assertions.assertNotEquals(Thread.currentThread(), listener.asyncThread);
+
+    // the task returned by callEventAsync must complete after all listeners were called
+    listener.calls.clear();
+    var event = new TestEvent(0);
+    Assertions.assertSame(event, eventManager.callEventAsync(event).get(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(List.of("sync", "asyncEarly", "asyncLate"), listener.calls);
+    Assertions.assertNotEquals(Thread.currentThread(), listener.syncThread);
+
+    // exceptions of listeners must complete the task exceptionally
+    eventManager.registerListener(new ThrowingTestListener());
+    var exception = Assertions.assertThrows(
+      ExecutionException.class,
+      () -> eventManager.callEventAsync(new TestEvent(0)).get(5, TimeUnit.SECONDS));
+    Assertions.assertInstanceOf(EventListenerException.class, exception.getCause());
+  }
+
   private DefaultEventManager newEventManagerWithListener() {
     var eventManager = new DefaultEventManager();
 
@@ -132,7 +225,75 @@ public boolean equals(Object obj) {
     }
   }
 
-  private static final class TestEvent extends Event {
+  @Singleton
+  public static final class InjectedTestService {
+
+    @Inject
+    public InjectedTestService() {
+    }
+  }
+
+  private static final class InjectingTestListener {
+
+    private final List<InjectedTestService> services = new ArrayList<>();
+
+    @EventListener
+    private void handle(TestEvent event, InjectedTestService service) {
+      this.services.add(service);
+    }
+  }
+
+  private static final class ThrowingTestListener {
+
+    @EventListener
+    public int handle(TestEvent event) {
+      throw new IllegalStateException("Listener failed");
+    }
+  }
+
+  private static final class SuperclassTestListener {
+
+    private final List<String> calls = new ArrayList<>();
+
+    @EventListener(order = InvocationOrder.LATE)
+    public void handleSubEvent(SubTestEvent event) {
+      this.calls.add("SubTestEvent");
+    }
+
+    @EventListener
+    public void handleEvent(TestEvent event) {
+      this.calls.add("TestEvent");
+    }
+  }
+
+  private static final class AsyncTestListener {
+
+    private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch asyncCalls = new CountDownLatch(1);
+
+    private volatile Thread syncThread;
+    private volatile Thread asyncThread;
+
+    @EventListener(order = InvocationOrder.LATE, async = true)
+    public void handleAsyncLate(TestEvent event) {
+      this.calls.add("asyncLate");
+      this.asyncCalls.countDown();
+    }
+
+    @EventListener(order = InvocationOrder.EARLY, async = true)
+    public void handleAsyncEarly(TestEvent event) {
+      this.calls.add("asyncEarly");
+      this.asyncThread = Thread.currentThread();
+    }
+
+    @EventListener
+    public void handleSync(TestEvent event) {
+      this.calls.add("sync");
+      this.syncThread = Thread.currentThread();
+    }
+  }
+
+  private static class TestEvent extends Event {
 
     private int number;
     private int counter;
@@ -141,4 +302,11 @@ private TestEvent(int number) {
       this.number = number;
     }
   }
+
+  private static final class SubTestEvent extends TestEvent {
+
+    private SubTestEvent() {
+      super(0);
+    }
+  }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.event.metrics;
+
+import eu.cloudnetservice.driver.event.DefaultEventManager;
+import eu.cloudnetservice.driver.event.Event;
+import eu.cloudnetservice.driver.event.EventListener;
+import eu.cloudnetservice.driver.event.EventListenerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EventListenerMetricsTest {
+
+  @AfterEach
+  void resetProfiling() {
+    EventListenerMetrics.profiling(false);
+    EventListenerMetrics.reset();
+  }
+
+  @Test
+  void testListenerCallsAreProfiled() {
+    var eventManager = new DefaultEventManager();
+    eventManager.registerListener(new ProfiledListener());
+
+    // calls while the profiling is disabled must not be recorded
+    eventManager.callEvent(new ProfiledEvent(false));
+    Assertions.assertTrue(EventListenerMetrics.snapshot().isEmpty());
+
+    EventListenerMetrics.profiling(true);
+    eventManager.callEvent(new ProfiledEvent(false));
+    Assertions.assertThrows(EventListenerException.class, () -> eventManager.callEvent(new ProfiledEvent(true)));
+
+    var snapshots = EventListenerMetrics.snapshot();
+    Assertions.assertEquals(1, snapshots.size());
+
+    var snapshot = snapshots.get(0);
+    Assertions.assertEquals(ProfiledListener.class.getName(), snapshot.listenerClass());
+    Assertions.assertEquals("handle", snapshot.methodName());
+    Assertions.assertEquals(ProfiledEvent.class.getName(), snapshot.eventClass());
+    Assertions.assertEquals(2, snapshot.calls());
+    Assertions.assertEquals(1, snapshot.failures());
+    Assertions.assertTrue(snapshot.maxNanos() <= snapshot.totalNanos());
+    Assertions.assertEquals(snapshot.totalNanos() / 2, snapshot.averageNanos());
+
+    EventListenerMetrics.reset();
+    Assertions.assertTrue(EventListenerMetrics.snapshot().isEmpty());
+  }
+
+  public static final class ProfiledListener {
+
+    @EventListener
+    public void handle(ProfiledEvent event) {
+      if (event.fail) {
+        throw new IllegalStateException("Listener failed");
+      }
+    }
+  }
+
+  public static final class ProfiledEvent extends Event {
+
+    private final boolean fail;
+
+    private ProfiledEvent(boolean fail) {
+      this.fail = fail;
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class NettyPacketMailboxTest {
+
+  @Test
+  @Timeout(20)
+  void testTasksAreExecutedInOrder() throws InterruptedException {
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      var mailbox = new NettyPacketMailbox(executor);
+      var latch = new CountDownLatch(1_000);
+      var concurrentRuns = new AtomicInteger();
+
+      List<Integer> executed = new ArrayList<>();
+      for (var i = 0; i < 1_000; i++) {
+        var taskId = i;
+        mailbox.post(() -> {
+          Assertions.assertEquals(1, concurrentRuns.incrementAndGet());
+          executed.add(taskId);
+          concurrentRuns.decrementAndGet();
+          latch.countDown();
+        });
+      }
+
+      Assertions.assertTrue(latch.await(15, TimeUnit.SECONDS));
+      Assertions.assertEquals(1_000, executed.size());
+      for (var i = 0; i < 1_000; i++) {
+        Assertions.assertEquals(i, executed.get(i));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testDispatchMetricsRecording() {
+    var metrics = new NettyNetworkChannelMetrics();
+
+    var queuedNanos = metrics.packetQueued(5, 128);
+    var secondQueuedNanos = metrics.packetQueued(5, 128);
+    Assertions.assertEquals(2, metrics.queueDepth());
+    Assertions.assertEquals(2, metrics.packetChannelMetrics().get(5).queueDepth());
+
+    metrics.packetHandled(5, queuedNanos, metrics.packetHandlingStarted(queuedNanos));
+    metrics.packetHandled(5, secondQueuedNanos, metrics.packetHandlingStarted(secondQueuedNanos));
+    Assertions.assertEquals(0, metrics.queueDepth());
+    Assertions.assertEquals(2, metrics.maxQueueDepth());
+    Assertions.assertEquals(0, metrics.packetChannelMetrics().get(5).queueDepth());
+    Assertions.assertEquals(2, metrics.packetChannelMetrics().get(5).maxQueueDepth());
+    Assertions.assertEquals(2, metrics.channelMetrics().handledPackets());
+    Assertions.assertEquals(2, metrics.packetChannelMetrics().get(5).handledPackets());
+    Assertions.assertEquals(256, metrics.packetChannelMetrics().get(5).bytesIn());
+
+    metrics.packetSent(7, 64);
+    Assertions.assertEquals(1, metrics.channelMetrics().packetsOut());
+    Assertions.assertEquals(64, metrics.packetChannelMetrics().get(7).bytesOut());
+  }
+
+  @Test
+  void testLatencyHistogramPercentiles() {
+    var histogram = new NettyLatencyHistogram();
+    Assertions.assertEquals(0, histogram.percentileNanos(50));
+
+    for (var i = 0; i < 99; i++) {
+      histogram.record(1_000);
+    }
+    histogram.record(1_000_000);
+
+    Assertions.assertEquals(100, histogram.count());
+    Assertions.assertEquals(1_000_000, histogram.maxNanos());
+    // 1000 falls into the [512, 1024) bucket
+    Assertions.assertEquals(1_023, histogram.percentileNanos(50));
+    Assertions.assertEquals(1_023, histogram.percentileNanos(99));
+    Assertions.assertEquals(1_000_000, histogram.percentileNanos(100));
+  }
+}
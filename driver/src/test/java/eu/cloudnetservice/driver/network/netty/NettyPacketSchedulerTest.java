@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacket;
+import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import io.netty5.channel.embedded.EmbeddedChannel;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NettyPacketSchedulerTest {
+
+  @Test
+  void testPriorityClasses() {
+    Assertions.assertEquals(0, NettyPacketScheduler.priorityClass(new BasePacket(10, true, DataBuf.empty())));
+    Assertions.assertEquals(1, NettyPacketScheduler.priorityClass(new BasePacket(10, DataBuf.empty())));
+    Assertions.assertEquals(2, NettyPacketScheduler.priorityClass(new ChunkedPacket(DataBuf.empty())));
+
+    // responses must keep their order relative to the normal packets
+    var response = new BasePacket(10, DataBuf.empty()).constructResponse(DataBuf.empty());
+    Assertions.assertEquals(1, NettyPacketScheduler.priorityClass(response));
+  }
+
+  @Test
+  void testResponsesOnlyOvertakeBulkPackets() {
+    var embeddedChannel = new EmbeddedChannel(new NettyPacketScheduler());
+
+    embeddedChannel.write(new ChunkedPacket(DataBuf.empty()));
+    embeddedChannel.write(new BasePacket(5, DataBuf.empty()));
+    embeddedChannel.write(new BasePacket(6, DataBuf.empty()).constructResponse(DataBuf.empty()));
+    embeddedChannel.flush();
+
+    // responses are sent on channel -1, chunked packets on channel 2
+    Assertions.assertEquals(List.of(5, -1, 2), this.readChannels(embeddedChannel));
+  }
+
+  @Test
+  void testHeldBackPacketsAffectWritability() {
+    var embeddedChannel = new EmbeddedChannel(new NettyPacketScheduler());
+    Assertions.assertTrue(embeddedChannel.isWritable());
+
+    // the packet exceeds the default high water mark (64 KiB) while it is held back by the scheduler
+    var content = DataBuf.empty().writeByteArray(new byte[128 * 1024]);
+    embeddedChannel.write(new BasePacket(5, content));
+    Assertions.assertFalse(embeddedChannel.isWritable());
+
+    embeddedChannel.flush();
+    Assertions.assertEquals(List.of(5), this.readChannels(embeddedChannel));
+    Assertions.assertTrue(embeddedChannel.isWritable());
+  }
+
+  @Test
+  void testPrioritizedPacketsAreWrittenFirst() {
+    var embeddedChannel = new EmbeddedChannel(new NettyPacketScheduler());
+
+    var bulk = embeddedChannel.write(new ChunkedPacket(DataBuf.empty()));
+    embeddedChannel.write(new BasePacket(5, DataBuf.empty()));
+    embeddedChannel.write(new BasePacket(6, DataBuf.empty()));
+    embeddedChannel.write(new BasePacket(7, true, DataBuf.empty()));
+    embeddedChannel.flush();
+
+    // chunked packets are sent to channel 2
+    Assertions.assertEquals(List.of(7, 5, 6, 2), this.readChannels(embeddedChannel));
+    Assertions.assertTrue(bulk.isSuccess());
+  }
+
+  @Test
+  void testLowerClassesAreNotStarved() {
+    var embeddedChannel = new EmbeddedChannel(new NettyPacketScheduler());
+
+    for (var i = 0; i < 10; i++) {
+      embeddedChannel.write(new BasePacket(7, true, DataBuf.empty()));
+    }
+    embeddedChannel.write(new BasePacket(5, DataBuf.empty()));
+    embeddedChannel.flush();
+
+    // the normal packet must be written after the default weight (8) of high priority packets
+    var channels = this.readChannels(embeddedChannel);
+    Assertions.assertEquals(11, channels.size());
+    Assertions.assertEquals(8, channels.indexOf(5));
+  }
+
+  @Test
+  void testWriteFailsOnClosedChannel() {
+    var scheduler = new NettyPacketScheduler();
+    var embeddedChannel = new EmbeddedChannel(scheduler);
+
+    var future = embeddedChannel.write(new BasePacket(1, DataBuf.empty()));
+    embeddedChannel.close();
+
+    Assertions.assertTrue(future.isFailed());
+    Assertions.assertEquals(0, scheduler.pendingWrites());
+  }
+
+  private List<Integer> readChannels(EmbeddedChannel channel) {
+    List<Integer> channels = new ArrayList<>();
+    Packet packet;
+    while ((packet = channel.readOutbound()) != null) {
+      channels.add(packet.channel());
+    }
+    return channels;
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.buffer;
+
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NettyDataBufFactoryTest {
+
+  @Test
+  void testSharedCopiesAreIndependent() {
+    var original = DataBufFactory.defaultFactory().createEmpty().writeInt(1234).writeString("Hello World");
+
+    var first = DataBufFactory.defaultFactory().sharedCopyOf(original);
+    var second = DataBufFactory.defaultFactory().sharedCopyOf(original);
+
+    // releasing the original buffer must not affect the copies
+    original.release();
+    Assertions.assertFalse(original.accessible());
+
+    Assertions.assertEquals(1234, first.readInt());
+    Assertions.assertEquals("Hello World", first.readString());
+    Assertions.assertFalse(first.accessible());
+
+    // reading the first copy must not move the reader index of the second one
+    Assertions.assertEquals(1234, second.readInt());
+    Assertions.assertEquals("Hello World", second.readString());
+    Assertions.assertFalse(second.accessible());
+  }
+}
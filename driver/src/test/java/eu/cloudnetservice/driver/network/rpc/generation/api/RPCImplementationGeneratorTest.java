@@ -22,7 +22,9 @@
 import eu.cloudnetservice.driver.network.rpc.defaults.generation.ApiImplementationGenerator;
 import eu.cloudnetservice.driver.network.rpc.generation.GenerationContext;
 import eu.cloudnetservice.driver.permission.PermissionManagement;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -93,6 +95,26 @@ void testDownPassingRPCSenderToExtendingClass() {
     Assertions.assertSame(((SenderNeedingManagement) management).sender, sender);
   }
 
+  @Test
+  void testStreamResultIsStreamed() {
+    var streamingRpc = Mockito.mock(RPC.class);
+    Mockito.when(streamingRpc.fireStreamSync()).thenReturn(Stream.of("Hello", "World"));
+
+    var sender = Mockito.mock(RPCSender.class);
+    Mockito.when(sender.invokeMethod("names")).thenReturn(streamingRpc);
+
+    var api = ApiImplementationGenerator.generateApiImplementation(
+      StreamingApi.class,
+      GenerationContext.forClass(StreamingApi.class).implementAllMethods(true).build(),
+      sender
+    ).newInstance();
+
+    try (var names = api.names()) {
+      Assertions.assertEquals(List.of("Hello", "World"), names.toList());
+    }
+    Mockito.verify(streamingRpc, Mockito.never()).fireSync();
+  }
+
   @Test
   void testGenerationOfMethods() {
     var testInstance = ApiImplementationGenerator.generateApiImplementation(
@@ -102,4 +124,9 @@ void testGenerationOfMethods() {
     ).newInstance(1, 2L, "World", new int[0], new long[]{1L}, new String[]{"Hello"});
     Assertions.assertNotNull(testInstance);
   }
+
+  public interface StreamingApi {
+
+    Stream<String> names();
+  }
 }
@@ -22,26 +22,38 @@
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.NetworkComponent;
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
 import eu.cloudnetservice.driver.network.rpc.RPCHandlerRegistry;
+import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCFactory;
 import eu.cloudnetservice.driver.network.rpc.defaults.handler.DefaultRPCHandlerRegistry;
 import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
+import eu.cloudnetservice.driver.network.rpc.defaults.stream.RPCStreamSessions;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
 import eu.cloudnetservice.driver.network.rpc.listener.RPCPacketListener;
+import eu.cloudnetservice.driver.network.rpc.listener.RPCStreamPacketListener;
 import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.driver.service.ThreadSnapshot;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 
 public class DefaultRPCHandlerTest {
@@ -165,6 +177,361 @@ void testMethodInvocation() {
       .areEqual());
   }
 
+  @Test
+  @Timeout(20)
+  void testMethodIdIsSentAfterFirstCall() {
+    RPCHandlerRegistry registry = new DefaultRPCHandlerRegistry();
+    PacketListener listener = new RPCPacketListener(registry);
+    RPCFactory factory = new DefaultRPCFactory(new DefaultObjectMapper(), DataBufFactory.defaultFactory());
+    registry.registerHandler(factory.newHandler(TestApiClass.class, new TestApiClass(new AtomicLong())));
+
+    var resultListener = new AtomicReference<Task<Packet>>(new Task<>());
+    var resultChannel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        resultListener.get().complete(invocation.getArgument(0));
+        return null;
+      })
+      .when(resultChannel)
+      .sendPacket(Mockito.any(Packet.class));
+
+    // remember the size of each request sent to the handler
+    List<Integer> requestSizes = new ArrayList<>();
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        Packet packet = invocation.getArgument(0);
+        packet.uniqueId(UUID.randomUUID());
+        requestSizes.add(packet.content().readableBytes());
+        listener.handle(resultChannel, packet);
+        return resultListener.get();
+      })
+      .when(channel)
+      .sendQueryAsync(Mockito.any(Packet.class));
+
+    var component = Mockito.mock(NetworkComponent.class);
+    Mockito.when(component.firstChannel()).thenReturn(channel);
+    var sender = factory.providerForClass(component, TestApiClass.class);
+
+    // the first call sends the names, the second one only the id assigned by the handler registry
+    Assertions.assertNull(sender.invokeMethod("nestedClass", "Test1234").fireSync());
+    resultListener.set(new Task<>());
+    Assertions.assertNull(sender.invokeMethod("nestedClass", "Test1234").fireSync());
+
+    Assertions.assertEquals(2, requestSizes.size());
+    Assertions.assertTrue(requestSizes.get(1) < requestSizes.get(0));
+
+    var internedMethod = registry.internedMethod(1);
+    Assertions.assertNotNull(internedMethod);
+    Assertions.assertEquals(TestApiClass.class.getCanonicalName(), internedMethod.targetClassName());
+    Assertions.assertEquals("nestedClass", internedMethod.methodName());
+  }
+
+  @Test
+  @Timeout(20)
+  void testUnknownMethodIdIsResentByName() {
+    RPCFactory factory = new DefaultRPCFactory(new DefaultObjectMapper(), DataBufFactory.defaultFactory());
+    RPCHandlerRegistry registry = new DefaultRPCHandlerRegistry();
+    registry.registerHandler(factory.newHandler(TestApiClass.class, new TestApiClass(new AtomicLong())));
+    var listener = new AtomicReference<PacketListener>(new RPCPacketListener(registry));
+
+    var resultListener = new AtomicReference<Task<Packet>>();
+    var resultChannel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        resultListener.get().complete(invocation.getArgument(0));
+        return null;
+      })
+      .when(resultChannel)
+      .sendPacket(Mockito.any(Packet.class));
+
+    // remember the size of each request sent to the handler
+    List<Integer> requestSizes = new ArrayList<>();
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        Packet packet = invocation.getArgument(0);
+        packet.uniqueId(UUID.randomUUID());
+        requestSizes.add(packet.content().readableBytes());
+
+        var result = new Task<Packet>();
+        resultListener.set(result);
+        listener.get().handle(resultChannel, packet);
+        return result;
+      })
+      .when(channel)
+      .sendQueryAsync(Mockito.any(Packet.class));
+
+    var component = Mockito.mock(NetworkComponent.class);
+    Mockito.when(component.firstChannel()).thenReturn(channel);
+    var sender = factory.providerForClass(component, TestApiClass.class);
+
+    // the first call assigns an id to the method
+    Assertions.assertNull(sender.invokeMethod("nestedClass", "Test1234").fireSync());
+    Assertions.assertEquals(1, requestSizes.size());
+
+    // the remote registry no longer knows the assigned id, the rpc must be resent using the names
+    var newRegistry = new DefaultRPCHandlerRegistry();
+    newRegistry.registerHandler(factory.newHandler(TestApiClass.class, new TestApiClass(new AtomicLong())));
+    listener.set(new RPCPacketListener(newRegistry));
+    Assertions.assertNull(sender.invokeMethod("nestedClass", "Test1234").fireSync());
+
+    Assertions.assertEquals(3, requestSizes.size());
+    Assertions.assertTrue(requestSizes.get(1) < requestSizes.get(0));
+    Assertions.assertEquals(requestSizes.get(0), requestSizes.get(2));
+
+    // the id assigned by the new registry is used for the next call
+    Assertions.assertNull(sender.invokeMethod("nestedClass", "Test1234").fireSync());
+    Assertions.assertEquals(4, requestSizes.size());
+    Assertions.assertEquals(requestSizes.get(1), requestSizes.get(3));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  @Timeout(20)
+  void testBatchInvocation(boolean parallel) {
+    RPCHandlerRegistry registry = new DefaultRPCHandlerRegistry();
+    PacketListener listener = new RPCPacketListener(registry);
+    RPCFactory factory = new DefaultRPCFactory(new DefaultObjectMapper(), DataBufFactory.defaultFactory());
+
+    var backingHandler = new AtomicLong();
+    registry.registerHandler(factory.newHandler(TestApiClass.class, new TestApiClass(backingHandler)));
+
+    var resultListener = new Task<Packet>();
+    var resultChannel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        resultListener.complete(invocation.getArgument(0));
+        return null;
+      })
+      .when(resultChannel)
+      .sendPacket(Mockito.any(Packet.class));
+
+    // count the requests to ensure that the batch is sent in one packet
+    var sentRequests = new AtomicLong();
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        Packet packet = invocation.getArgument(0);
+        packet.uniqueId(UUID.randomUUID());
+        sentRequests.incrementAndGet();
+        listener.handle(resultChannel, packet);
+        return resultListener;
+      })
+      .when(channel)
+      .sendQueryAsync(Mockito.any(Packet.class));
+
+    var component = Mockito.mock(NetworkComponent.class);
+    Mockito.when(component.firstChannel()).thenReturn(channel);
+    var sender = factory.providerForClass(component, TestApiClass.class);
+
+    var snapshot = ProcessSnapshot.self();
+    var integers = Arrays.asList(185, 186, 188);
+
+    var batch = factory.newBatch().parallel(parallel);
+    Task<Map<Long, Map<String, String>>> snapshotResult = batch.add(
+      sender.invokeMethod("handleProcessSnapshot", snapshot, integers, 187));
+    Task<Object> nestedResult = batch.add(sender.invokeMethod("nestedClass", "Test1234"));
+    Task<Object> failedResult = batch.add(sender.invokeMethod("nestedClass", (Object) null));
+    batch.fire().join();
+
+    Assertions.assertEquals(1, sentRequests.get());
+    Assertions.assertThrows(IllegalStateException.class, batch::fire);
+
+    // ensure that each rpc got its own result
+    var key = TestApiClass.calculateResult(snapshot, integers, 187);
+    Assertions.assertEquals(key, backingHandler.get());
+    Assertions.assertNotNull(snapshotResult.getNow(null).get(key));
+    Assertions.assertNull(nestedResult.getNow(null));
+
+    // a failure of one rpc must only fail the task of the rpc
+    Assertions.assertTrue(failedResult.isCompletedExceptionally());
+    var exception = Assertions.assertThrows(CompletionException.class, failedResult::join);
+    Assertions.assertInstanceOf(RPCExecutionException.class, exception.getCause());
+  }
+
+  @Test
+  @Timeout(20)
+  void testStreamInvocation() {
+    RPCHandlerRegistry registry = new DefaultRPCHandlerRegistry();
+    PacketListener listener = new RPCPacketListener(registry);
+    PacketListener streamListener = new RPCStreamPacketListener();
+    RPCFactory factory = new DefaultRPCFactory(new DefaultObjectMapper(), DataBufFactory.defaultFactory());
+    registry.registerHandler(factory.newHandler(TestApiClass.class, new TestApiClass(new AtomicLong())));
+
+    // both sides of the stream are using the same channel, post each packet to the listener of its packet channel
+    var sentChunks = new AtomicLong();
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(channel.active()).thenReturn(true);
+    Mockito
+      .doAnswer(invocation -> {
+        Packet packet = invocation.getArgument(0);
+        if (packet.channel() == NetworkConstants.INTERNAL_RPC_STREAM_CHANNEL) {
+          // peek the message type to count the data chunks
+          var messageType = packet.content().startTransaction().readByte();
+          packet.content().redoTransaction();
+          if (messageType == RPCStreamSessions.DATA) {
+            sentChunks.incrementAndGet();
+          }
+          streamListener.handle(channel, packet);
+        } else {
+          listener.handle(channel, packet);
+        }
+        return null;
+      })
+      .when(channel)
+      .sendPacket(Mockito.any(Packet.class));
+
+    var component = Mockito.mock(NetworkComponent.class);
+    Mockito.when(component.firstChannel()).thenReturn(channel);
+    var sender = factory.providerForClass(component, TestApiClass.class);
+
+    // the elements must arrive in order and split into multiple chunks
+    List<Integer> elements;
+    try (Stream<Integer> stream = sender.invokeMethod("range", 1000).fireStreamSync()) {
+      elements = stream.toList();
+    }
+
+    Assertions.assertEquals(IntStream.range(0, 1000).boxed().toList(), elements);
+    Assertions.assertTrue(sentChunks.get() > 1);
+  }
+
+  @Test
+  @Timeout(20)
+  void testAsyncMethodInvocation() {
+    RPCHandlerRegistry registry = new DefaultRPCHandlerRegistry();
+    PacketListener listener = new RPCPacketListener(registry);
+    RPCFactory factory = new DefaultRPCFactory(new DefaultObjectMapper(), DataBufFactory.defaultFactory());
+
+    var asyncApi = new TestAsyncApiClass();
+    registry.registerHandler(factory.newHandler(TestAsyncApiClass.class, asyncApi));
+
+    var resultListener = new AtomicReference<Task<Packet>>(new Task<>());
+    var resultChannel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        resultListener.get().complete(invocation.getArgument(0));
+        return null;
+      })
+      .when(resultChannel)
+      .sendPacket(Mockito.any(Packet.class));
+
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        Packet packet = invocation.getArgument(0);
+        packet.uniqueId(UUID.randomUUID());
+        listener.handle(resultChannel, packet);
+        return resultListener.get();
+      })
+      .when(channel)
+      .sendQueryAsync(Mockito.any(Packet.class));
+
+    var component = Mockito.mock(NetworkComponent.class);
+    Mockito.when(component.firstChannel()).thenReturn(channel);
+    var sender = factory.providerForClass(component, TestAsyncApiClass.class);
+
+    // the response must only be sent once the task returned by the method completes
+    Task<String> result = sender.invokeMethod("echoLater", "Hello").fire();
+    Assertions.assertFalse(result.isDone());
+    Mockito.verify(resultChannel, Mockito.never()).sendPacket(Mockito.any(Packet.class));
+
+    asyncApi.pending.complete("World");
+    Assertions.assertEquals("Hello World", result.join());
+
+    // exceptions completing the task must be sent to the caller
+    asyncApi.pending = new Task<>();
+    resultListener.set(new Task<>());
+    Task<String> failedResult = sender.invokeMethod("echoLater", "Hello").fire();
+    asyncApi.pending.completeExceptionally(new IllegalStateException("Not today"));
+
+    var exception = Assertions.assertThrows(CompletionException.class, failedResult::join);
+    Assertions.assertInstanceOf(RPCExecutionException.class, exception.getCause());
+  }
+
+  @Test
+  @Timeout(20)
+  void testRequestsAreQueuedWhileTooManyCallsAreInFlight() {
+    var asyncApi = new TestAsyncApiClass();
+    var sender = newAsyncApiSender(asyncApi, RPCPacketListener::new);
+
+    // fill up the in flight calls of the channel (128 by default)
+    List<Task<String>> inFlight = new ArrayList<>();
+    for (var i = 0; i < 128; i++) {
+      inFlight.add(sender.invokeMethod("echoLater", "Hello").fire());
+    }
+
+    // the next request must wait until a call completes, even though it is not async itself
+    Task<String> queued = sender.invokeMethod("echo", "World").fire();
+    Assertions.assertFalse(queued.isDone());
+
+    asyncApi.pending.complete("World");
+    Assertions.assertEquals("World", queued.join());
+    inFlight.forEach(task -> Assertions.assertEquals("Hello World", task.join()));
+  }
+
+  @Test
+  @Timeout(20)
+  void testRequestsAreRejectedWhenTheQueueIsFull() {
+    var asyncApi = new TestAsyncApiClass();
+    var sender = newAsyncApiSender(asyncApi, registry -> new RPCPacketListener(registry, 1, 1));
+
+    // one request in flight, one request waiting
+    Task<String> inFlight = sender.invokeMethod("echoLater", "Hello").fire();
+    Task<String> queued = sender.invokeMethod("echo", "World").fire();
+    Assertions.assertFalse(inFlight.isDone());
+    Assertions.assertFalse(queued.isDone());
+
+    // the queue is full, further requests must fail instantly instead of piling up
+    Task<String> rejected = sender.invokeMethod("echo", "Rejected").fire();
+    var exception = Assertions.assertThrows(CompletionException.class, rejected::join);
+    Assertions.assertInstanceOf(RPCExecutionException.class, exception.getCause());
+
+    asyncApi.pending.complete("World");
+    Assertions.assertEquals("Hello World", inFlight.join());
+    Assertions.assertEquals("World", queued.join());
+  }
+
+  private static RPCSender newAsyncApiSender(
+    TestAsyncApiClass asyncApi,
+    Function<RPCHandlerRegistry, PacketListener> listenerFactory
+  ) {
+    RPCHandlerRegistry registry = new DefaultRPCHandlerRegistry();
+    var listener = listenerFactory.apply(registry);
+    RPCFactory factory = new DefaultRPCFactory(new DefaultObjectMapper(), DataBufFactory.defaultFactory());
+    registry.registerHandler(factory.newHandler(TestAsyncApiClass.class, asyncApi));
+
+    Map<UUID, Task<Packet>> waitingQueries = Maps.newConcurrentMap();
+    var resultChannel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        Packet packet = invocation.getArgument(0);
+        waitingQueries.remove(packet.uniqueId()).complete(packet);
+        return null;
+      })
+      .when(resultChannel)
+      .sendPacket(Mockito.any(Packet.class));
+
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        Packet packet = invocation.getArgument(0);
+        var queryId = UUID.randomUUID();
+        var query = new Task<Packet>();
+        waitingQueries.put(queryId, query);
+
+        packet.uniqueId(queryId);
+        listener.handle(resultChannel, packet);
+        return query;
+      })
+      .when(channel)
+      .sendQueryAsync(Mockito.any(Packet.class));
+
+    var component = Mockito.mock(NetworkComponent.class);
+    Mockito.when(component.firstChannel()).thenReturn(channel);
+    return factory.providerForClass(component, TestAsyncApiClass.class);
+  }
+
   public interface TestApiClassVeryNested {
 
     Map<Long, Map<String, String>> handleProcessSnapshot2(ProcessSnapshot s, List<Integer> i, int primaryId);
@@ -190,6 +557,23 @@ public Map<Long, Map<String, String>> handleProcessSnapshot(ProcessSnapshot s, L
     public TestApiClassNested nestedClass(String arg) {
       return arg.equals("Test123") ? new TestApiClassNested() : null;
     }
+
+    public List<Integer> range(int size) {
+      return IntStream.range(0, size).boxed().toList();
+    }
+  }
+
+  public static final class TestAsyncApiClass {
+
+    private volatile Task<String> pending = new Task<>();
+
+    public CompletableFuture<String> echoLater(String prefix) {
+      return this.pending.thenApply(suffix -> prefix + " " + suffix);
+    }
+
+    public String echo(String value) {
+      return value;
+    }
   }
 
   public static final class TestApiClassNested {
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.metrics;
+
+import eu.cloudnetservice.driver.network.rpc.defaults.metrics.RPCMetrics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RPCMetricsTest {
+
+  @Test
+  void testMethodMetricsAreRecorded() {
+    var metrics = RPCMetrics.callerMetrics().method("test.RPCMetricsTarget", "record");
+
+    var startNanos = System.nanoTime();
+    metrics.recordRequest(100);
+    metrics.recordResponse(20);
+    metrics.recordCompletion(startNanos, false, null);
+
+    metrics.recordRequest(50);
+    metrics.recordCompletion(startNanos, true, new Object[]{"test"});
+
+    var snapshot = metrics.snapshot();
+    Assertions.assertEquals(2, snapshot.calls());
+    Assertions.assertEquals(1, snapshot.failures());
+    Assertions.assertEquals(150, snapshot.requestBytes());
+    Assertions.assertEquals(20, snapshot.responseBytes());
+    Assertions.assertEquals(2, snapshot.latency().count());
+
+    // the metrics of the same method must be shared
+    Assertions.assertSame(metrics, RPCMetrics.callerMetrics().method("test.RPCMetricsTarget", "record"));
+    Assertions.assertTrue(RPCMetrics.callerMetrics().snapshot().contains(snapshot));
+  }
+
+  @Test
+  void testArgumentSummary() {
+    var longArgument = "a".repeat(100);
+    var summary = RPCMetrics.summarizeArguments(new Object[]{1, null, longArgument});
+
+    Assertions.assertEquals("1, null, " + "a".repeat(64) + "...", summary);
+    Assertions.assertEquals("", RPCMetrics.summarizeArguments(new Object[0]));
+  }
+}
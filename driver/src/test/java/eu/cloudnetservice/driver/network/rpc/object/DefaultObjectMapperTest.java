@@ -22,7 +22,10 @@
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.rpc.annotation.RPCCompactCodec;
+import eu.cloudnetservice.driver.network.rpc.annotation.RPCFieldSince;
 import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.serializers.FunctionalObjectSerializer;
 import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
 import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
@@ -373,4 +376,68 @@ void testTimeClassSerialization(Object timeInstance) {
     Assertions.assertNotNull(result);
     Assertions.assertEquals(timeInstance, result);
   }
+
+  @Test
+  @Order(90)
+  void testResolvedSerializersAreInvalidatedOnBindingChange() {
+    var mapper = new DefaultObjectMapper();
+    var snapshot = ThreadSnapshot.from(Thread.currentThread());
+
+    // resolve the serializer of the type once before changing the bindings
+    var buf = DataBuf.empty();
+    mapper.writeObject(buf, snapshot);
+    Assertions.assertEquals(snapshot, mapper.readObject(buf, ThreadSnapshot.class));
+
+    // the new binding must be used for both writing and reading
+    mapper.registerBinding(ThreadSnapshot.class, FunctionalObjectSerializer.<ThreadSnapshot>of(
+      dataBuf -> {
+        Assertions.assertEquals(snapshot.id(), dataBuf.readLong());
+        return snapshot;
+      },
+      (dataBuf, object) -> dataBuf.writeLong(object.id())), false);
+    buf = DataBuf.empty();
+    mapper.writeObject(buf, snapshot);
+    Assertions.assertEquals(Long.BYTES + 1, buf.readableBytes());
+    Assertions.assertSame(snapshot, mapper.readObject(buf, ThreadSnapshot.class));
+
+    // unregistering the binding must switch back to the data class serializer
+    mapper.unregisterBinding(ThreadSnapshot.class, false);
+    buf = DataBuf.empty();
+    mapper.writeObject(buf, snapshot);
+    Assertions.assertEquals(snapshot, mapper.readObject(buf, ThreadSnapshot.class));
+  }
+
+  @Test
+  @Order(100)
+  void testCompactCodecSchemaEvolution() {
+    var mapper = new DefaultObjectMapper();
+
+    // a newer component must be able to read the object sent by an older one
+    var buf = DataBuf.empty();
+    mapper.writeObject(buf, new CompactDataV1(1234, "hello"));
+    Assertions.assertEquals(new CompactDataV2(1234, "hello", 0L, null), mapper.readObject(buf, CompactDataV2.class));
+
+    // an older component must skip the fields it does not know about
+    buf = DataBuf.empty();
+    mapper.writeObject(buf, new CompactDataV2(1234, "hello", 5678L, "world"));
+    mapper.writeObject(buf, "trailing");
+    Assertions.assertEquals(new CompactDataV1(1234, "hello"), mapper.readObject(buf, CompactDataV1.class));
+    Assertions.assertEquals("trailing", mapper.readObject(buf, String.class));
+
+    // same schema on both sides
+    buf = DataBuf.empty();
+    var data = new CompactDataV2(1234, "hello", 5678L, "world");
+    mapper.writeObject(buf, data);
+    Assertions.assertEquals(data, mapper.readObject(buf, CompactDataV2.class));
+  }
+
+  @RPCCompactCodec
+  public record CompactDataV1(int id, String name) {
+
+  }
+
+  @RPCCompactCodec
+  public record CompactDataV2(int id, String name, @RPCFieldSince(1) long time, @RPCFieldSince(2) String comment) {
+
+  }
 }
@@ -75,6 +75,31 @@ void testUnregisterHandler() {
       registry.registeredHandlers().get(DefaultRPCHandlerTest.TestApiClass.class.getCanonicalName()));
   }
 
+  @Test
+  @Order(20)
+  void testInternMethod() {
+    RPCHandlerRegistry registry = new DefaultRPCHandlerRegistry();
+
+    var methodId = registry.internMethod("eu.cloudnetservice.Test", "test");
+    Assertions.assertNotEquals(0, methodId);
+    Assertions.assertEquals(methodId, registry.internMethod("eu.cloudnetservice.Test", "test"));
+    Assertions.assertNotEquals(methodId, registry.internMethod("eu.cloudnetservice.Test", "test2"));
+
+    var internedMethod = registry.internedMethod(methodId);
+    Assertions.assertNotNull(internedMethod);
+    Assertions.assertEquals("eu.cloudnetservice.Test", internedMethod.targetClassName());
+    Assertions.assertEquals("test", internedMethod.methodName());
+
+    Assertions.assertNull(registry.internedMethod(0));
+    Assertions.assertNull(registry.internedMethod(1234));
+
+    // ensure that the lookup table grows as needed
+    for (var i = 0; i < 200; i++) {
+      var id = registry.internMethod("eu.cloudnetservice.Test", "method" + i);
+      Assertions.assertEquals("method" + i, registry.internedMethod(id).methodName());
+    }
+  }
+
   private RPCFactory provideFactory() {
     return new DefaultRPCFactory(new DefaultObjectMapper(), DataBufFactory.defaultFactory());
   }
@@ -61,6 +61,7 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
@@ -69,6 +70,8 @@
 @Provides(PlayerManager.class)
 public class NodePlayerManager implements PlayerManager {
 
+  protected static final int PLAYER_CHUNK_SIZE = 100;
+
   protected final String databaseName;
   protected final EventManager eventManager;
   protected final CommandProvider commandProvider;
@@ -231,6 +234,13 @@ public long registeredCount() {
       .toList();
   }
 
+  @Override
+  public @NonNull Stream<CloudOfflinePlayer> registeredPlayersStream() {
+    return this.database().documentStream(PLAYER_CHUNK_SIZE)
+      .map(doc -> doc.toInstanceOf(CloudOfflinePlayer.class))
+      .filter(Objects::nonNull);
+  }
+
   @Override
   public void updateOfflinePlayer(@NonNull CloudOfflinePlayer player) {
     // push the change to the cache
@@ -25,6 +25,7 @@
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
 import eu.cloudnetservice.driver.network.rpc.generation.GenerationContext;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
@@ -101,7 +102,8 @@ public PlatformBridgeManagement(
     @NonNull BridgeServiceHelper serviceHelper,
     @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull CloudServiceProvider serviceProvider,
-    @NonNull WrapperConfiguration wrapperConfig
+    @NonNull WrapperConfiguration wrapperConfig,
+    @NonNull CloudMessenger messenger
   ) {
     this.eventManager = eventManager;
     this.taskProvider = taskProvider;
@@ -133,6 +135,10 @@ public PlatformBridgeManagement(
     // register the common listeners
     eventManager.registerListener(new PlatformInformationListener(this));
     eventManager.registerListener(new PlatformChannelMessageListener(this.eventManager, this));
+    messenger.subscribeChannels(
+      BRIDGE_CHANNEL_NAME,
+      BRIDGE_PLAYER_CHANNEL_NAME,
+      BRIDGE_PLAYER_EXECUTOR_CHANNEL_NAME);
   }
 
   @Override
@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -70,7 +71,8 @@ public BukkitBridgeManagement(
     @NonNull BridgeServiceHelper serviceHelper,
     @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull CloudServiceProvider serviceProvider,
-    @NonNull WrapperConfiguration wrapperConfiguration
+    @NonNull WrapperConfiguration wrapperConfiguration,
+    @NonNull CloudMessenger messenger
   ) {
     super(
       rpcFactory,
@@ -80,7 +82,8 @@ public BukkitBridgeManagement(
       serviceHelper,
       serviceInfoHolder,
       serviceProvider,
-      wrapperConfiguration);
+      wrapperConfiguration,
+      messenger);
     // init fields
     this.server = server;
     this.plugin = plugin;
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -70,7 +71,8 @@ public BungeeCordBridgeManagement(
     @NonNull BridgeServiceHelper serviceHelper,
     @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull CloudServiceProvider serviceProvider,
-    @NonNull WrapperConfiguration wrapperConfiguration
+    @NonNull WrapperConfiguration wrapperConfiguration,
+    @NonNull CloudMessenger messenger
   ) {
     super(rpcFactory,
       eventManager,
@@ -79,7 +81,8 @@ public BungeeCordBridgeManagement(
       serviceHelper,
       serviceInfoHolder,
       serviceProvider,
-      wrapperConfiguration);
+      wrapperConfiguration,
+      messenger);
     // init fields
     this.proxyServer = proxyServer;
     this.globalDirectPlayerExecutor = new BungeeCordDirectPlayerExecutor(
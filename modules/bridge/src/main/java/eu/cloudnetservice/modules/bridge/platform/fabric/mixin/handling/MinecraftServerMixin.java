@@ -73,7 +73,8 @@ public void beforeTickLoopStart(CallbackInfo callbackInfo) {
       this.injectionHolder.serviceHelper(),
       this.injectionHolder.serviceInfoHolder(),
       this.injectionHolder.serviceProvider(),
-      this.injectionHolder.wrapperConfiguration());
+      this.injectionHolder.wrapperConfiguration(),
+      this.injectionHolder.messenger());
     this.management.registerServices(this.injectionHolder.serviceRegistry());
     this.management.postInit();
   }
@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -40,7 +41,8 @@ public record FabricInjectionHolder(
   @NonNull ServiceInfoHolder serviceInfoHolder,
   @NonNull CloudServiceProvider serviceProvider,
   @NonNull ServerPlatformHelper serverPlatformHelper,
-  @NonNull WrapperConfiguration wrapperConfiguration
+  @NonNull WrapperConfiguration wrapperConfiguration,
+  @NonNull CloudMessenger messenger
 ) {
 
 }
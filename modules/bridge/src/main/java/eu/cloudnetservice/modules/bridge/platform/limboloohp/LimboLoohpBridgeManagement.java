@@ -25,6 +25,7 @@
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -70,7 +71,8 @@ public LimboLoohpBridgeManagement(
     @NonNull BridgeServiceHelper serviceHelper,
     @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull CloudServiceProvider serviceProvider,
-    @NonNull WrapperConfiguration wrapperConfiguration
+    @NonNull WrapperConfiguration wrapperConfiguration,
+    @NonNull CloudMessenger messenger
   ) {
     super(
       rpcFactory,
@@ -80,7 +82,8 @@ public LimboLoohpBridgeManagement(
       serviceHelper,
       serviceInfoHolder,
       serviceProvider,
-      wrapperConfiguration);
+      wrapperConfiguration,
+      messenger);
     // init fields
     this.limbo = limbo;
     this.plugin = plugin;
@@ -21,6 +21,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -75,7 +76,8 @@ public MinestomBridgeManagement(
     @NonNull ConnectionManager connectionManager,
     @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull CloudServiceProvider serviceProvider,
-    @NonNull WrapperConfiguration wrapperConfiguration
+    @NonNull WrapperConfiguration wrapperConfiguration,
+    @NonNull CloudMessenger messenger
   ) {
     super(
       rpcFactory,
@@ -85,7 +87,8 @@ public MinestomBridgeManagement(
       serviceHelper,
       serviceInfoHolder,
       serviceProvider,
-      wrapperConfiguration);
+      wrapperConfiguration,
+      messenger);
     // init fields
     this.commandManager = commandManager;
     this.connectionManager = connectionManager;
@@ -17,6 +17,7 @@
 package eu.cloudnetservice.modules.bridge.player;
 
 import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.network.rpc.annotation.RPCCompactCodec;
 import java.util.UUID;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
@@ -36,6 +37,7 @@
  */
 @ToString
 @EqualsAndHashCode(callSuper = true)
+@RPCCompactCodec
 public class CloudPlayer extends CloudOfflinePlayer {
 
   protected final NetworkPlayerProxyInfo networkPlayerProxyInfo;
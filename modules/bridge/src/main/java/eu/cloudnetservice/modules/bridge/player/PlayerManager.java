@@ -22,6 +22,7 @@
 import eu.cloudnetservice.modules.bridge.player.executor.PlayerExecutor;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
@@ -185,6 +186,15 @@ public interface PlayerManager {
    */
   @NonNull List<CloudOfflinePlayer> registeredPlayers();
 
+  /**
+   * Streams all registered players from the database. Other than {@link #registeredPlayers()} the players are read
+   * from the database in chunks while the stream is consumed, and are transferred in chunks when called from a
+   * wrapper. The returned stream should be closed when it is not fully consumed.
+   *
+   * @return a stream of all registered players.
+   */
+  @NonNull Stream<CloudOfflinePlayer> registeredPlayersStream();
+
   /**
    * Updates the given cloud offline player in the database, in the local cache of the node and calls the update in the
    * cluster.
@@ -34,6 +34,7 @@
 import com.google.common.collect.Lists;
 import eu.cloudnetservice.common.util.StringUtil;
 import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
 import eu.cloudnetservice.modules.docker.config.DockerConfiguration;
 import eu.cloudnetservice.modules.docker.config.DockerImage;
@@ -148,6 +149,12 @@ public boolean alive() {
     return false;
   }
 
+  @Override
+  protected @Nullable HostAndPort selectDomainSocketListener() {
+    // the socket file of the node is not available inside the container
+    return null;
+  }
+
   @Override
   protected void doStartProcess(
     @NonNull List<String> arguments,
@@ -18,14 +18,22 @@
 
 import eu.cloudnetservice.driver.event.EventListener;
 import eu.cloudnetservice.driver.event.events.channel.ChannelMessageReceiveEvent;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.modules.labymod.LabyModManagement;
 import eu.cloudnetservice.modules.labymod.config.LabyModConfiguration;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
 
 @Singleton
 public class PlatformLabyModListener {
 
+  @Inject
+  public PlatformLabyModListener(@NonNull CloudMessenger messenger) {
+    // the labymod configuration updates are only delivered to services subscribed to the channel
+    messenger.subscribeChannels(LabyModManagement.LABYMOD_MODULE_CHANNEL);
+  }
+
   @EventListener
   public void handleConfigUpdate(
     @NonNull ChannelMessageReceiveEvent event,
@@ -21,6 +21,7 @@
 import eu.cloudnetservice.driver.channel.ChannelMessageTarget;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
@@ -62,7 +63,8 @@ public PlatformNPCManagement(
     @NonNull EventManager eventManager,
     @NonNull ComponentInfo componentInfo,
     @NonNull CloudServiceProvider cloudServiceProvider,
-    @NonNull WrapperConfiguration wrapperConfiguration
+    @NonNull WrapperConfiguration wrapperConfiguration,
+    @NonNull CloudMessenger messenger
   ) {
     super(loadNPCConfiguration(componentInfo), eventManager);
 
@@ -79,6 +81,7 @@ public PlatformNPCManagement(
 
     // register the listeners
     eventManager.registerListener(new CloudNetServiceListener(this));
+    messenger.subscribeChannels(NPC_CHANNEL_NAME);
   }
 
   protected static @Nullable NPCConfiguration loadNPCConfiguration(@NonNull ComponentInfo componentInfo) {
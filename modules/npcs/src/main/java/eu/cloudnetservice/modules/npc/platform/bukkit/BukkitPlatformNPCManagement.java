@@ -24,6 +24,7 @@
 import com.google.common.base.Preconditions;
 import eu.cloudnetservice.driver.ComponentInfo;
 import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.injection.Service;
 import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
@@ -77,9 +78,10 @@ public BukkitPlatformNPCManagement(
     @NonNull ComponentInfo componentInfo,
     @NonNull @Service PlayerManager playerManager,
     @NonNull CloudServiceProvider cloudServiceProvider,
-    @NonNull WrapperConfiguration wrapperConfiguration
+    @NonNull WrapperConfiguration wrapperConfiguration,
+    @NonNull CloudMessenger messenger
   ) {
-    super(eventManager, componentInfo, cloudServiceProvider, wrapperConfiguration);
+    super(eventManager, componentInfo, cloudServiceProvider, wrapperConfiguration, messenger);
 
     this.plugin = plugin;
     this.server = server;
@@ -22,6 +22,7 @@
 import eu.cloudnetservice.common.util.StringUtil;
 import eu.cloudnetservice.driver.CloudNetVersion;
 import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.event.metrics.EventListenerMetrics;
 import eu.cloudnetservice.driver.module.ModuleProvider;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.NetworkClient;
@@ -35,6 +36,7 @@
 import eu.cloudnetservice.driver.network.http.websocket.WebSocketChannel;
 import eu.cloudnetservice.driver.network.http.websocket.WebSocketFrameType;
 import eu.cloudnetservice.driver.network.http.websocket.WebSocketListener;
+import eu.cloudnetservice.driver.network.rpc.defaults.metrics.RPCMetrics;
 import eu.cloudnetservice.driver.permission.PermissionManagement;
 import eu.cloudnetservice.driver.provider.GroupConfigurationProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
@@ -46,6 +48,7 @@
 import eu.cloudnetservice.node.http.V2HttpHandler;
 import eu.cloudnetservice.node.http.annotation.BearerAuth;
 import eu.cloudnetservice.node.http.annotation.HandlerPermission;
+import eu.cloudnetservice.node.network.NodeNetworkStatistics;
 import eu.cloudnetservice.node.permission.command.PermissionUserCommandSource;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import jakarta.inject.Inject;
@@ -69,6 +72,7 @@ public final class V2HttpHandlerNode extends V2HttpHandler {
   private final NodeServerProvider nodeServerProvider;
   private final CloudServiceManager cloudServiceManager;
   private final ServiceTaskProvider serviceTaskProvider;
+  private final NodeNetworkStatistics networkStatistics;
   private final PermissionManagement permissionManagement;
   private final GroupConfigurationProvider groupConfigurationProvider;
 
@@ -82,6 +86,7 @@ public V2HttpHandlerNode(
     @NonNull NodeServerProvider nodeServerProvider,
     @NonNull CloudServiceManager cloudServiceManager,
     @NonNull ServiceTaskProvider serviceTaskProvider,
+    @NonNull NodeNetworkStatistics networkStatistics,
     @NonNull PermissionManagement permissionManagement,
     @NonNull GroupConfigurationProvider groupConfigurationProvider
   ) {
@@ -94,6 +99,7 @@ public V2HttpHandlerNode(
     this.nodeServerProvider = nodeServerProvider;
     this.cloudServiceManager = cloudServiceManager;
     this.serviceTaskProvider = serviceTaskProvider;
+    this.networkStatistics = networkStatistics;
     this.permissionManagement = permissionManagement;
     this.groupConfigurationProvider = groupConfigurationProvider;
   }
@@ -119,6 +125,42 @@ private void sendNodeInformation(@NonNull HttpContext context) {
     this.ok(context).body(information.toString()).context().closeAfter(true).cancelNext(true);
   }
 
+  @BearerAuth
+  @HttpRequestHandler(paths = "/api/v2/node/network")
+  private void handleNetworkStatisticsRequest(@NonNull HttpContext context) {
+    this.ok(context)
+      .body(this.success().append("channels", this.networkStatistics.channelStatistics()).toString())
+      .context()
+      .closeAfter(true)
+      .cancelNext(true);
+  }
+
+  @BearerAuth
+  @HttpRequestHandler(paths = "/api/v2/node/rpc")
+  private void handleRPCStatisticsRequest(@NonNull HttpContext context) {
+    this.ok(context)
+      .body(this.success()
+        .append("handler", RPCMetrics.handlerMetrics().snapshot())
+        .append("caller", RPCMetrics.callerMetrics().snapshot())
+        .toString())
+      .context()
+      .closeAfter(true)
+      .cancelNext(true);
+  }
+
+  @BearerAuth
+  @HttpRequestHandler(paths = "/api/v2/node/events")
+  private void handleEventProfileRequest(@NonNull HttpContext context) {
+    this.ok(context)
+      .body(this.success()
+        .append("profiling", EventListenerMetrics.profiling())
+        .append("listeners", EventListenerMetrics.snapshot())
+        .toString())
+      .context()
+      .closeAfter(true)
+      .cancelNext(true);
+  }
+
   @BearerAuth
   @HttpRequestHandler(paths = "/api/v2/node/config")
   private void handleNodeConfigRequest(@NonNull HttpContext context) {
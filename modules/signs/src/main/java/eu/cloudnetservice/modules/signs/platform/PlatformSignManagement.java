@@ -25,6 +25,7 @@
 import eu.cloudnetservice.driver.channel.ChannelMessageTarget;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.modules.bridge.WorldPosition;
@@ -83,7 +84,8 @@ protected PlatformSignManagement(
     @NonNull Executor mainThreadExecutor,
     @NonNull WrapperConfiguration wrapperConfig,
     @NonNull CloudServiceProvider serviceProvider,
-    @NonNull ScheduledExecutorService executorService
+    @NonNull ScheduledExecutorService executorService,
+    @NonNull CloudMessenger messenger
   ) {
     super(loadSignsConfiguration(wrapperConfig));
     this.mainThreadExecutor = mainThreadExecutor;
@@ -98,6 +100,7 @@ protected PlatformSignManagement(
     // register the listeners
     eventManager.registerListener(SignsPlatformListener.class);
     eventManager.registerListener(SharedChannelMessageListener.class);
+    messenger.subscribeChannels(SIGN_CHANNEL_NAME);
   }
 
   protected static @Nullable SignsConfiguration loadSignsConfiguration(@NonNull WrapperConfiguration wrapperConfig) {
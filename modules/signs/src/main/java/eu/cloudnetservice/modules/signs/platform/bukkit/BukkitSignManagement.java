@@ -17,6 +17,7 @@
 package eu.cloudnetservice.modules.signs.platform.bukkit;
 
 import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.injection.Service;
 import eu.cloudnetservice.ext.platforminject.api.stereotype.ProvidesFor;
@@ -59,7 +60,8 @@ protected BukkitSignManagement(
     @NonNull @Service PlayerManager playerManager,
     @NonNull WrapperConfiguration wrapperConfig,
     @NonNull CloudServiceProvider serviceProvider,
-    @NonNull @Named("taskScheduler") ScheduledExecutorService executorService
+    @NonNull @Named("taskScheduler") ScheduledExecutorService executorService,
+    @NonNull CloudMessenger messenger
   ) {
     super(eventManager, runnable -> {
       // check if we're already on main
@@ -68,7 +70,7 @@ protected BukkitSignManagement(
       } else {
         scheduler.runTask(plugin, runnable);
       }
-    }, wrapperConfig, serviceProvider, executorService);
+    }, wrapperConfig, serviceProvider, executorService, messenger);
 
     this.plugin = plugin;
     this.scheduler = scheduler;
@@ -19,6 +19,7 @@
 import com.google.common.util.concurrent.MoreExecutors;
 import eu.cloudnetservice.common.tuple.Tuple2;
 import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.injection.Service;
 import eu.cloudnetservice.ext.platforminject.api.stereotype.ProvidesFor;
@@ -63,9 +64,10 @@ protected MinestomSignManagement(
     @NonNull SchedulerManager schedulerManager,
     @NonNull WrapperConfiguration wrapperConfig,
     @NonNull CloudServiceProvider serviceProvider,
-    @NonNull @Named("taskScheduler") ScheduledExecutorService executorService
+    @NonNull @Named("taskScheduler") ScheduledExecutorService executorService,
+    @NonNull CloudMessenger messenger
   ) {
-    super(eventManager, MoreExecutors.directExecutor(), wrapperConfig, serviceProvider, executorService);
+    super(eventManager, MoreExecutors.directExecutor(), wrapperConfig, serviceProvider, executorService, messenger);
 
     this.playerManager = playerManager;
     this.eventHandler = eventHandler;
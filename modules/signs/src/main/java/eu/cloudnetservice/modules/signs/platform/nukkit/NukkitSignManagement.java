@@ -24,6 +24,7 @@
 import cn.nukkit.plugin.PluginManager;
 import cn.nukkit.scheduler.ServerScheduler;
 import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.injection.Service;
 import eu.cloudnetservice.ext.platforminject.api.stereotype.ProvidesFor;
@@ -61,7 +62,8 @@ protected NukkitSignManagement(
     @NonNull @Service PlayerManager playerManager,
     @NonNull WrapperConfiguration wrapperConfig,
     @NonNull CloudServiceProvider serviceProvider,
-    @NonNull @Named("taskScheduler") ScheduledExecutorService executorService
+    @NonNull @Named("taskScheduler") ScheduledExecutorService executorService,
+    @NonNull CloudMessenger messenger
   ) {
     super(
       eventManager,
@@ -74,7 +76,8 @@ protected NukkitSignManagement(
       },
       wrapperConfig,
       serviceProvider,
-      executorService);
+      executorService,
+      messenger);
 
     this.plugin = plugin;
     this.server = server;
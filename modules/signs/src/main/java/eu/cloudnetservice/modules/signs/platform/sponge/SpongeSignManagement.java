@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.modules.signs.platform.sponge;
 
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.injection.Service;
 import eu.cloudnetservice.ext.platforminject.api.stereotype.ProvidesFor;
@@ -69,7 +70,8 @@ protected SpongeSignManagement(
     @NonNull CloudServiceProvider serviceProvider,
     @NonNull @Named("sync") Scheduler syncScheduler,
     @NonNull @Named("taskScheduler") ScheduledExecutorService executorService,
-    @NonNull eu.cloudnetservice.driver.event.EventManager eventManager
+    @NonNull eu.cloudnetservice.driver.event.EventManager eventManager,
+    @NonNull CloudMessenger messenger
   ) {
     super(eventManager, runnable -> {
       // check if we're already on main
@@ -78,7 +80,7 @@ protected SpongeSignManagement(
       } else {
         syncScheduler.submit(Task.builder().plugin(pluginContainer).execute(runnable).build());
       }
-    }, wrapperConfig, serviceProvider, executorService);
+    }, wrapperConfig, serviceProvider, executorService, messenger);
 
     this.game = game;
     this.worldManager = worldManager;
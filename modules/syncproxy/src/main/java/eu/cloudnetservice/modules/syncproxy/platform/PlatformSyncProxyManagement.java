@@ -16,11 +16,13 @@
 
 package eu.cloudnetservice.modules.syncproxy.platform;
 
+import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.permission.PermissionManagement;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
@@ -78,7 +80,8 @@ protected PlatformSyncProxyManagement(
     @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull CloudServiceProvider serviceProvider,
     @NonNull ScheduledExecutorService executorService,
-    @NonNull PermissionManagement permissionManagement
+    @NonNull PermissionManagement permissionManagement,
+    @NonNull CloudMessenger messenger
   ) {
     this.rpcFactory = rpcFactory;
     this.eventManager = eventManager;
@@ -90,14 +93,22 @@ protected PlatformSyncProxyManagement(
     this.permissionManagement = permissionManagement;
 
     this.rpcSender = rpcFactory.providerForClass(networkClient, SyncProxyManagement.class);
+    messenger.subscribeChannels(SyncProxyConstants.SYNC_PROXY_CHANNEL);
   }
 
   protected void init() {
-    // get the config from the node
-    this.configurationSilently(this.rpcSender.invokeMethod("configuration").fireSync());
+    // get the config and all services that are already started from the node in a single request
+    var batch = this.rpcFactory.newBatch();
+    Task<SyncProxyConfiguration> configuration = batch.add(this.rpcSender.invokeMethod("configuration"));
+    Task<Collection<ServiceInfoSnapshot>> services = batch.add(this.rpcFactory
+      .providerForClass(this.networkClient, CloudServiceProvider.class)
+      .invokeMethod("services"));
+    batch.fire();
+
+    this.configurationSilently(configuration.join());
     // cache all services that are already started
-    this.serviceProvider.servicesAsync().thenAccept(services -> {
-      for (var service : services) {
+    services.thenAccept(snapshots -> {
+      for (var service : snapshots) {
         this.cacheServiceInfoSnapshot(service);
       }
     });
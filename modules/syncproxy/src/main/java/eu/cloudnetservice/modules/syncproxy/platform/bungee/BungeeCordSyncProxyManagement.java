@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
 import eu.cloudnetservice.driver.permission.PermissionManagement;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
 import eu.cloudnetservice.ext.platforminject.api.stereotype.ProvidesFor;
@@ -57,7 +58,8 @@ public BungeeCordSyncProxyManagement(
     @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull CloudServiceProvider serviceProvider,
     @NonNull @Named("taskScheduler") ScheduledExecutorService executorService,
-    @NonNull PermissionManagement permissionManagement
+    @NonNull PermissionManagement permissionManagement,
+    @NonNull CloudMessenger messenger
   ) {
     super(
       rpcFactory,
@@ -67,7 +69,8 @@ public BungeeCordSyncProxyManagement(
       serviceInfoHolder,
       serviceProvider,
       executorService,
-      permissionManagement);
+      permissionManagement,
+      messenger);
 
     this.proxyServer = proxyServer;
     this.bungeeCordHelper = bungeeCordHelper;
@@ -22,6 +22,7 @@
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
 import eu.cloudnetservice.driver.permission.PermissionManagement;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
 import eu.cloudnetservice.ext.component.ComponentFormats;
@@ -52,7 +53,8 @@ public VelocitySyncProxyManagement(
     @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull CloudServiceProvider serviceProvider,
     @NonNull @Named("taskScheduler") ScheduledExecutorService executorService,
-    @NonNull PermissionManagement permissionManagement
+    @NonNull PermissionManagement permissionManagement,
+    @NonNull CloudMessenger messenger
   ) {
     super(
       rpcFactory,
@@ -62,7 +64,8 @@ public VelocitySyncProxyManagement(
       serviceInfoHolder,
       serviceProvider,
       executorService,
-      permissionManagement);
+      permissionManagement,
+      messenger);
 
     this.proxyServer = proxyServer;
     this.init();
@@ -22,6 +22,7 @@
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
 import eu.cloudnetservice.driver.permission.PermissionManagement;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
 import eu.cloudnetservice.ext.component.ComponentFormats;
@@ -55,7 +56,8 @@ public WaterDogPESyncProxyManagement(
     @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull CloudServiceProvider serviceProvider,
     @NonNull @Named("taskScheduler") ScheduledExecutorService executorService,
-    @NonNull PermissionManagement permissionManagement
+    @NonNull PermissionManagement permissionManagement,
+    @NonNull CloudMessenger messenger
   ) {
     super(
       rpcFactory,
@@ -65,7 +67,8 @@ public WaterDogPESyncProxyManagement(
       serviceInfoHolder,
       serviceProvider,
       executorService,
-      permissionManagement);
+      permissionManagement,
+      messenger);
 
     this.proxyServer = proxyServer;
     this.init();
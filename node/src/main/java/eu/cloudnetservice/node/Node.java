@@ -62,6 +62,7 @@
 import eu.cloudnetservice.node.module.NodeModuleProviderHandler;
 import eu.cloudnetservice.node.module.updater.ModuleUpdater;
 import eu.cloudnetservice.node.module.updater.ModuleUpdaterRegistry;
+import eu.cloudnetservice.node.network.NodeNetworkUtil;
 import eu.cloudnetservice.node.network.chunk.FileDeployCallbackListener;
 import eu.cloudnetservice.node.permission.DefaultPermissionManagementHandler;
 import eu.cloudnetservice.node.permission.NodePermissionManagement;
@@ -334,6 +335,21 @@ private void bindNetworkListeners(
       System.exit(1);
     }
 
+    // local services prefer to connect using the domain socket, remote nodes are always using tcp
+    var domainSocketListener = NodeNetworkUtil.domainSocketListener(configuration);
+    if (domainSocketListener != null) {
+      networkServer.addListener(domainSocketListener).handle(($, exception) -> {
+        if (exception != null) {
+          LOGGER.info(I18n.trans("network-listener-bound-exceptionally", domainSocketListener, exception.getMessage()));
+        } else {
+          LOGGER.info(I18n.trans("network-listener-bound", domainSocketListener));
+        }
+
+        // prevent the exception from being thrown
+        return null;
+      }).join();
+    }
+
     // http server init
     for (var listener : configuration.httpListeners()) {
       httpServer.addListener(listener).handle(($, exception) -> {
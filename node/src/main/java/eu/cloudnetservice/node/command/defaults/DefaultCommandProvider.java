@@ -41,12 +41,14 @@
 import eu.cloudnetservice.node.command.sub.ConfigCommand;
 import eu.cloudnetservice.node.command.sub.CreateCommand;
 import eu.cloudnetservice.node.command.sub.DebugCommand;
+import eu.cloudnetservice.node.command.sub.EventsCommand;
 import eu.cloudnetservice.node.command.sub.ExitCommand;
 import eu.cloudnetservice.node.command.sub.GroupsCommand;
 import eu.cloudnetservice.node.command.sub.HelpCommand;
 import eu.cloudnetservice.node.command.sub.MeCommand;
 import eu.cloudnetservice.node.command.sub.MigrateCommand;
 import eu.cloudnetservice.node.command.sub.ModulesCommand;
+import eu.cloudnetservice.node.command.sub.NetworkCommand;
 import eu.cloudnetservice.node.command.sub.PermissionsCommand;
 import eu.cloudnetservice.node.command.sub.ServiceCommand;
 import eu.cloudnetservice.node.command.sub.TasksCommand;
@@ -284,6 +286,8 @@ public void registerDefaultCommands() {
     this.register(ClusterCommand.class);
     this.register(ConfigCommand.class);
     this.register(ModulesCommand.class);
+    this.register(NetworkCommand.class);
+    this.register(EventsCommand.class);
     this.register(HelpCommand.class);
   }
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.command.sub;
+
+import cloud.commandframework.annotations.CommandMethod;
+import cloud.commandframework.annotations.CommandPermission;
+import eu.cloudnetservice.common.column.ColumnFormatter;
+import eu.cloudnetservice.common.column.RowedFormatter;
+import eu.cloudnetservice.common.language.I18n;
+import eu.cloudnetservice.driver.event.metrics.EventListenerMetrics;
+import eu.cloudnetservice.node.command.annotation.CommandAlias;
+import eu.cloudnetservice.node.command.annotation.Description;
+import eu.cloudnetservice.node.command.source.CommandSource;
+import jakarta.inject.Singleton;
+import java.util.Comparator;
+import lombok.NonNull;
+
+@Singleton
+@CommandAlias("event")
+@CommandPermission("cloudnet.command.events")
+@Description("command-events-description")
+public final class EventsCommand {
+
+  private static final int MAX_DISPLAYED_LISTENERS = 15;
+
+  private static final RowedFormatter<EventListenerMetrics.Snapshot> LISTENER_FORMATTER = RowedFormatter
+    .<EventListenerMetrics.Snapshot>builder()
+    .defaultFormatter(ColumnFormatter.builder()
+      .columnTitles("Listener", "Event", "Calls (Failed)", "Time (Total/Avg/Max)")
+      .build())
+    .column(snapshot -> snapshot.listenerClass() + "#" + snapshot.methodName())
+    .column(snapshot -> simpleClassName(snapshot.eventClass()))
+    .column(snapshot -> snapshot.calls() + " (" + snapshot.failures() + ")")
+    .column(snapshot -> formatNanos(snapshot.totalNanos())
+      + "/"
+      + formatNanos(snapshot.averageNanos())
+      + "/"
+      + formatNanos(snapshot.maxNanos()))
+    .build();
+
+  @CommandMethod("events|event profile")
+  public void profile(@NonNull CommandSource source) {
+    var listeners = EventListenerMetrics.snapshot();
+    if (listeners.isEmpty()) {
+      source.sendMessage(I18n.trans(EventListenerMetrics.profiling()
+        ? "command-events-profile-empty"
+        : "command-events-profile-disabled"));
+      return;
+    }
+
+    // display the listeners which took the most time in total first, these are the ones slowing down event calls
+    source.sendMessage(LISTENER_FORMATTER.format(listeners.stream()
+      .sorted(Comparator.comparingLong(EventListenerMetrics.Snapshot::totalNanos).reversed())
+      .limit(MAX_DISPLAYED_LISTENERS)
+      .toList()));
+  }
+
+  @CommandMethod("events|event profile enable")
+  public void enableProfiling(@NonNull CommandSource source) {
+    EventListenerMetrics.profiling(true);
+    source.sendMessage(I18n.trans("command-events-profile-enabled"));
+  }
+
+  @CommandMethod("events|event profile disable")
+  public void disableProfiling(@NonNull CommandSource source) {
+    EventListenerMetrics.profiling(false);
+    source.sendMessage(I18n.trans("command-events-profile-disabled"));
+  }
+
+  @CommandMethod("events|event profile reset")
+  public void resetProfile(@NonNull CommandSource source) {
+    EventListenerMetrics.reset();
+    source.sendMessage(I18n.trans("command-events-profile-reset"));
+  }
+
+  private static @NonNull String simpleClassName(@NonNull String className) {
+    return className.substring(className.lastIndexOf('.') + 1);
+  }
+
+  private static @NonNull String formatNanos(long nanos) {
+    if (nanos < 1_000_000) {
+      return (nanos / 1_000) + "us";
+    } else {
+      return String.format("%.2fms", nanos / 1_000_000D);
+    }
+  }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.command.sub;
+
+import cloud.commandframework.annotations.CommandMethod;
+import cloud.commandframework.annotations.CommandPermission;
+import eu.cloudnetservice.common.column.ColumnFormatter;
+import eu.cloudnetservice.common.column.RowedFormatter;
+import eu.cloudnetservice.common.language.I18n;
+import eu.cloudnetservice.driver.network.netty.NettyLatencyHistogram;
+import eu.cloudnetservice.driver.network.rpc.defaults.metrics.RPCMetrics;
+import eu.cloudnetservice.node.command.annotation.CommandAlias;
+import eu.cloudnetservice.node.command.annotation.Description;
+import eu.cloudnetservice.node.command.source.CommandSource;
+import eu.cloudnetservice.node.network.NodeNetworkStatistics;
+import eu.cloudnetservice.node.network.NodeNetworkStatistics.ChannelStatistics;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+
+@Singleton
+@CommandAlias("net")
+@CommandPermission("cloudnet.command.network")
+@Description("command-network-description")
+public final class NetworkCommand {
+
+  private static final int MAX_DISPLAYED_PACKET_CHANNELS = 10;
+  private static final int MAX_DISPLAYED_RPC_METHODS = 15;
+
+  private static final RowedFormatter<ChannelStatistics> CHANNEL_FORMATTER = RowedFormatter.<ChannelStatistics>builder()
+    .defaultFormatter(ColumnFormatter.builder()
+      .columnTitles("Owner", "Direction", "Remote", "Packets (I/O)", "Bytes (I/O)", "Queue (C/M)", "Query RTT (50/99)")
+      .build())
+    .column(ChannelStatistics::owner)
+    .column(ChannelStatistics::direction)
+    .column(statistics -> statistics.direction().equals("inbound")
+      ? statistics.clientAddress()
+      : statistics.serverAddress())
+    .column(statistics -> statistics.metrics().total().packetsIn() + "/" + statistics.metrics().total().packetsOut())
+    .column(statistics -> formatBytes(statistics.metrics().total().bytesIn())
+      + "/"
+      + formatBytes(statistics.metrics().total().bytesOut()))
+    .column(statistics -> statistics.metrics().queueDepth() + "/" + statistics.metrics().maxQueueDepth())
+    .column(statistics -> formatLatency(statistics.metrics().queryRoundTripTime()))
+    .build();
+  private static final RowedFormatter<PacketChannelTotals> PACKET_CHANNEL_FORMATTER = RowedFormatter
+    .<PacketChannelTotals>builder()
+    .defaultFormatter(ColumnFormatter.builder()
+      .columnTitles(
+        "Packet Channel",
+        "Packets (I/O)",
+        "Bytes (I/O)",
+        "Queue (C/M)",
+        "Max Queue p99",
+        "Max Handle p99")
+      .build())
+    .column(PacketChannelTotals::packetChannel)
+    .column(totals -> totals.packetsIn + "/" + totals.packetsOut)
+    .column(totals -> formatBytes(totals.bytesIn) + "/" + formatBytes(totals.bytesOut))
+    .column(totals -> totals.queueDepth + "/" + totals.maxQueueDepth)
+    .column(totals -> formatNanos(totals.maxQueueP99Nanos))
+    .column(totals -> formatNanos(totals.maxHandleP99Nanos))
+    .build();
+
+  private static final RowedFormatter<RPCMetrics.MethodMetrics.Snapshot> RPC_METHOD_FORMATTER = RowedFormatter
+    .<RPCMetrics.MethodMetrics.Snapshot>builder()
+    .defaultFormatter(ColumnFormatter.builder()
+      .columnTitles("Method", "Calls (Failed)", "Bytes (Req/Resp)", "Latency (50/99/Max)")
+      .build())
+    .column(snapshot -> simpleClassName(snapshot.className()) + "#" + snapshot.methodName())
+    .column(snapshot -> snapshot.calls() + " (" + snapshot.failures() + ")")
+    .column(snapshot -> formatBytes(snapshot.requestBytes()) + "/" + formatBytes(snapshot.responseBytes()))
+    .column(snapshot -> formatLatency(snapshot.latency()) + "/" + formatNanos(snapshot.latency().maxNanos()))
+    .build();
+  private static final RowedFormatter<RPCClassTotals> RPC_CLASS_FORMATTER = RowedFormatter
+    .<RPCClassTotals>builder()
+    .defaultFormatter(ColumnFormatter.builder()
+      .columnTitles("Class", "Calls (Failed)", "Bytes (Req/Resp)")
+      .build())
+    .column(RPCClassTotals::className)
+    .column(totals -> totals.calls + " (" + totals.failures + ")")
+    .column(totals -> formatBytes(totals.requestBytes) + "/" + formatBytes(totals.responseBytes))
+    .build();
+
+  private final NodeNetworkStatistics networkStatistics;
+
+  @Inject
+  public NetworkCommand(@NonNull NodeNetworkStatistics networkStatistics) {
+    this.networkStatistics = networkStatistics;
+  }
+
+  @CommandMethod("network|net stats")
+  public void stats(@NonNull CommandSource source) {
+    var channelStatistics = this.networkStatistics.channelStatistics();
+    if (channelStatistics.isEmpty()) {
+      source.sendMessage(I18n.trans("command-network-stats-no-channels"));
+      return;
+    }
+
+    // sort the channels by their total amount of traffic to display the busiest channels first
+    List<ChannelStatistics> sortedChannels = new ArrayList<>(channelStatistics);
+    sortedChannels.sort(Comparator.comparingLong((ChannelStatistics statistics) ->
+      statistics.metrics().total().bytesIn() + statistics.metrics().total().bytesOut()).reversed());
+    source.sendMessage(CHANNEL_FORMATTER.format(sortedChannels));
+
+    // sum up the packet channel metrics of all network channels
+    Map<Integer, PacketChannelTotals> packetChannels = new HashMap<>();
+    for (var statistics : channelStatistics) {
+      statistics.metrics().packetChannels().forEach((packetChannel, metrics) -> {
+        var totals = packetChannels.computeIfAbsent(packetChannel, PacketChannelTotals::new);
+        totals.packetsIn += metrics.packetsIn();
+        totals.packetsOut += metrics.packetsOut();
+        totals.bytesIn += metrics.bytesIn();
+        totals.bytesOut += metrics.bytesOut();
+        totals.queueDepth += metrics.queueDepth();
+        totals.maxQueueDepth = Math.max(totals.maxQueueDepth, metrics.maxQueueDepth());
+        totals.maxQueueP99Nanos = Math.max(totals.maxQueueP99Nanos, metrics.queueTime().p99Nanos());
+        totals.maxHandleP99Nanos = Math.max(totals.maxHandleP99Nanos, metrics.handleTime().p99Nanos());
+      });
+    }
+
+    var busiestPacketChannels = packetChannels.values().stream()
+      .sorted(Comparator.comparingLong(PacketChannelTotals::packets).reversed())
+      .limit(MAX_DISPLAYED_PACKET_CHANNELS)
+      .toList();
+    source.sendMessage(PACKET_CHANNEL_FORMATTER.format(busiestPacketChannels));
+  }
+
+  @CommandMethod("network|net rpc")
+  public void rpcStats(@NonNull CommandSource source) {
+    this.sendRPCStatistics(source, "command-network-rpc-handler", RPCMetrics.handlerMetrics());
+    this.sendRPCStatistics(source, "command-network-rpc-caller", RPCMetrics.callerMetrics());
+  }
+
+  @CommandMethod("network|net rpc reset")
+  public void resetRPCStats(@NonNull CommandSource source) {
+    RPCMetrics.handlerMetrics().reset();
+    RPCMetrics.callerMetrics().reset();
+    source.sendMessage(I18n.trans("command-network-rpc-reset"));
+  }
+
+  private void sendRPCStatistics(
+    @NonNull CommandSource source,
+    @NonNull String titleKey,
+    @NonNull RPCMetrics metrics
+  ) {
+    var methods = metrics.snapshot();
+    if (methods.isEmpty()) {
+      source.sendMessage(I18n.trans(titleKey + "-empty"));
+      return;
+    }
+
+    // display the most called methods first, these are the ones to look at when searching for rpc spam
+    source.sendMessage(I18n.trans(titleKey));
+    source.sendMessage(RPC_METHOD_FORMATTER.format(methods.stream()
+      .sorted(Comparator.comparingLong(RPCMetrics.MethodMetrics.Snapshot::calls).reversed())
+      .limit(MAX_DISPLAYED_RPC_METHODS)
+      .toList()));
+
+    // sum up the metrics of all methods per class
+    Map<String, RPCClassTotals> classes = new HashMap<>();
+    for (var method : methods) {
+      var totals = classes.computeIfAbsent(method.className(), RPCClassTotals::new);
+      totals.calls += method.calls();
+      totals.failures += method.failures();
+      totals.requestBytes += method.requestBytes();
+      totals.responseBytes += method.responseBytes();
+    }
+
+    source.sendMessage(RPC_CLASS_FORMATTER.format(classes.values().stream()
+      .sorted(Comparator.comparingLong((RPCClassTotals totals) -> totals.calls).reversed())
+      .toList()));
+  }
+
+  private static @NonNull String simpleClassName(@NonNull String className) {
+    return className.substring(className.lastIndexOf('.') + 1);
+  }
+
+  private static @NonNull String formatLatency(@NonNull NettyLatencyHistogram.Snapshot snapshot) {
+    if (snapshot.count() == 0) {
+      return "-";
+    }
+
+    return formatNanos(snapshot.p50Nanos()) + "/" + formatNanos(snapshot.p99Nanos());
+  }
+
+  private static @NonNull String formatNanos(long nanos) {
+    if (nanos < 1_000_000) {
+      return (nanos / 1_000) + "us";
+    } else {
+      return String.format("%.2fms", nanos / 1_000_000D);
+    }
+  }
+
+  private static @NonNull String formatBytes(long bytes) {
+    if (bytes < 1024) {
+      return bytes + "B";
+    } else if (bytes < 1024 * 1024) {
+      return String.format("%.1fKiB", bytes / 1024D);
+    } else {
+      return String.format("%.1fMiB", bytes / (1024D * 1024D));
+    }
+  }
+
+  private static final class PacketChannelTotals {
+
+    private final int packetChannel;
+
+    private long packetsIn;
+    private long packetsOut;
+    private long bytesIn;
+    private long bytesOut;
+    private long queueDepth;
+    private long maxQueueDepth;
+    private long maxQueueP99Nanos;
+    private long maxHandleP99Nanos;
+
+    private PacketChannelTotals(int packetChannel) {
+      this.packetChannel = packetChannel;
+    }
+
+    private int packetChannel() {
+      return this.packetChannel;
+    }
+
+    private long packets() {
+      return this.packetsIn + this.packetsOut;
+    }
+  }
+
+  private static final class RPCClassTotals {
+
+    private final String className;
+
+    private long calls;
+    private long failures;
+    private long requestBytes;
+    private long responseBytes;
+
+    private RPCClassTotals(@NonNull String className) {
+      this.className = className;
+    }
+
+    private @NonNull String className() {
+      return this.className;
+    }
+  }
+}
@@ -65,6 +65,10 @@ public interface Configuration {
 
   void httpListeners(@NonNull Collection<HostAndPort> httpListeners);
 
+  @NonNull String domainSocketListener();
+
+  void domainSocketListener(@NonNull String domainSocketListener);
+
   @NonNull RestConfiguration restConfiguration();
 
   void restConfiguration(@NonNull RestConfiguration configuration);
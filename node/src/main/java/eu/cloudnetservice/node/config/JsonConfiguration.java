@@ -98,6 +98,7 @@ public final class JsonConfiguration implements Configuration {
 
   private RestConfiguration restConfiguration;
   private Collection<HostAndPort> httpListeners;
+  private String domainSocketListener;
 
   private SSLConfiguration clientSslConfig;
   private SSLConfiguration serverSslConfig;
@@ -260,6 +261,10 @@ public boolean fileExists() {
         ConfigurationUtil.HOST_AND_PORT_PARSER);
     }
 
+    if (this.domainSocketListener == null) {
+      this.domainSocketListener = ConfigurationUtil.get("cloudnet.config.domainSocketListener", "local/node.sock");
+    }
+
     if (this.restConfiguration == null) {
       this.restConfiguration = ConfigurationUtil.get(
         "cloudnet.config.accessControlConfiguration",
@@ -472,6 +477,16 @@ public void httpListeners(@NonNull Collection<HostAndPort> httpListeners) {
     this.httpListeners = httpListeners;
   }
 
+  @Override
+  public @NonNull String domainSocketListener() {
+    return this.domainSocketListener;
+  }
+
+  @Override
+  public void domainSocketListener(@NonNull String domainSocketListener) {
+    this.domainSocketListener = domainSocketListener;
+  }
+
   @Override
   public @NonNull RestConfiguration restConfiguration() {
     return this.restConfiguration;
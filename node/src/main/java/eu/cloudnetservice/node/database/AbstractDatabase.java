@@ -19,7 +19,10 @@
 import eu.cloudnetservice.driver.database.Database;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.StandardSerialisationStyle;
+import java.util.Objects;
 import java.util.function.BiConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 import lombok.NonNull;
 
 public abstract class AbstractDatabase implements LocalDatabase, Database {
@@ -55,6 +58,15 @@ public void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSiz
     }
   }
 
+  @Override
+  public @NonNull Stream<Document> documentStream(int chunkSize) {
+    var documentCount = this.documentCount();
+    return LongStream.iterate(0, index -> index < documentCount, index -> index + chunkSize)
+      .mapToObj(index -> this.readChunk(index, chunkSize))
+      .takeWhile(Objects::nonNull)
+      .flatMap(chunk -> chunk.values().stream());
+  }
+
   protected @NonNull String serializeDocumentToJsonString(@NonNull Document document) {
     // send the given document into a new json document
     var jsonDocument = Document.newJsonDocument();
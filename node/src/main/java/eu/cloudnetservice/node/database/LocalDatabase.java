@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.document.Document;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -41,5 +42,14 @@ public interface LocalDatabase extends Database {
    */
   void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize);
 
+  /**
+   * Streams all documents in the database. The documents are read lazily in chunks of the given size while the stream
+   * is consumed, therefore only one chunk is held in memory at a time.
+   *
+   * @param chunkSize the amount of documents to read at once
+   * @return a stream of all documents in the database
+   */
+  @NonNull Stream<Document> documentStream(int chunkSize);
+
   @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize);
 }
@@ -29,6 +29,7 @@
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.def.PacketClientAuthorization;
 import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.defaults.stream.RPCStreamSessions;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.NodeServerState;
 import eu.cloudnetservice.node.config.Configuration;
@@ -86,6 +87,10 @@ public void handleChannelInitialize(@NonNull NetworkChannel channel) {
 
   @Override
   public boolean handlePacketReceive(@NonNull NetworkChannel channel, @NonNull Packet packet) {
+    // skip the event construction if no one is listening to it
+    if (!this.eventManager.hasListeners(NetworkChannelPacketReceiveEvent.class)) {
+      return true;
+    }
     return !this.eventManager.callEvent(new NetworkChannelPacketReceiveEvent(channel, packet)).cancelled();
   }
 
@@ -93,6 +98,8 @@ public boolean handlePacketReceive(@NonNull NetworkChannel channel, @NonNull Pac
   public void handleChannelClose(@NonNull NetworkChannel channel) {
     CONNECTION_COUNTER.decrementAndGet();
     this.eventManager.callEvent(new NetworkChannelCloseEvent(channel, ChannelType.CLIENT_CHANNEL));
+    // no more chunks can be transferred for the rpc streams of the channel
+    RPCStreamSessions.closeSessions(channel);
 
     LOGGER.fine(I18n.trans("client-network-channel-close",
       channel.serverAddress(),
@@ -27,10 +27,12 @@
 import eu.cloudnetservice.driver.network.NetworkChannelHandler;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.defaults.stream.RPCStreamSessions;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.NodeServerState;
 import eu.cloudnetservice.node.config.Configuration;
 import eu.cloudnetservice.node.network.listener.PacketClientAuthorizationListener;
+import eu.cloudnetservice.node.provider.ChannelSubscriptionRegistry;
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.util.NetworkUtil;
@@ -48,6 +50,7 @@ public final class DefaultNetworkServerChannelHandler implements NetworkChannelH
   private final Configuration configuration;
   private final NodeServerProvider nodeServerProvider;
   private final CloudServiceManager cloudServiceManager;
+  private final ChannelSubscriptionRegistry subscriptionRegistry;
 
   @Inject
   public DefaultNetworkServerChannelHandler(
@@ -55,13 +58,15 @@ public DefaultNetworkServerChannelHandler(
     @NonNull NodeNetworkUtil networkUtil,
     @NonNull Configuration configuration,
     @NonNull NodeServerProvider nodeServerProvider,
-    @NonNull CloudServiceManager cloudServiceManager
+    @NonNull CloudServiceManager cloudServiceManager,
+    @NonNull ChannelSubscriptionRegistry subscriptionRegistry
   ) {
     this.eventManager = eventManager;
     this.networkUtil = networkUtil;
     this.configuration = configuration;
     this.nodeServerProvider = nodeServerProvider;
     this.cloudServiceManager = cloudServiceManager;
+    this.subscriptionRegistry = subscriptionRegistry;
   }
 
   @Override
@@ -88,12 +93,18 @@ public void handleChannelInitialize(@NonNull NetworkChannel channel) {
 
   @Override
   public boolean handlePacketReceive(@NonNull NetworkChannel channel, @NonNull Packet packet) {
+    // skip the event construction if no one is listening to it
+    if (!this.eventManager.hasListeners(NetworkChannelPacketReceiveEvent.class)) {
+      return true;
+    }
     return !this.eventManager.callEvent(new NetworkChannelPacketReceiveEvent(channel, packet)).cancelled();
   }
 
   @Override
   public void handleChannelClose(@NonNull NetworkChannel channel) {
     this.eventManager.callEvent(new NetworkChannelCloseEvent(channel, ChannelType.SERVER_CHANNEL));
+    // no more chunks can be transferred for the rpc streams of the channel
+    RPCStreamSessions.closeSessions(channel);
 
     LOGGER.fine(I18n.trans("server-network-channel-close",
       channel.serverAddress(),
@@ -121,6 +132,8 @@ public void handleChannelClose(@NonNull NetworkChannel channel) {
   private void closeAsCloudService(@NonNull CloudService cloudService, @NonNull NetworkChannel channel) {
     // reset the service channel and connection time
     cloudService.networkChannel(null);
+    // the service might connect again with different subscriptions
+    this.subscriptionRegistry.removeLocalSubscriptions(cloudService.serviceId().name());
 
     LOGGER.info(I18n.trans("cloudnet-service-networking-disconnected",
       cloudService.serviceId().uniqueId(),
@@ -131,6 +144,11 @@ private void closeAsCloudService(@NonNull CloudService cloudService, @NonNull Ne
   }
 
   private boolean shouldDenyConnection(@NonNull NetworkChannel channel) {
+    // connections through the local domain socket are protected by the file permissions of the socket
+    if (!channel.serverAddress().validPort()) {
+      return false;
+    }
+
     var ipWhitelist = this.configuration.ipWhitelist();
     var sourceClientAddress = NetworkUtil.removeAddressScope(channel.clientAddress().host());
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.network;
+
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.NetworkClient;
+import eu.cloudnetservice.driver.network.NetworkServer;
+import eu.cloudnetservice.driver.network.netty.NettyNetworkChannel;
+import eu.cloudnetservice.driver.network.netty.NettyNetworkChannelMetrics;
+import eu.cloudnetservice.node.cluster.NodeServerProvider;
+import eu.cloudnetservice.node.service.CloudServiceManager;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.NonNull;
+
+@Singleton
+public final class NodeNetworkStatistics {
+
+  private final NetworkServer networkServer;
+  private final NetworkClient networkClient;
+  private final NodeServerProvider nodeServerProvider;
+  private final CloudServiceManager cloudServiceManager;
+
+  @Inject
+  public NodeNetworkStatistics(
+    @NonNull NetworkServer networkServer,
+    @NonNull NetworkClient networkClient,
+    @NonNull NodeServerProvider nodeServerProvider,
+    @NonNull CloudServiceManager cloudServiceManager
+  ) {
+    this.networkServer = networkServer;
+    this.networkClient = networkClient;
+    this.nodeServerProvider = nodeServerProvider;
+    this.cloudServiceManager = cloudServiceManager;
+  }
+
+  public @NonNull List<ChannelStatistics> channelStatistics() {
+    List<ChannelStatistics> statistics = new ArrayList<>();
+    this.collectStatistics(this.networkServer.channels(), "inbound", statistics);
+    this.collectStatistics(this.networkClient.channels(), "outbound", statistics);
+    return statistics;
+  }
+
+  private void collectStatistics(
+    @NonNull Collection<NetworkChannel> channels,
+    @NonNull String direction,
+    @NonNull List<ChannelStatistics> target
+  ) {
+    for (var channel : channels) {
+      // only netty channels are collecting metrics
+      if (channel instanceof NettyNetworkChannel nettyChannel) {
+        target.add(new ChannelStatistics(
+          this.resolveChannelOwner(channel),
+          direction,
+          channel.serverAddress(),
+          channel.clientAddress(),
+          nettyChannel.metrics().snapshot()));
+      }
+    }
+  }
+
+  private @NonNull String resolveChannelOwner(@NonNull NetworkChannel channel) {
+    for (var service : this.cloudServiceManager.localCloudServices()) {
+      if (channel.equals(service.networkChannel())) {
+        return service.serviceId().name();
+      }
+    }
+
+    for (var nodeServer : this.nodeServerProvider.nodeServers()) {
+      if (channel.equals(nodeServer.channel())) {
+        return nodeServer.info().uniqueId();
+      }
+    }
+
+    return "unknown";
+  }
+
+  public record ChannelStatistics(
+    @NonNull String owner,
+    @NonNull String direction,
+    @NonNull HostAndPort serverAddress,
+    @NonNull HostAndPort clientAddress,
+    @NonNull NettyNetworkChannelMetrics.Snapshot metrics
+  ) {
+
+  }
+}
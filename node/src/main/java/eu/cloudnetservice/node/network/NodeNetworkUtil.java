@@ -19,16 +19,22 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.event.events.network.ChannelType;
 import eu.cloudnetservice.driver.event.events.network.NetworkChannelInitEvent;
+import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.chunk.defaults.factory.EventChunkHandlerFactory;
 import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacketListener;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.netty.NettyUtil;
 import eu.cloudnetservice.driver.network.protocol.PacketListenerRegistry;
 import eu.cloudnetservice.driver.network.rpc.listener.RPCPacketListener;
+import eu.cloudnetservice.driver.network.rpc.listener.RPCStreamPacketListener;
+import eu.cloudnetservice.node.config.Configuration;
 import eu.cloudnetservice.node.network.listener.PacketServerChannelMessageListener;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.nio.file.Path;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 @Singleton
 public final class NodeNetworkUtil {
@@ -40,6 +46,18 @@ public NodeNetworkUtil(@NonNull EventManager eventManager) {
     this.eventManager = eventManager;
   }
 
+  public static @Nullable HostAndPort domainSocketListener(@NonNull Configuration configuration) {
+    // domain sockets can be disabled by setting an empty path, and are only usable with a supporting transport
+    var socketPath = configuration.domainSocketListener();
+    if (socketPath.isBlank() || NettyUtil.domainSocketTransport() == null) {
+      return null;
+    }
+
+    // use the absolute path, the services are connecting from their own working directory
+    var absolutePath = Path.of(socketPath).toAbsolutePath().normalize();
+    return new HostAndPort(absolutePath.toString(), HostAndPort.NO_PORT);
+  }
+
   boolean shouldInitializeChannel(@NonNull NetworkChannel channel, @NonNull ChannelType type) {
     return !this.eventManager.callEvent(new NetworkChannelInitEvent(channel, type)).cancelled();
   }
@@ -47,6 +65,7 @@ boolean shouldInitializeChannel(@NonNull NetworkChannel channel, @NonNull Channe
   public void addDefaultPacketListeners(@NonNull PacketListenerRegistry registry) {
     registry.addListener(NetworkConstants.CHANNEL_MESSAGING_CHANNEL, PacketServerChannelMessageListener.class);
     registry.addListener(NetworkConstants.INTERNAL_RPC_COM_CHANNEL, RPCPacketListener.class);
+    registry.addListener(NetworkConstants.INTERNAL_RPC_STREAM_CHANNEL, RPCStreamPacketListener.class);
     registry.addListener(
       NetworkConstants.CHUNKED_PACKET_COM_CHANNEL,
       new ChunkedPacketListener(EventChunkHandlerFactory.withEventManager(this.eventManager)));
@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.driver.ComponentInfo;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.channel.ChannelMessageQueryMode;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.event.events.channel.ChannelMessageReceiveEvent;
 import eu.cloudnetservice.driver.network.NetworkChannel;
@@ -54,6 +55,12 @@ public PacketServerChannelMessageListener(
   public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
     var comesFromWrapper = packet.content().readBoolean();
     var message = packet.content().readObject(ChannelMessage.class);
+    // queries may carry the number of responses after which the query can be completed. note that this trailing int
+    // is a one-time change of the wire format: it is detected by the remaining bytes, so queries of components which
+    // don't append it still wait for all responses, while older components just leave the appended int unread
+    var queryMode = packet.content().readableBytes() >= Integer.BYTES
+      ? new ChannelMessageQueryMode(packet.content().readInt(), null)
+      : ChannelMessageQueryMode.all();
 
     // check if we should handle the message locally
     var handleLocally = message.targets().stream().anyMatch(target -> switch (target.type()) {
@@ -74,25 +81,32 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
 
       // wait for the response to become available if given before resuming
       if (responseTask != null) {
-        responseTask.thenAccept(response -> this.resumeHandling(packet, channel, message, response, comesFromWrapper));
+        responseTask.thenAccept(response -> this.resumeHandling(
+          packet,
+          channel,
+          message,
+          queryMode,
+          response,
+          comesFromWrapper));
         return;
       }
     }
 
     // resume instantly
-    this.resumeHandling(packet, channel, message, null, comesFromWrapper);
+    this.resumeHandling(packet, channel, message, queryMode, null, comesFromWrapper);
   }
 
   private void resumeHandling(
     @NonNull Packet packet,
     @NonNull NetworkChannel channel,
     @NonNull ChannelMessage message,
+    @NonNull ChannelMessageQueryMode queryMode,
     @Nullable ChannelMessage initialResponse,
     boolean comesFromWrapper
   ) {
     // do not redirect the channel message to the cluster to prevent infinite loops
     if (packet.uniqueId() != null) {
-      this.messenger.sendChannelMessageQueryAsync(message, comesFromWrapper)
+      this.messenger.sendChannelMessageQueryAsync(message, comesFromWrapper, queryMode)
         .orTimeout(20, TimeUnit.SECONDS)
         .whenComplete((result, exception) -> {
           // check if the handling was successful
@@ -34,29 +34,37 @@
 import eu.cloudnetservice.driver.service.ServiceCreateResult;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.node.provider.ChannelSubscriptionRegistry;
 import eu.cloudnetservice.node.service.CloudServiceManager;
+import io.leangen.geantyref.TypeFactory;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.lang.reflect.Type;
+import java.util.Set;
 import lombok.NonNull;
 
 @Singleton
 public final class ServiceChannelMessageListener {
 
   private static final Logger LOGGER = LogManager.logger(ServiceChannelMessageListener.class);
+  private static final Type STRING_SET = TypeFactory.parameterizedClass(Set.class, String.class);
 
   private final EventManager eventManager;
   private final CloudServiceManager serviceManager;
   private final CloudServiceFactory cloudServiceFactory;
+  private final ChannelSubscriptionRegistry subscriptionRegistry;
 
   @Inject
   public ServiceChannelMessageListener(
     @NonNull EventManager eventManager,
     @NonNull CloudServiceManager serviceManager,
-    @NonNull CloudServiceFactory cloudServiceFactory
+    @NonNull CloudServiceFactory cloudServiceFactory,
+    @NonNull ChannelSubscriptionRegistry subscriptionRegistry
   ) {
     this.eventManager = eventManager;
     this.serviceManager = serviceManager;
     this.cloudServiceFactory = cloudServiceFactory;
+    this.subscriptionRegistry = subscriptionRegistry;
   }
 
   @EventListener
@@ -150,6 +158,18 @@ public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
           this.eventManager.callEvent(new CloudServiceDeferredStateEvent(creationId, createResult));
         }
 
+        // a service announced the channels it is interested in
+        case "update_channel_subscriptions" -> {
+          var serviceName = event.content().readString();
+          Set<String> channels = event.content().readObject(STRING_SET);
+          this.subscriptionRegistry.updateSubscriptions(serviceName, channels);
+        }
+
+        // a service disconnected from its node, it receives all channel messages when connecting again
+        case "remove_channel_subscriptions" -> this.subscriptionRegistry.updateSubscriptions(
+          event.content().readString(),
+          null);
+
         // none of our business
         default -> {
         }
@@ -50,6 +50,7 @@
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -60,6 +61,7 @@
   implements NodePermissionManagement {
 
   private static final String USER_DB_NAME = "cloudnet_permission_users";
+  private static final int USER_CHUNK_SIZE = 100;
   private static final Path GROUPS_FILE = Path.of(System.getProperty(
     "cloudnet.permissions.json.path",
     "local/permissions.json"));
@@ -281,6 +283,20 @@ public boolean containsOneUser(@NonNull String name) {
     return users;
   }
 
+  @Override
+  public @NonNull Stream<PermissionUser> usersStream() {
+    return this.userDatabaseTable().documentStream(USER_CHUNK_SIZE).map(data -> {
+      // deserialize the permission user
+      var user = data.toInstanceOf(PermissionUser.class);
+      // check if we need to update the user
+      if (this.testPermissionUser(user)) {
+        this.updateUserAsync(user);
+      }
+      // use the user instance
+      return user;
+    });
+  }
+
   @Override
   public @NonNull Collection<PermissionUser> usersByGroup(@NonNull String group) {
     Collection<PermissionUser> users = new ArrayList<>();
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.provider;
+
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import jakarta.inject.Singleton;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of the channels the services in the cluster subscribed to. Services which announced their subscriptions
+ * only receive broadcast channel messages sent to one of the channels they subscribed to, all other services receive
+ * all channel messages. The subscriptions are announced by the wrapper of a service to all nodes in the cluster, nodes
+ * joining the cluster later treat the services as if they didn't announce their subscriptions.
+ *
+ * @since 4.0
+ */
+@Singleton
+public class ChannelSubscriptionRegistry {
+
+  // the channels each service subscribed to, services without an entry receive all channel messages
+  protected final Map<String, Set<String>> subscriptions = new ConcurrentHashMap<>();
+  // the names of the services which subscribed to a channel
+  protected final Map<String, Set<String>> subscribers = new ConcurrentHashMap<>();
+
+  /**
+   * Get if the given service should receive broadcast channel messages sent to the given channel.
+   *
+   * @param serviceName the name of the service to check.
+   * @param channel     the channel of the channel message.
+   * @return true if the service should receive messages sent to the channel, false otherwise.
+   * @throws NullPointerException if the given service name or channel is null.
+   */
+  public boolean receives(@NonNull String serviceName, @NonNull String channel) {
+    if (!this.subscriptions.containsKey(serviceName)) {
+      return true;
+    }
+
+    var channelSubscribers = this.subscribers.get(channel);
+    return channelSubscribers != null && channelSubscribers.contains(serviceName);
+  }
+
+  /**
+   * Get the channels the given service subscribed to.
+   *
+   * @param serviceName the name of the service to get the subscriptions of.
+   * @return the channels the service subscribed to, null if the service receives all channel messages.
+   * @throws NullPointerException if the given service name is null.
+   */
+  public @Nullable Set<String> subscriptions(@NonNull String serviceName) {
+    return this.subscriptions.get(serviceName);
+  }
+
+  /**
+   * Replaces the subscriptions of the given service with the given channels. If the given channels are null, the
+   * service receives all channel messages again.
+   *
+   * @param serviceName the name of the service to update the subscriptions of.
+   * @param channels    the channels the service subscribed to, null to receive all channel messages.
+   * @throws NullPointerException if the given service name is null.
+   */
+  public synchronized void updateSubscriptions(@NonNull String serviceName, @Nullable Collection<String> channels) {
+    // register the new subscriptions first, the service must keep receiving messages of channels in both sets
+    Set<String> newChannels = channels == null ? Set.of() : Set.copyOf(channels);
+    for (var channel : newChannels) {
+      this.subscribers.computeIfAbsent(channel, $ -> ConcurrentHashMap.newKeySet()).add(serviceName);
+    }
+
+    var oldChannels = channels == null
+      ? this.subscriptions.remove(serviceName)
+      : this.subscriptions.put(serviceName, newChannels);
+    if (oldChannels != null) {
+      // remove the service from the channels it is no longer subscribed to
+      Set<String> removedChannels = new HashSet<>(oldChannels);
+      removedChannels.removeAll(newChannels);
+      for (var channel : removedChannels) {
+        var channelSubscribers = this.subscribers.get(channel);
+        if (channelSubscribers != null) {
+          channelSubscribers.remove(serviceName);
+          if (channelSubscribers.isEmpty()) {
+            this.subscribers.remove(channel);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Removes the subscriptions of the given local service, for example because it disconnected, and informs all other
+   * nodes in the cluster about the removal.
+   *
+   * @param serviceName the name of the service to remove the subscriptions of.
+   * @throws NullPointerException if the given service name is null.
+   */
+  public void removeLocalSubscriptions(@NonNull String serviceName) {
+    if (this.subscriptions.containsKey(serviceName)) {
+      this.updateSubscriptions(serviceName, null);
+      ChannelMessage.builder()
+        .targetNodes()
+        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+        .message("remove_channel_subscriptions")
+        .buffer(DataBuf.empty().writeString(serviceName))
+        .build()
+        .send();
+    }
+  }
+}
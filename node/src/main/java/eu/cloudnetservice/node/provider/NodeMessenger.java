@@ -18,11 +18,15 @@
 
 import com.google.common.collect.Iterables;
 import dev.derklaro.aerogel.auto.Provides;
-import eu.cloudnetservice.common.concurrent.CountingTask;
 import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.channel.ChannelMessageQueryMode;
 import eu.cloudnetservice.driver.channel.ChannelMessageTarget;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
 import eu.cloudnetservice.driver.network.def.PacketServerChannelMessage;
 import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.defaults.DefaultMessenger;
@@ -36,29 +40,42 @@
 import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 @Singleton
 @Provides(CloudMessenger.class)
 public class NodeMessenger extends DefaultMessenger implements CloudMessenger {
 
+  private static final Logger LOGGER = LogManager.logger(NodeMessenger.class);
+
   protected static final Type COL_MSG = TypeFactory.parameterizedClass(Collection.class, ChannelMessage.class);
 
   protected final NodeServerProvider nodeServerProvider;
   protected final CloudServiceManager cloudServiceManager;
+  protected final ChannelSubscriptionRegistry subscriptionRegistry;
 
   @Inject
   public NodeMessenger(
     @NonNull NodeServerProvider nodeServerProvider,
-    @NonNull CloudServiceManager cloudServiceManager
+    @NonNull CloudServiceManager cloudServiceManager,
+    @NonNull ChannelSubscriptionRegistry subscriptionRegistry
   ) {
     this.nodeServerProvider = nodeServerProvider;
     this.cloudServiceManager = cloudServiceManager;
+    this.subscriptionRegistry = subscriptionRegistry;
   }
 
   @Override
@@ -71,101 +88,214 @@ public void sendChannelMessage(@NonNull ChannelMessage message) {
     return this.sendChannelMessageQueryAsync(message, true);
   }
 
+  @Override
+  public @NonNull Task<Collection<ChannelMessage>> sendChannelMessageQueryAsync(
+    @NonNull ChannelMessage message,
+    @NonNull ChannelMessageQueryMode queryMode
+  ) {
+    return this.sendChannelMessageQueryAsync(message, true, queryMode);
+  }
+
   @Override
   public @NonNull Collection<ChannelMessage> sendChannelMessageQuery(@NonNull ChannelMessage channelMessage) {
     return this.sendChannelMessageQueryAsync(channelMessage).get(20, TimeUnit.SECONDS, Collections.emptyList());
   }
 
+  @Override
+  public @NonNull Task<ChannelMessage> sendSingleChannelMessageQueryAsync(@NonNull ChannelMessage channelMessage) {
+    // complete the query with the first response instead of waiting for all targets to respond
+    return Task.wrapFuture(this.sendChannelMessageQueryAsync(channelMessage, ChannelMessageQueryMode.firstResponse())
+      .thenApply(responses -> Iterables.getFirst(responses, null)));
+  }
+
+  @Override
+  public @Nullable ChannelMessage sendSingleChannelMessageQuery(@NonNull ChannelMessage channelMessage) {
+    return this.sendSingleChannelMessageQueryAsync(channelMessage).get(20, TimeUnit.SECONDS, null);
+  }
+
   public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClusterRedirect) {
     // find the target channels to send the message to
-    var channels = this.findChannels(message.targets(), allowClusterRedirect);
-    for (var channel : channels) {
-      // acquire the message content for each channel we're sending the message to
-      // when writing the message content to the target buffer, the message is released
-      // that means when the message was written to all channels it's released unless someone acquired it before
-      message.content().acquire();
+    var routes = this.routeMessage(message, allowClusterRedirect);
+    if (routes.isEmpty()) {
+      // no target channels found, release the message now
+      message.content().release();
+      return;
+    }
 
-      // construct and send the packet
-      var packet = new PacketServerChannelMessage(message, false);
-      if (message.sendSync()) {
-        channel.sendPacketSync(packet);
-      } else {
-        channel.sendPacket(packet);
+    var remainingRoutes = routes.size();
+    for (var route : routes.entrySet()) {
+      // encode the message once per route, this releases the message content
+      var encodedMessage = this.encodeRoutedMessage(message, route.getKey(), --remainingRoutes > 0);
+      try {
+        for (var channel : route.getValue()) {
+          // construct and send the packet, each packet gets its own view of the encoded message
+          var packet = new PacketServerChannelMessage(
+            message.prioritized(),
+            message.bulk(),
+            this.shareEncodedMessage(encodedMessage));
+          if (message.sendSync()) {
+            channel.sendPacketSync(packet);
+          } else {
+            channel.sendPacket(packet);
+          }
+        }
+      } finally {
+        // release our reference to the encoded message, the views are released when the packets are written
+        encodedMessage.release();
       }
     }
-
-    // release the message now
-    message.content().release();
   }
 
   public @NonNull Task<Collection<ChannelMessage>> sendChannelMessageQueryAsync(
     @NonNull ChannelMessage message,
     boolean allowClusterRedirect
+  ) {
+    return this.sendChannelMessageQueryAsync(message, allowClusterRedirect, ChannelMessageQueryMode.all());
+  }
+
+  public @NonNull Task<Collection<ChannelMessage>> sendChannelMessageQueryAsync(
+    @NonNull ChannelMessage message,
+    boolean allowClusterRedirect,
+    @NonNull ChannelMessageQueryMode queryMode
   ) {
     // find the target channels to send the message to
-    var channels = this.findChannels(message.targets(), allowClusterRedirect);
-    if (channels.isEmpty()) {
+    var routes = this.routeMessage(message, allowClusterRedirect);
+    if (routes.isEmpty()) {
       // no target channels found, release the message now
       message.content().release();
       return Task.completedTask(new HashSet<>());
     } else {
-      // the result we generate
-      Set<ChannelMessage> result = new HashSet<>();
-      var task = new CountingTask<Collection<ChannelMessage>>(result, channels.size());
+      // the result we generate, responses are received concurrently from multiple channels
+      Set<ChannelMessage> result = ConcurrentHashMap.newKeySet();
+      var pendingChannels = new AtomicInteger(routes.values().stream().mapToInt(Set::size).sum());
+      Task<Collection<ChannelMessage>> task = new Task<>();
 
-      // send the packet to each channel
-      for (var channel : channels) {
-        // acquire the message content for each channel we're sending the message to
-        // when writing the message content to the target buffer, the message is released
-        // that means when the message was written to all channels it's released unless someone acquired it before
-        message.content().acquire();
+      var remainingRoutes = routes.size();
+      for (var route : routes.entrySet()) {
+        // encode the message once per route, this releases the message content
+        // the required responses are appended to let the receiving component complete its part of the query early
+        var encodedMessage = this.encodeRoutedMessage(message, route.getKey(), --remainingRoutes > 0)
+          .writeInt(queryMode.requiredResponses());
+        try {
+          // send the packet to each channel, each packet gets its own view of the encoded message
+          for (var channel : route.getValue()) {
+            var packet = new PacketServerChannelMessage(
+              message.prioritized(),
+              message.bulk(),
+              this.shareEncodedMessage(encodedMessage));
+            channel.sendQueryAsync(packet).whenComplete((response, th) -> {
+              try {
+                // check if we got an actual result from the request
+                if (th == null && response.readable()) {
+                  // add all resulting messages we got
+                  Collection<ChannelMessage> responses = response.content().readObject(COL_MSG);
+                  for (var responseMessage : responses) {
+                    queryMode.handleResponse(responseMessage);
+                    result.add(responseMessage);
+                  }
 
-        channel.sendQueryAsync(new PacketServerChannelMessage(message, false)).whenComplete((packet, th) -> {
-          // check if we got an actual result from the request
-          if (th == null && packet.readable()) {
-            // add all resulting messages we got
-            result.addAll(packet.content().readObject(COL_MSG));
+                  // complete the query early if the mode allows it, later responses are only passed to the handler
+                  if (queryMode.satisfiedBy(result.size())) {
+                    task.complete(new HashSet<>(result));
+                  }
+                }
+              } catch (Exception exception) {
+                LOGGER.severe("Unable to read the channel message query response", exception);
+              } finally {
+                // count down - one channel responded, even if the response couldn't be read
+                if (pendingChannels.decrementAndGet() <= 0) {
+                  task.complete(new HashSet<>(result));
+                }
+              }
+            });
           }
-
-          // count down - one channel responded
-          task.countDown();
-        });
+        } finally {
+          // release our reference to the encoded message, the views are released when the packets are written
+          encodedMessage.release();
+        }
       }
 
-      // release the message now
-      message.content().release();
-
       // return the task on which the user can wait
       return task;
     }
   }
 
-  protected @NonNull Collection<NetworkChannel> findChannels(
+  protected @NonNull DataBuf shareEncodedMessage(@NonNull DataBuf encodedMessage) {
+    // creates a readonly view of the encoded message which shares the memory instead of copying it
+    return DataBufFactory.defaultFactory().sharedCopyOf(encodedMessage);
+  }
+
+  protected @NonNull DataBuf.Mutable encodeRoutedMessage(
+    @NonNull ChannelMessage message,
     @NonNull Collection<ChannelMessageTarget> targets,
+    boolean moreRoutesFollow
+  ) {
+    // encoding releases the message content, keep it alive if it needs to be encoded again for another route
+    if (moreRoutesFollow) {
+      message.content().acquire();
+    }
+
+    // only rebuild the message if the targets were narrowed down for the route
+    var routedMessage = targets == message.targets() ? message : new ChannelMessage(
+      message.sendSync(),
+      message.prioritized(),
+      message.channel(),
+      message.message(),
+      message.content(),
+      message.sender(),
+      targets,
+      message.bulk());
+    return PacketServerChannelMessage.encodeMessage(routedMessage, false);
+  }
+
+  protected @NonNull Map<Collection<ChannelMessageTarget>, Set<NetworkChannel>> routeMessage(
+    @NonNull ChannelMessage message,
     boolean allowClusterRedirect
   ) {
-    // check if there is only one channel
+    // each node only receives the targets that resolved to it and expands them to its local services itself, so
+    // multiple targets living on the same node result in a single packet to that node
+    var targets = message.targets();
     if (targets.size() == 1) {
-      // get the target - we can suppress the nullable warning because we expect the collection to not contain null values
-      return this.findTargetChannels(Iterables.getOnlyElement(targets), allowClusterRedirect);
-    } else {
-      // filter all the channels for the targets
-      return targets.stream()
-        .flatMap(target -> this.findTargetChannels(target, allowClusterRedirect).stream())
-        .collect(Collectors.toSet());
+      // a single target can't be narrowed down any further
+      var target = Iterables.getOnlyElement(targets);
+      var channels = this.findTargetChannels(target, message.channel(), allowClusterRedirect);
+      return channels.isEmpty() ? Map.of() : Map.of(targets, Set.copyOf(channels));
     }
+
+    // collect the targets which resolved to each channel
+    Map<NetworkChannel, Set<ChannelMessageTarget>> targetsByChannel = new HashMap<>();
+    for (var target : targets) {
+      for (var channel : this.findTargetChannels(target, message.channel(), allowClusterRedirect)) {
+        targetsByChannel.computeIfAbsent(channel, $ -> new LinkedHashSet<>()).add(target);
+      }
+    }
+
+    // group the channels by the targets they should receive, allowing the routes to share the encoded message
+    Set<NetworkChannel> nodeChannels = allowClusterRedirect
+      ? Set.copyOf(this.nodeServerProvider.connectedNodeChannels())
+      : Set.of();
+    Map<Collection<ChannelMessageTarget>, Set<NetworkChannel>> routes = new LinkedHashMap<>();
+    targetsByChannel.forEach((channel, channelTargets) -> {
+      // services handle the message regardless of the targets, only narrow down the targets sent to other nodes
+      Collection<ChannelMessageTarget> routeTargets = nodeChannels.contains(channel)
+        && channelTargets.size() != targets.size() ? List.copyOf(channelTargets) : targets;
+      routes.computeIfAbsent(routeTargets, $ -> new HashSet<>()).add(channel);
+    });
+    return routes;
   }
 
   protected @NonNull Collection<NetworkChannel> findTargetChannels(
     @NonNull ChannelMessageTarget target,
+    @NonNull String channel,
     boolean allowClusterRedirect
   ) {
     switch (target.type()) {
       // just include all known channels
       case ALL -> {
         Set<NetworkChannel> result = new HashSet<>();
-        // all local services
+        // all local services which are interested in the channel
         this.cloudServiceManager.localCloudServices().stream()
+          .filter(service -> this.subscriptionRegistry.receives(service.serviceId().name(), channel))
           .map(CloudService::networkChannel)
           .filter(Objects::nonNull)
           .forEach(result::add);
@@ -195,14 +325,15 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
       case SERVICE -> {
         // check if a specific service was requested
         if (target.name() == null) {
-          // if no specific name is given just get all local channels
+          // if no specific name is given just get all local channels which are interested in the channel
           var channels = this.cloudServiceManager.localCloudServices().stream()
+            .filter(service -> this.subscriptionRegistry.receives(service.serviceId().name(), channel))
             .map(CloudService::networkChannel)
             .filter(Objects::nonNull)
             .collect(Collectors.toSet());
-          // check if cluster redirect is allowed - add all connected node channels then
+          // check if cluster redirect is allowed - add the channels of all nodes running an interested service then
           if (allowClusterRedirect) {
-            channels.addAll(this.nodeServerProvider.connectedNodeChannels());
+            channels.addAll(this.filterChannels(this.cloudServiceManager.services(), channel, true));
           }
           // return here
           return channels;
@@ -238,18 +369,21 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
         // lookup all services of the given task
         return this.filterChannels(
           this.cloudServiceManager.servicesByTask(target.name()),
+          channel,
           allowClusterRedirect);
       }
       case ENVIRONMENT -> {
         // lookup all services of the given environment
         return this.filterChannels(
           this.cloudServiceManager.servicesByEnvironment(target.environment().name()),
+          channel,
           allowClusterRedirect);
       }
       case GROUP -> {
         // lookup all services of the given group
         return this.filterChannels(
           this.cloudServiceManager.servicesByGroup(target.name()),
+          channel,
           allowClusterRedirect);
       }
       default -> throw new IllegalArgumentException("Unhandled ChannelMessageTarget.Type: " + target.type());
@@ -258,9 +392,11 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
 
   protected @NonNull Collection<NetworkChannel> filterChannels(
     @NonNull Collection<ServiceInfoSnapshot> snapshots,
+    @NonNull String channel,
     boolean allowClusterRedirect
   ) {
     return snapshots.stream()
+      .filter(service -> this.subscriptionRegistry.receives(service.serviceId().name(), channel))
       .map(service -> {
         // check if the service is running locally
         var localService = this.cloudServiceManager.localCloudService(service.serviceId().name());
@@ -55,10 +55,12 @@
 import eu.cloudnetservice.node.event.service.CloudServicePreLoadInclusionEvent;
 import eu.cloudnetservice.node.event.service.CloudServicePrePrepareEvent;
 import eu.cloudnetservice.node.event.service.CloudServiceTemplateLoadEvent;
+import eu.cloudnetservice.node.network.NodeNetworkUtil;
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
 import eu.cloudnetservice.node.service.ServiceConsoleLogCache;
+import eu.cloudnetservice.node.template.TemplateSnapshotManager;
 import eu.cloudnetservice.node.version.ServiceVersionProvider;
 import java.net.Inet6Address;
 import java.nio.charset.StandardCharsets;
@@ -104,6 +106,7 @@ public abstract class AbstractService implements CloudService {
   protected final ServiceConfiguration serviceConfiguration;
   protected final ServiceVersionProvider serviceVersionProvider;
   protected final ServiceConfigurationPreparer serviceConfigurationPreparer;
+  protected final TemplateSnapshotManager templateSnapshotManager;
 
   protected final Lock lifecycleLock = new ReentrantLock(true);
   protected final Set<Tuple2<ChannelMessageTarget, String>> logTargets = ConcurrentHashMap.newKeySet();
@@ -131,7 +134,8 @@ protected AbstractService(
     @NonNull CloudServiceManager manager,
     @NonNull EventManager eventManager,
     @NonNull ServiceVersionProvider versionProvider,
-    @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer
+    @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer,
+    @NonNull TemplateSnapshotManager templateSnapshotManager
   ) {
     this.mainThread = tickLoop;
     this.configuration = nodeConfig;
@@ -140,6 +144,7 @@ protected AbstractService(
     this.serviceConfiguration = configuration;
     this.serviceVersionProvider = versionProvider;
     this.serviceConfigurationPreparer = serviceConfigurationPreparer;
+    this.templateSnapshotManager = templateSnapshotManager;
 
     this.connectionKey = StringUtil.generateRandomString(64);
     this.serviceDirectory = resolveServicePath(configuration.serviceId(), manager, configuration.staticService());
@@ -329,7 +334,7 @@ public void includeWaitingServiceTemplates() {
 
   @Override
   public void includeWaitingServiceTemplates(boolean force) {
-    this.waitingTemplates.stream()
+    var templates = this.waitingTemplates.stream()
       .filter(template -> {
         // always allow manual requests & non-static service copies
         if (force || !this.serviceConfiguration().staticService()) {
@@ -339,18 +344,38 @@ public void includeWaitingServiceTemplates(boolean force) {
         return template.alwaysCopyToStaticServices();
       })
       .sorted()
-      .forEachOrdered(template -> {
-        // remove the entry
-        this.waitingTemplates.remove(template);
-        // check if we should load the template
-        var storage = template.storage();
-        if (!this.eventManager.callEvent(new CloudServiceTemplateLoadEvent(this, storage, template)).cancelled()) {
+      .toList();
+    // remove the entries
+    this.waitingTemplates.removeAll(templates);
+
+    // a snapshot needs all templates to pull upfront, call the load events of all templates first in that case
+    if (this.templateSnapshotManager.supports(templates)) {
+      var loadedTemplates = templates.stream().filter(this::callTemplateLoadEvent).toList();
+      // try to pull all templates at once from a snapshot, fall back to pulling them one by one
+      if (!this.templateSnapshotManager.pull(loadedTemplates, this.serviceDirectory)) {
+        for (var template : loadedTemplates) {
+          template.storage().pull(template, this.serviceDirectory);
+        }
+      }
+
+      // we've pulled the templates
+      this.installedTemplates.addAll(loadedTemplates);
+    } else {
+      for (var template : templates) {
+        // check if we should load the template, the previous templates are already pulled when the event is called
+        if (this.callTemplateLoadEvent(template)) {
           // the event is not cancelled - copy the template
-          storage.pull(template, this.serviceDirectory);
+          template.storage().pull(template, this.serviceDirectory);
           // we've pulled the template
           this.installedTemplates.add(template);
         }
-      });
+      }
+    }
+  }
+
+  protected boolean callTemplateLoadEvent(@NonNull ServiceTemplate template) {
+    var event = new CloudServiceTemplateLoadEvent(this, template.storage(), template);
+    return !this.eventManager.callEvent(event).cancelled();
   }
 
   @Override
@@ -716,6 +741,7 @@ protected void prepareService() {
     var listener = this.selectConnectListener(this.configuration.identity().listeners());
     Document.newJsonDocument()
       .append("targetListener", listener)
+      .append("domainSocketListener", this.selectDomainSocketListener())
       .append("connectionKey", this.connectionKey())
       .append("serviceInfoSnapshot", this.currentServiceInfo)
       .append("serviceConfiguration", this.serviceConfiguration())
@@ -742,6 +768,11 @@ protected void prepareService() {
     }
   }
 
+  protected @Nullable HostAndPort selectDomainSocketListener() {
+    // the service is running on the same host as this node, so it can connect through the domain socket if available
+    return NodeNetworkUtil.domainSocketListener(this.configuration);
+  }
+
   protected @NonNull SSLConfiguration prepareSslConfiguration(@NonNull SSLConfiguration configuration) {
     var wrapperDir = this.serviceDirectory.resolve(".wrapper");
     // copy the certificate if available
@@ -74,6 +74,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
@@ -197,6 +198,13 @@ private void registerDefaultServiceFactory() {
       .toList();
   }
 
+  @Override
+  public @NonNull Stream<ServiceInfoSnapshot> servicesStream() {
+    return this.knownServices.values().stream()
+      .map(SpecificCloudServiceProvider::serviceInfo)
+      .filter(Objects::nonNull);
+  }
+
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> runningServices() {
     return this.knownServices.values().stream()
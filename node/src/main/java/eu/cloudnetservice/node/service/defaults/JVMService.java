@@ -40,6 +40,7 @@
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
 import eu.cloudnetservice.node.service.defaults.log.ProcessServiceLogCache;
+import eu.cloudnetservice.node.template.TemplateSnapshotManager;
 import eu.cloudnetservice.node.version.ServiceVersionProvider;
 import io.vavr.CheckedFunction1;
 import java.io.File;
@@ -83,9 +84,18 @@ public JVMService(
     @NonNull CloudServiceManager manager,
     @NonNull EventManager eventManager,
     @NonNull ServiceVersionProvider versionProvider,
-    @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer
+    @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer,
+    @NonNull TemplateSnapshotManager templateSnapshotManager
   ) {
-    super(tickLoop, nodeConfig, configuration, manager, eventManager, versionProvider, serviceConfigurationPreparer);
+    super(
+      tickLoop,
+      nodeConfig,
+      configuration,
+      manager,
+      eventManager,
+      versionProvider,
+      serviceConfigurationPreparer,
+      templateSnapshotManager);
     super.logCache = new ProcessServiceLogCache(() -> this.process, nodeConfig, this);
     this.initLogHandler();
   }
@@ -253,6 +263,7 @@ protected void initLogHandler() {
             .target(logTarget.first())
             .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
             .message("screen_new_line")
+            .bulk(true)
             .buffer(DataBuf.empty()
               .writeObject(this.currentServiceInfo)
               .writeString(logTarget.second())
@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.node.template;
 
+import eu.cloudnetservice.common.io.FileCopyEngine;
 import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.common.io.ZipUtil;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
@@ -27,12 +28,18 @@
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.DosFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.zip.ZipInputStream;
@@ -43,10 +50,18 @@ public class LocalTemplateStorage implements TemplateStorage {
 
   public static final String LOCAL_TEMPLATE_STORAGE = "local";
 
+  private static final boolean LINK_IMMUTABLE_FILES = Boolean.getBoolean("cloudnet.template.link-immutable-files");
+
   private final Path storageDirectory;
+  private final boolean linkImmutableFiles;
 
   public LocalTemplateStorage(@NonNull Path storageDirectory) {
+    this(storageDirectory, LINK_IMMUTABLE_FILES);
+  }
+
+  public LocalTemplateStorage(@NonNull Path storageDirectory, boolean linkImmutableFiles) {
     this.storageDirectory = storageDirectory;
+    this.linkImmutableFiles = linkImmutableFiles;
     FileUtil.createDirectory(storageDirectory);
   }
 
@@ -79,7 +94,7 @@ public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inpu
 
   @Override
   public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory) {
-    FileUtil.copyDirectory(this.getTemplatePath(template), directory);
+    this.pullDirectory(this.getTemplatePath(template), directory);
     return true;
   }
 
@@ -132,6 +147,9 @@ public boolean contains(@NonNull ServiceTemplate template) {
     var filePath = this.getTemplatePath(template).resolve(path);
     if (Files.notExists(filePath)) {
       Files.createDirectories(filePath.getParent());
+    } else if (this.linkImmutableFiles) {
+      // the file might be linked into a service directory, append to a private copy of the file instead
+      this.unlinkFile(filePath);
     }
 
     return Files.newOutputStream(filePath, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
@@ -145,6 +163,9 @@ public boolean contains(@NonNull ServiceTemplate template) {
     var filePath = this.getTemplatePath(template).resolve(path);
     if (Files.notExists(filePath)) {
       Files.createDirectories(filePath.getParent());
+    } else if (this.linkImmutableFiles) {
+      // the file might be linked into a service directory, replace it instead of truncating the shared content
+      Files.delete(filePath);
     }
 
     return Files.newOutputStream(filePath);
@@ -262,6 +283,59 @@ public boolean deleteFile(@NonNull ServiceTemplate template, @NonNull String pat
   public void close() {
   }
 
+  protected void pullDirectory(@NonNull Path from, @NonNull Path to) {
+    if (this.linkImmutableFiles) {
+      this.linkDirectory(from, to);
+    } else {
+      FileUtil.copyDirectory(from, to);
+    }
+  }
+
+  protected void linkDirectory(@NonNull Path from, @NonNull Path to) {
+    // hard links only work within the same file store, stop trying after the first failure and copy instead
+    var linksSupported = new AtomicBoolean(true);
+    FileCopyEngine.copyDirectory(from, to, null, (source, target) -> {
+      if (linksSupported.get() && this.immutable(source)) {
+        if (FileUtil.link(source, target)) {
+          return 0;
+        }
+        linksSupported.set(false);
+      }
+      // the file might get modified by the service, copy it to keep the template untouched
+      return FileCopyEngine.copyFile(source, target);
+    }, null);
+  }
+
+  protected void unlinkFile(@NonNull Path file) throws IOException {
+    // copy the file next to the original (same file store) and move it over the original to get a new file content
+    var copy = file.resolveSibling(file.getFileName() + "." + UUID.randomUUID() + ".tmp");
+    try {
+      Files.copy(file, copy, StandardCopyOption.COPY_ATTRIBUTES);
+      Files.move(copy, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(copy);
+    }
+  }
+
+  protected boolean immutable(@NonNull Path file) {
+    // jars are only replaced (never modified in place) by the services, other files must be marked as read-only
+    if (file.getFileName().toString().endsWith(".jar")) {
+      return true;
+    }
+
+    try {
+      var posixView = Files.getFileAttributeView(file, PosixFileAttributeView.class);
+      if (posixView != null) {
+        return !posixView.readAttributes().permissions().contains(PosixFilePermission.OWNER_WRITE);
+      }
+
+      var dosView = Files.getFileAttributeView(file, DosFileAttributeView.class);
+      return dosView != null && dosView.readAttributes().isReadOnly();
+    } catch (IOException exception) {
+      return false;
+    }
+  }
+
   protected @NonNull Path getTemplatePath(@NonNull ServiceTemplate template) {
     return this.storageDirectory.resolve(template.prefix()).resolve(template.name());
   }
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
+import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.template.TemplateStorageProvider;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Materializes the merged content of multiple local templates into a single snapshot directory, allowing services
+ * using the same templates to be prepared in a single copy (or link) pass instead of pulling and overwriting each
+ * template one by one. A snapshot is identified by the templates it contains and the metadata (path, size and last
+ * modification time) of all files in these templates. A snapshot is therefore rebuilt as soon as a file in one of its
+ * templates changes.
+ * <p>
+ * Snapshots are disabled by default and can be enabled using the {@code cloudnet.template.snapshots} system property.
+ *
+ * @since 4.0
+ */
+@Singleton
+public class TemplateSnapshotManager {
+
+  private static final Logger LOGGER = LogManager.logger(TemplateSnapshotManager.class);
+
+  private static final boolean SNAPSHOTS_ENABLED = Boolean.getBoolean("cloudnet.template.snapshots");
+  private static final Path SNAPSHOT_DIRECTORY = FileUtil.TEMP_DIR.resolve("template-snapshots");
+
+  protected final boolean enabled;
+  protected final Path snapshotDirectory;
+  protected final TemplateStorageProvider storageProvider;
+
+  // the name of the snapshot directory currently used for each template combination
+  protected final Map<List<ServiceTemplate>, String> currentSnapshots = new ConcurrentHashMap<>();
+  protected final Map<List<ServiceTemplate>, ReadWriteLock> snapshotLocks = new ConcurrentHashMap<>();
+
+  @Inject
+  public TemplateSnapshotManager(@NonNull TemplateStorageProvider storageProvider) {
+    this(storageProvider, SNAPSHOT_DIRECTORY, SNAPSHOTS_ENABLED);
+  }
+
+  public TemplateSnapshotManager(
+    @NonNull TemplateStorageProvider storageProvider,
+    @NonNull Path snapshotDirectory,
+    boolean enabled
+  ) {
+    this.enabled = enabled;
+    this.snapshotDirectory = snapshotDirectory;
+    this.storageProvider = storageProvider;
+    // remove the snapshots of previous runs, they are not tracked anymore
+    FileUtil.delete(snapshotDirectory);
+  }
+
+  /**
+   * Get if the given templates can be pulled using a snapshot. This is the case if snapshots are enabled, at least two
+   * templates are given and all templates are stored in the local storage.
+   *
+   * @param templates the templates to check.
+   * @return true if the given templates can be pulled using a snapshot, false otherwise.
+   * @throws NullPointerException if the given templates are null.
+   */
+  public boolean supports(@NonNull List<ServiceTemplate> templates) {
+    return this.localStorage(templates) != null;
+  }
+
+  /**
+   * Pulls the merged content of the given templates into the given directory, using a snapshot of the templates if
+   * possible. Snapshots can only be used if they are enabled and all templates are stored in the local storage, in all
+   * other cases this method returns false and the caller must pull the templates one by one.
+   *
+   * @param templates the templates to pull, in the order in which they would be pulled one by one.
+   * @param directory the directory to pull the templates into.
+   * @return true if the templates were pulled from a snapshot, false otherwise.
+   * @throws NullPointerException if the given templates or directory is null.
+   */
+  public boolean pull(@NonNull List<ServiceTemplate> templates, @NonNull Path directory) {
+    var storage = this.localStorage(templates);
+    if (storage == null) {
+      return false;
+    }
+
+    var key = List.copyOf(templates);
+    var snapshotName = this.snapshotName(storage, key);
+    var lock = this.snapshotLocks.computeIfAbsent(key, $ -> new ReentrantReadWriteLock());
+
+    lock.readLock().lock();
+    try {
+      // fast path: the snapshot is up-to-date
+      if (snapshotName.equals(this.currentSnapshots.get(key))) {
+        storage.pullDirectory(this.snapshotDirectory.resolve(snapshotName), directory);
+        return true;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    lock.writeLock().lock();
+    try {
+      // re-check if another thread built the snapshot in the meantime
+      var currentSnapshot = this.currentSnapshots.get(key);
+      if (!snapshotName.equals(currentSnapshot)) {
+        if (!this.buildSnapshot(storage, key, snapshotName)) {
+          return false;
+        }
+
+        // replace the old snapshot, no one is reading from it as we're holding the write lock
+        this.currentSnapshots.put(key, snapshotName);
+        if (currentSnapshot != null) {
+          FileUtil.delete(this.snapshotDirectory.resolve(currentSnapshot));
+        }
+      }
+
+      // downgrade to the read lock to allow other services to use the snapshot while we're copying it
+      lock.readLock().lock();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    try {
+      storage.pullDirectory(this.snapshotDirectory.resolve(snapshotName), directory);
+      return true;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  protected @Nullable LocalTemplateStorage localStorage(@NonNull List<ServiceTemplate> templates) {
+    // a snapshot of a single template is just a copy of the template
+    if (!this.enabled || templates.size() < 2) {
+      return null;
+    }
+
+    // snapshots are only possible if we're able to detect changes to the templates
+    LocalTemplateStorage storage = null;
+    for (var template : templates) {
+      if (!(this.storageProvider.templateStorage(template.storageName()) instanceof LocalTemplateStorage local)) {
+        return null;
+      }
+      storage = local;
+    }
+
+    return storage;
+  }
+
+  protected boolean buildSnapshot(
+    @NonNull LocalTemplateStorage storage,
+    @NonNull List<ServiceTemplate> templates,
+    @NonNull String snapshotName
+  ) {
+    // build the snapshot in a temporary directory first to never expose a partial snapshot
+    var target = this.snapshotDirectory.resolve(snapshotName);
+    var buildDirectory = this.snapshotDirectory.resolve(snapshotName + ".tmp");
+    FileUtil.delete(buildDirectory);
+
+    // pull the templates in order, later templates overwrite the files of previous ones
+    for (var template : templates) {
+      storage.pull(template, buildDirectory);
+    }
+
+    try {
+      FileUtil.delete(target);
+      FileUtil.createDirectory(buildDirectory);
+      Files.move(buildDirectory, target, StandardCopyOption.ATOMIC_MOVE);
+      return true;
+    } catch (IOException exception) {
+      LOGGER.severe("Unable to create snapshot of templates %s", exception, templates);
+      FileUtil.delete(buildDirectory);
+      return false;
+    }
+  }
+
+  protected @NonNull String snapshotName(
+    @NonNull LocalTemplateStorage storage,
+    @NonNull List<ServiceTemplate> templates
+  ) {
+    var hasher = Hashing.sha256().newHasher();
+    for (var template : templates) {
+      hasher.putString(template.toString(), StandardCharsets.UTF_8);
+      this.hashFileMetadata(hasher, storage.getTemplatePath(template), null);
+    }
+
+    return hasher.hash().toString();
+  }
+
+  protected void hashFileMetadata(@NonNull Hasher hasher, @NonNull Path root, @Nullable Path directory) {
+    var current = directory == null ? root : directory;
+    if (Files.notExists(current)) {
+      return;
+    }
+
+    // sort the files to get a stable hash independent of the listing order of the file system
+    List<Path> files;
+    try (var stream = Files.list(current)) {
+      files = stream.sorted().toList();
+    } catch (IOException exception) {
+      // include the failure in the hash, preventing the use of a snapshot which might be outdated
+      hasher.putLong(System.nanoTime());
+      return;
+    }
+
+    for (var file : files) {
+      try {
+        var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        hasher.putString(root.relativize(file).toString(), StandardCharsets.UTF_8);
+        if (attributes.isDirectory()) {
+          this.hashFileMetadata(hasher, root, file);
+        } else {
+          hasher.putLong(attributes.size()).putLong(attributes.lastModifiedTime().toMillis());
+        }
+      } catch (IOException exception) {
+        hasher.putLong(System.nanoTime());
+      }
+    }
+  }
+}
@@ -23,6 +23,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -165,4 +166,21 @@ void testChunkedDataRead() {
     Assertions.assertEquals(expectedReadCounts, readsCalled);
     Assertions.assertTrue(keys.isEmpty());
   }
+
+  @Test
+  void testChunkedDocumentStream() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    var entries = 1235;
+    for (var i = 0; i < entries; i++) {
+      database.insert(UUID.randomUUID().toString(), Document.newJsonDocument().append("index", i));
+    }
+
+    // all documents must be streamed exactly once
+    try (var stream = database.documentStream(50)) {
+      var indexes = stream.map(document -> document.getInt("index")).sorted().toList();
+      Assertions.assertEquals(IntStream.range(0, entries).boxed().toList(), indexes);
+    }
+  }
 }
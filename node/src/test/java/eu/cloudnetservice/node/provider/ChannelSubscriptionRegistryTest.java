@@ -0,0 +1,55 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.provider;
+
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ChannelSubscriptionRegistryTest {
+
+  @Test
+  void testUnsubscribedServicesReceiveEverything() {
+    var registry = new ChannelSubscriptionRegistry();
+
+    Assertions.assertNull(registry.subscriptions("Lobby-1"));
+    Assertions.assertTrue(registry.receives("Lobby-1", "bridge_internal_com_channel"));
+    Assertions.assertTrue(registry.receives("Lobby-1", "some_channel"));
+  }
+
+  @Test
+  void testSubscribedServicesOnlyReceiveSubscribedChannels() {
+    var registry = new ChannelSubscriptionRegistry();
+    registry.updateSubscriptions("Lobby-1", Set.of("cloudnet:internal", "internal_npc_channel"));
+
+    Assertions.assertEquals(Set.of("cloudnet:internal", "internal_npc_channel"), registry.subscriptions("Lobby-1"));
+    Assertions.assertTrue(registry.receives("Lobby-1", "internal_npc_channel"));
+    Assertions.assertFalse(registry.receives("Lobby-1", "internal_sign_channel"));
+    // other services must not be affected by the subscription
+    Assertions.assertTrue(registry.receives("Lobby-2", "internal_sign_channel"));
+
+    // replacing the subscriptions must drop the channels which are no longer subscribed
+    registry.updateSubscriptions("Lobby-1", Set.of("cloudnet:internal", "internal_sign_channel"));
+    Assertions.assertFalse(registry.receives("Lobby-1", "internal_npc_channel"));
+    Assertions.assertTrue(registry.receives("Lobby-1", "internal_sign_channel"));
+
+    // removing the subscriptions must allow the service to receive everything again
+    registry.updateSubscriptions("Lobby-1", null);
+    Assertions.assertNull(registry.subscriptions("Lobby-1"));
+    Assertions.assertTrue(registry.receives("Lobby-1", "internal_npc_channel"));
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.provider;
+
+import eu.cloudnetservice.driver.DriverEnvironment;
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.channel.ChannelMessageSender;
+import eu.cloudnetservice.driver.channel.ChannelMessageTarget;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.service.ServiceId;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.node.cluster.NodeServer;
+import eu.cloudnetservice.node.cluster.NodeServerProvider;
+import eu.cloudnetservice.node.service.CloudService;
+import eu.cloudnetservice.node.service.CloudServiceManager;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class NodeMessengerTest {
+
+  private final NetworkChannel localServiceChannel = Mockito.mock(NetworkChannel.class);
+  private final NetworkChannel secondNodeChannel = Mockito.mock(NetworkChannel.class);
+  private final NetworkChannel thirdNodeChannel = Mockito.mock(NetworkChannel.class);
+
+  private NodeMessenger messenger;
+
+  @BeforeEach
+  void setupMessenger() {
+    var serviceManager = Mockito.mock(CloudServiceManager.class);
+    var nodeServerProvider = Mockito.mock(NodeServerProvider.class);
+
+    // Lobby-1 is running on this node
+    var localService = Mockito.mock(CloudService.class);
+    Mockito.when(localService.networkChannel()).thenReturn(this.localServiceChannel);
+    Mockito.when(serviceManager.localCloudService("Lobby-1")).thenReturn(localService);
+
+    // Lobby-2 and Lobby-3 are both running on Node-2
+    this.mockRemoteService(serviceManager, "Lobby-2", "Node-2");
+    this.mockRemoteService(serviceManager, "Lobby-3", "Node-2");
+
+    this.mockNodeServer(nodeServerProvider, "Node-2", this.secondNodeChannel);
+    this.mockNodeServer(nodeServerProvider, "Node-3", this.thirdNodeChannel);
+    Mockito.when(nodeServerProvider.connectedNodeChannels())
+      .thenReturn(List.of(this.secondNodeChannel, this.thirdNodeChannel));
+
+    this.messenger = new NodeMessenger(nodeServerProvider, serviceManager, new ChannelSubscriptionRegistry());
+  }
+
+  @Test
+  void testSingleTargetIsRoutedUnchanged() {
+    var message = this.message(ChannelMessageTarget.of(ChannelMessageTarget.Type.SERVICE, "Lobby-2"));
+    var routes = this.messenger.routeMessage(message, true);
+
+    Assertions.assertEquals(1, routes.size());
+    Assertions.assertEquals(Set.of(this.secondNodeChannel), routes.get(message.targets()));
+  }
+
+  @Test
+  void testTargetsOnTheSameNodeAreRoutedInOnePacket() {
+    var lobby1 = ChannelMessageTarget.of(ChannelMessageTarget.Type.SERVICE, "Lobby-1");
+    var lobby2 = ChannelMessageTarget.of(ChannelMessageTarget.Type.SERVICE, "Lobby-2");
+    var lobby3 = ChannelMessageTarget.of(ChannelMessageTarget.Type.SERVICE, "Lobby-3");
+    var node3 = ChannelMessageTarget.of(ChannelMessageTarget.Type.NODE, "Node-3");
+
+    var message = this.message(lobby1, lobby2, lobby3, node3);
+    var routes = this.messenger.routeMessage(message, true);
+
+    // each channel must only receive a single packet
+    Assertions.assertEquals(3, routes.size());
+    Assertions.assertEquals(3, routes.values().stream().mapToInt(Set::size).sum());
+
+    // local services receive the message with all targets
+    Assertions.assertEquals(Set.of(this.localServiceChannel), routes.get(message.targets()));
+    // the other nodes only receive the targets which resolved to them
+    Assertions.assertEquals(Set.of(this.secondNodeChannel), routes.get(List.of(lobby2, lobby3)));
+    Assertions.assertEquals(Set.of(this.thirdNodeChannel), routes.get(List.of(node3)));
+  }
+
+  @Test
+  void testNodesWithTheSameTargetsShareTheirRoute() {
+    var lobby1 = ChannelMessageTarget.of(ChannelMessageTarget.Type.SERVICE, "Lobby-1");
+    var allNodes = ChannelMessageTarget.of(ChannelMessageTarget.Type.NODE, null);
+
+    var message = this.message(lobby1, allNodes);
+    var routes = this.messenger.routeMessage(message, true);
+
+    Assertions.assertEquals(2, routes.size());
+    Assertions.assertEquals(Set.of(this.localServiceChannel), routes.get(message.targets()));
+    Assertions.assertEquals(Set.of(this.secondNodeChannel, this.thirdNodeChannel), routes.get(List.of(allNodes)));
+  }
+
+  @Test
+  void testRemoteTargetsAreIgnoredWithoutClusterRedirect() {
+    var lobby1 = ChannelMessageTarget.of(ChannelMessageTarget.Type.SERVICE, "Lobby-1");
+    var lobby2 = ChannelMessageTarget.of(ChannelMessageTarget.Type.SERVICE, "Lobby-2");
+    var node3 = ChannelMessageTarget.of(ChannelMessageTarget.Type.NODE, "Node-3");
+
+    var message = this.message(lobby1, lobby2, node3);
+    var routes = this.messenger.routeMessage(message, false);
+
+    Assertions.assertEquals(1, routes.size());
+    Assertions.assertEquals(Set.of(this.localServiceChannel), routes.get(message.targets()));
+  }
+
+  private void mockRemoteService(CloudServiceManager serviceManager, String serviceName, String nodeUniqueId) {
+    var serviceId = Mockito.mock(ServiceId.class);
+    Mockito.when(serviceId.nodeUniqueId()).thenReturn(nodeUniqueId);
+
+    var snapshot = Mockito.mock(ServiceInfoSnapshot.class);
+    Mockito.when(snapshot.serviceId()).thenReturn(serviceId);
+    Mockito.when(serviceManager.serviceByName(serviceName)).thenReturn(snapshot);
+  }
+
+  private void mockNodeServer(NodeServerProvider nodeServerProvider, String uniqueId, NetworkChannel channel) {
+    var server = Mockito.mock(NodeServer.class);
+    Mockito.when(server.channel()).thenReturn(channel);
+    Mockito.when(nodeServerProvider.node(uniqueId)).thenReturn(server);
+  }
+
+  private ChannelMessage message(ChannelMessageTarget... targets) {
+    Collection<ChannelMessageTarget> targetList = List.of(targets);
+    return new ChannelMessage(
+      false,
+      false,
+      "test_channel",
+      "test_message",
+      Mockito.mock(DataBuf.class),
+      ChannelMessageSender.of("Node-1", DriverEnvironment.NODE),
+      targetList,
+      false);
+  }
+}
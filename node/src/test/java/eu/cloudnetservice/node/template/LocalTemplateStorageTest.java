@@ -19,9 +19,14 @@
 import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
 import eu.cloudnetservice.driver.template.FileInfo;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -183,6 +188,81 @@ void testTemplateListing() {
     Assertions.assertEquals(TEMPLATE, templates.iterator().next());
   }
 
+  @Test
+  @Order(105)
+  void testPullLinksImmutableFiles() throws IOException {
+    Assertions.assertTrue(storage.createFile(TEMPLATE, "plugins/plugin.jar"));
+
+    var target = HOME_PATH.resolve("pull_target");
+    var linkingStorage = new LocalTemplateStorage(HOME_PATH, true);
+    Assertions.assertTrue(linkingStorage.pull(TEMPLATE, target));
+
+    // jars are shared with the template, all other files must be copied
+    var templatePath = linkingStorage.getTemplatePath(TEMPLATE);
+    Assertions.assertTrue(Files.isSameFile(
+      templatePath.resolve("plugins/plugin.jar"),
+      target.resolve("plugins/plugin.jar")));
+    Assertions.assertFalse(Files.isSameFile(templatePath.resolve("test.txt"), target.resolve("test.txt")));
+
+    // modifying the copied file must not affect the template
+    Files.writeString(target.resolve("test.txt"), "Modified");
+    Assertions.assertEquals("HelloWorld", Files.readString(templatePath.resolve("test.txt")));
+
+    Assertions.assertTrue(storage.deleteFile(TEMPLATE, "plugins/plugin.jar"));
+    FileUtil.delete(target);
+  }
+
+  @Test
+  @Order(106)
+  void testTemplateWritesReplaceLinkedFiles() throws IOException {
+    var linkingStorage = new LocalTemplateStorage(HOME_PATH, true);
+    try (var out = linkingStorage.newOutputStream(TEMPLATE, "plugins/plugin.jar")) {
+      Assertions.assertNotNull(out);
+      out.write("v1".getBytes(StandardCharsets.UTF_8));
+    }
+
+    var target = HOME_PATH.resolve("pull_target");
+    Assertions.assertTrue(linkingStorage.pull(TEMPLATE, target));
+
+    var templateJar = linkingStorage.getTemplatePath(TEMPLATE).resolve("plugins/plugin.jar");
+    var serviceJar = target.resolve("plugins/plugin.jar");
+    Assertions.assertTrue(Files.isSameFile(templateJar, serviceJar));
+
+    // overwriting the jar in the template must not change the linked service file
+    try (var out = linkingStorage.newOutputStream(TEMPLATE, "plugins/plugin.jar")) {
+      Assertions.assertNotNull(out);
+      out.write("v2".getBytes(StandardCharsets.UTF_8));
+    }
+    Assertions.assertEquals("v2", Files.readString(templateJar));
+    Assertions.assertEquals("v1", Files.readString(serviceJar));
+
+    // link the new jar again and check appending to it
+    FileUtil.delete(target);
+    Assertions.assertTrue(linkingStorage.pull(TEMPLATE, target));
+    try (var out = linkingStorage.appendOutputStream(TEMPLATE, "plugins/plugin.jar")) {
+      Assertions.assertNotNull(out);
+      out.write("-patch".getBytes(StandardCharsets.UTF_8));
+    }
+    Assertions.assertEquals("v2-patch", Files.readString(templateJar));
+    Assertions.assertEquals("v2", Files.readString(serviceJar));
+
+    // link the new jar again and check deploying a zip containing it
+    FileUtil.delete(target);
+    Assertions.assertTrue(linkingStorage.pull(TEMPLATE, target));
+    var zipContent = new ByteArrayOutputStream();
+    try (var zip = new ZipOutputStream(zipContent)) {
+      zip.putNextEntry(new ZipEntry("plugins/plugin.jar"));
+      zip.write("v3".getBytes(StandardCharsets.UTF_8));
+      zip.closeEntry();
+    }
+    Assertions.assertTrue(linkingStorage.deploy(TEMPLATE, new ByteArrayInputStream(zipContent.toByteArray())));
+    Assertions.assertEquals("v3", Files.readString(templateJar));
+    Assertions.assertEquals("v2-patch", Files.readString(serviceJar));
+
+    Assertions.assertTrue(storage.deleteFile(TEMPLATE, "plugins/plugin.jar"));
+    FileUtil.delete(target);
+  }
+
   @Test
   @Order(110)
   void testTemplateDelete() {
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.template.TemplateStorage;
+import eu.cloudnetservice.driver.template.TemplateStorageProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class TemplateSnapshotManagerTest {
+
+  private static final Path HOME_PATH = Path.of("build", "tmp", "template_snapshots");
+  private static final Path STORAGE_PATH = HOME_PATH.resolve("templates");
+  private static final Path SNAPSHOT_PATH = HOME_PATH.resolve("snapshots");
+
+  private static final ServiceTemplate GLOBAL = ServiceTemplate.builder()
+    .prefix("global")
+    .name("server")
+    .storage("local")
+    .build();
+  private static final ServiceTemplate LOBBY = ServiceTemplate.builder()
+    .prefix("Lobby")
+    .name("default")
+    .storage("local")
+    .build();
+  private static final ServiceTemplate REMOTE = ServiceTemplate.builder()
+    .prefix("Lobby")
+    .name("remote")
+    .storage("remote")
+    .build();
+  private static final List<ServiceTemplate> TEMPLATES = List.of(GLOBAL, LOBBY);
+
+  private TemplateStorageProvider storageProvider;
+
+  @BeforeEach
+  void setupTemplates() throws IOException {
+    var storage = new LocalTemplateStorage(STORAGE_PATH);
+    this.storageProvider = Mockito.mock(TemplateStorageProvider.class);
+    Mockito.when(this.storageProvider.templateStorage("local")).thenReturn(storage);
+    Mockito.when(this.storageProvider.templateStorage("remote")).thenReturn(Mockito.mock(TemplateStorage.class));
+
+    this.writeTemplateFile(GLOBAL, "server.properties", "global");
+    this.writeTemplateFile(GLOBAL, "plugins/global.jar", "global");
+    this.writeTemplateFile(LOBBY, "server.properties", "lobby");
+  }
+
+  @AfterEach
+  void deleteTemplates() {
+    FileUtil.delete(HOME_PATH);
+  }
+
+  @Test
+  void testSnapshotsAreOnlyUsedForMultipleLocalTemplates() {
+    var disabledManager = new TemplateSnapshotManager(this.storageProvider, SNAPSHOT_PATH, false);
+    Assertions.assertFalse(disabledManager.supports(TEMPLATES));
+    Assertions.assertFalse(disabledManager.pull(TEMPLATES, HOME_PATH.resolve("service")));
+
+    var manager = new TemplateSnapshotManager(this.storageProvider, SNAPSHOT_PATH, true);
+    Assertions.assertTrue(manager.supports(TEMPLATES));
+    Assertions.assertFalse(manager.supports(List.of(GLOBAL)));
+    // changes to remote templates can't be detected, these templates must be pulled one by one
+    Assertions.assertFalse(manager.supports(List.of(GLOBAL, REMOTE)));
+    Assertions.assertFalse(manager.pull(List.of(GLOBAL, REMOTE), HOME_PATH.resolve("service")));
+    Assertions.assertTrue(Files.notExists(HOME_PATH.resolve("service")));
+  }
+
+  @Test
+  void testSnapshotIsReusedWhileTemplatesAreUnchanged() throws IOException {
+    var manager = new TemplateSnapshotManager(this.storageProvider, SNAPSHOT_PATH, true);
+
+    var firstService = HOME_PATH.resolve("service-1");
+    Assertions.assertTrue(manager.pull(TEMPLATES, firstService));
+    var snapshotName = manager.currentSnapshots.get(TEMPLATES);
+    Assertions.assertNotNull(snapshotName);
+
+    // later templates overwrite the files of previous templates
+    Assertions.assertEquals("lobby", Files.readString(firstService.resolve("server.properties")));
+    Assertions.assertEquals("global", Files.readString(firstService.resolve("plugins/global.jar")));
+
+    var secondService = HOME_PATH.resolve("service-2");
+    Assertions.assertTrue(manager.pull(TEMPLATES, secondService));
+    Assertions.assertEquals(snapshotName, manager.currentSnapshots.get(TEMPLATES));
+    Assertions.assertEquals(List.of(SNAPSHOT_PATH.resolve(snapshotName)), this.listSnapshots());
+    Assertions.assertEquals("lobby", Files.readString(secondService.resolve("server.properties")));
+  }
+
+  @Test
+  void testSnapshotIsRebuiltAfterTemplateChange() throws IOException {
+    var manager = new TemplateSnapshotManager(this.storageProvider, SNAPSHOT_PATH, true);
+    Assertions.assertTrue(manager.pull(TEMPLATES, HOME_PATH.resolve("service-1")));
+    var oldSnapshotName = manager.currentSnapshots.get(TEMPLATES);
+
+    this.writeTemplateFile(GLOBAL, "plugins/global.jar", "updated global");
+
+    var service = HOME_PATH.resolve("service-2");
+    Assertions.assertTrue(manager.pull(TEMPLATES, service));
+    var newSnapshotName = manager.currentSnapshots.get(TEMPLATES);
+    Assertions.assertNotEquals(oldSnapshotName, newSnapshotName);
+    Assertions.assertEquals("updated global", Files.readString(service.resolve("plugins/global.jar")));
+
+    // the old snapshot must be deleted once it was replaced
+    Assertions.assertTrue(Files.notExists(SNAPSHOT_PATH.resolve(oldSnapshotName)));
+    Assertions.assertEquals(List.of(SNAPSHOT_PATH.resolve(newSnapshotName)), this.listSnapshots());
+  }
+
+  private void writeTemplateFile(ServiceTemplate template, String path, String content) throws IOException {
+    var file = STORAGE_PATH.resolve(template.prefix()).resolve(template.name()).resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, content);
+  }
+
+  private List<Path> listSnapshots() throws IOException {
+    try (var stream = Files.list(SNAPSHOT_PATH)) {
+      return stream.toList();
+    }
+  }
+}
@@ -31,7 +31,9 @@
 import eu.cloudnetservice.driver.network.chunk.defaults.factory.EventChunkHandlerFactory;
 import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacketListener;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.rpc.listener.RPCStreamPacketListener;
 import eu.cloudnetservice.driver.permission.PermissionManagement;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
 import eu.cloudnetservice.wrapper.event.ApplicationPostStartEvent;
 import eu.cloudnetservice.wrapper.event.ApplicationPreStartEvent;
@@ -43,6 +45,7 @@
 import eu.cloudnetservice.wrapper.network.listener.message.GroupChannelMessageListener;
 import eu.cloudnetservice.wrapper.network.listener.message.ServiceChannelMessageListener;
 import eu.cloudnetservice.wrapper.network.listener.message.TaskChannelMessageListener;
+import eu.cloudnetservice.wrapper.provider.WrapperMessenger;
 import eu.cloudnetservice.wrapper.transform.TransformerRegistry;
 import eu.cloudnetservice.wrapper.transform.bukkit.BukkitCommodoreTransformer;
 import eu.cloudnetservice.wrapper.transform.bukkit.BukkitJavaVersionCheckTransformer;
@@ -60,6 +63,7 @@
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 import java.util.jar.JarFile;
@@ -111,12 +115,30 @@ private void initProviderAndLoadModules(
     moduleProvider.loadAll().startAll();
   }
 
+  private @NonNull CompletableFuture<Void> connectToNodeListener(
+    @NonNull NetworkClient networkClient,
+    @NonNull WrapperConfiguration configuration
+  ) {
+    // prefer the domain socket of the node if given, falling back to the tcp listener if the connection fails
+    var domainSocketListener = configuration.domainSocketListener();
+    if (domainSocketListener != null) {
+      return networkClient.connect(domainSocketListener)
+        .exceptionallyCompose(ex -> {
+          LOGGER.fine("Unable to connect to the node domain socket, falling back to tcp", ex);
+          return networkClient.connect(configuration.targetListener());
+        });
+    }
+
+    return networkClient.connect(configuration.targetListener());
+  }
+
   @Inject
   @Order(200)
   private void connectToNode(
     @NonNull EventManager eventManager,
     @NonNull NetworkClient networkClient,
     @NonNull WrapperConfiguration configuration,
+    @NonNull CloudMessenger messenger,
     @NonNull ServiceInfoHolder serviceInfoHolder
   ) {
     // create a new condition and the auth listener
@@ -125,8 +147,7 @@ private void connectToNode(
 
     // register the listener to the packet registry and connect to the target listener
     networkClient.packetRegistry().addListener(NetworkConstants.INTERNAL_AUTHORIZATION_CHANNEL, listener);
-    networkClient
-      .connect(configuration.targetListener())
+    this.connectToNodeListener(networkClient, configuration)
       .exceptionally(ex -> {
         // log and exit, we're not connected
         LOGGER.severe("Unable to establish a connection to the target node listener", ex);
@@ -154,6 +175,14 @@ private void connectToNode(
     networkClient.packetRegistry().addListener(
       NetworkConstants.CHANNEL_MESSAGING_CHANNEL,
       PacketServerChannelMessageListener.class);
+    networkClient.packetRegistry().addListener(
+      NetworkConstants.INTERNAL_RPC_STREAM_CHANNEL,
+      RPCStreamPacketListener.class);
+
+    // announce the channels the modules subscribed to
+    if (messenger instanceof WrapperMessenger wrapperMessenger) {
+      wrapperMessenger.publishChannelSubscriptions();
+    }
   }
 
   @Inject
@@ -24,10 +24,12 @@
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import java.nio.file.Path;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 public record DocumentWrapperConfiguration(
   @NonNull String connectionKey,
   @NonNull HostAndPort targetListener,
+  @Nullable HostAndPort domainSocketListener,
   @NonNull SSLConfiguration sslConfiguration,
   @NonNull ServiceInfoSnapshot serviceInfoSnapshot,
   @NonNull ServiceConfiguration serviceConfiguration) implements WrapperConfiguration {
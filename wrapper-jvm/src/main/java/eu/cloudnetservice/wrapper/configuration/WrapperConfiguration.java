@@ -22,6 +22,7 @@
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents the configuration which is passed from a node instance to the wrapper in form of a file before starting.
@@ -46,6 +47,15 @@ public interface WrapperConfiguration {
    */
   @NonNull HostAndPort targetListener();
 
+  /**
+   * Get the address of the unix domain socket listener of the node this wrapper should prefer to connect to, as the
+   * service runs on the same host as the node. If the connection to the domain socket fails, the wrapper falls back to
+   * the target listener.
+   *
+   * @return the domain socket listener of the associated node, null if the node has no domain socket listener.
+   */
+  @Nullable HostAndPort domainSocketListener();
+
   /**
    * Get the service configuration which was used to create the service associated with this wrapper instance.
    *
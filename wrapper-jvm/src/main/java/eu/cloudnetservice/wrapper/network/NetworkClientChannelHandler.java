@@ -26,6 +26,7 @@
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.PacketClientAuthorization;
 import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.defaults.stream.RPCStreamSessions;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
 import jakarta.inject.Inject;
 import lombok.NonNull;
@@ -58,11 +59,17 @@ public void handleChannelInitialize(@NonNull NetworkChannel channel) {
 
   @Override
   public boolean handlePacketReceive(@NonNull NetworkChannel channel, @NonNull Packet packet) {
+    // skip the event construction if no one is listening to it
+    if (!this.eventManager.hasListeners(NetworkChannelPacketReceiveEvent.class)) {
+      return true;
+    }
     return !this.eventManager.callEvent(new NetworkChannelPacketReceiveEvent(channel, packet)).cancelled();
   }
 
   @Override
   public void handleChannelClose(@NonNull NetworkChannel channel) {
     this.eventManager.callEvent(new NetworkChannelCloseEvent(channel, ChannelType.CLIENT_CHANNEL));
+    // no more chunks can be transferred for the rpc streams of the channel
+    RPCStreamSessions.closeSessions(channel);
   }
 }
@@ -16,32 +16,50 @@
 
 package eu.cloudnetservice.wrapper.provider;
 
+import com.google.common.collect.Iterables;
 import dev.derklaro.aerogel.auto.Provides;
+import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.channel.ChannelMessageQueryMode;
 import eu.cloudnetservice.driver.network.NetworkClient;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.def.PacketServerChannelMessage;
 import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.defaults.DefaultMessenger;
+import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
 import io.leangen.geantyref.TypeFactory;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 @Singleton
 @Provides(CloudMessenger.class)
 public class WrapperMessenger extends DefaultMessenger implements CloudMessenger {
 
   private static final Type MESSAGES = TypeFactory.parameterizedClass(Collection.class, ChannelMessage.class);
+  // if enabled, this service only receives broadcast channel messages sent to channels it subscribed to
+  private static final boolean RESTRICT_SUBSCRIPTIONS = Boolean.getBoolean(
+    "cloudnet.wrapper.restrict-channel-subscriptions");
 
   private final NetworkClient networkClient;
+  private final WrapperConfiguration wrapperConfiguration;
+  private final Set<String> subscribedChannels = ConcurrentHashMap.newKeySet();
 
   @Inject
-  public WrapperMessenger(@NonNull NetworkClient networkClient) {
+  public WrapperMessenger(@NonNull NetworkClient networkClient, @NonNull WrapperConfiguration wrapperConfiguration) {
     this.networkClient = networkClient;
+    this.wrapperConfiguration = wrapperConfiguration;
+    // the wrapper itself listens to the internal channel
+    this.subscribedChannels.add(NetworkConstants.INTERNAL_MSG_CHANNEL);
   }
 
   @Override
@@ -55,12 +73,59 @@ public void sendChannelMessage(@NonNull ChannelMessage channelMessage) {
 
   @Override
   public @NonNull Collection<ChannelMessage> sendChannelMessageQuery(@NonNull ChannelMessage channelMessage) {
-    Collection<ChannelMessage> response = this.networkClient.firstChannel()
+    return this.sendChannelMessageQueryAsync(channelMessage, ChannelMessageQueryMode.all()).join();
+  }
+
+  @Override
+  public @NonNull Task<Collection<ChannelMessage>> sendChannelMessageQueryAsync(@NonNull ChannelMessage message) {
+    return this.sendChannelMessageQueryAsync(message, ChannelMessageQueryMode.all());
+  }
+
+  @Override
+  public @NonNull Task<Collection<ChannelMessage>> sendChannelMessageQueryAsync(
+    @NonNull ChannelMessage message,
+    @NonNull ChannelMessageQueryMode queryMode
+  ) {
+    // the node completes the query as requested by the mode, the responses are received in one batch afterwards
+    var content = PacketServerChannelMessage.encodeMessage(message, true).writeInt(queryMode.requiredResponses());
+    var query = this.networkClient.firstChannel()
       .queryPacketManager()
-      .sendQueryPacket(new PacketServerChannelMessage(channelMessage, true))
-      .join()
-      .content()
-      .readObject(MESSAGES);
-    return Objects.requireNonNullElse(response, List.of());
+      .sendQueryPacket(new PacketServerChannelMessage(message.prioritized(), message.bulk(), content))
+      .thenApply(packet -> {
+        Collection<ChannelMessage> responses = packet.content().readObject(MESSAGES);
+        responses = Objects.requireNonNullElse(responses, List.of());
+        // pass the responses to the handler of the mode, handler exceptions must not fail the query
+        responses.forEach(queryMode::handleResponse);
+        return responses;
+      });
+    return Task.wrapFuture(query);
+  }
+
+  @Override
+  public @Nullable ChannelMessage sendSingleChannelMessageQuery(@NonNull ChannelMessage channelMessage) {
+    var responses = this.sendChannelMessageQueryAsync(channelMessage, ChannelMessageQueryMode.firstResponse()).join();
+    return Iterables.getFirst(responses, null);
+  }
+
+  @Override
+  public void subscribeChannels(String @NonNull ... channels) {
+    if (this.subscribedChannels.addAll(Arrays.asList(channels))) {
+      this.publishChannelSubscriptions();
+    }
+  }
+
+  public void publishChannelSubscriptions() {
+    // only announce the subscriptions if requested, and we're connected to the node
+    if (RESTRICT_SUBSCRIPTIONS && !this.networkClient.channels().isEmpty()) {
+      ChannelMessage.builder()
+        .targetNodes()
+        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+        .message("update_channel_subscriptions")
+        .buffer(DataBuf.empty()
+          .writeString(this.wrapperConfiguration.serviceConfiguration().serviceId().name())
+          .writeObject(Set.copyOf(this.subscribedChannels)))
+        .build()
+        .send();
+    }
   }
 }